@@ -19,6 +19,9 @@ public interface ApplicationRepository extends JpaRepository<Application,Long> {
 
     boolean existsByStudyIdAndUser(Long studyId, User user);
 
+    // 모집 인원에 포함되는 신청서 수 (거절된 신청서 제외)
+    long countByStudyIdAndApprovalStatusEnumNot(Long studyId, String approvalStatusEnum);
+
     Optional<Application> findByIdAndStudyId(Long ApplicationId,Long StudyId);
 //    List<Application> findByUser(User user); // 신청서 조회 JPA
 }
@@ -25,6 +25,7 @@ public class ApplicationCompanyService {
     private final ApplicationRepository applicationRepository;
     private final GetStudyService getStudyService;
     private final StudyService studyService;
+    private final ApplicationSeatReservation applicationSeatReservation;
 
     // 기업의 신청서 조회
     @Transactional
@@ -51,9 +52,18 @@ public class ApplicationCompanyService {
             Application application = applicationRepository.findByIdAndStudyId(applicationId,studyId).orElseThrow(
                 ()->new GlobalException(GlobalErrorCode.APPLICATION_NOT_FOUND));
 
+            boolean rejected = ApprovalStatusEnum.REJECTED.toString().equals(application.getApprovalStatusEnum());
             if(statusRequestDto.getApprovalStatus().equals("승인")) {
+                // 거절했던 신청서를 다시 승인하면 좌석을 다시 잡는다 (마감이면 STUDY_FULL)
+                if(rejected){
+                    applicationSeatReservation.reserve(studyId);
+                }
                 application.statusUpdate(ApprovalStatusEnum.APPROVED.toString());
             } else if(statusRequestDto.getApprovalStatus().equals("거절")) {
+                // 거절하면 좌석 반환
+                if(!rejected){
+                    applicationSeatReservation.release(studyId);
+                }
                 application.statusUpdate(ApprovalStatusEnum.REJECTED.toString());
             }
         } else {
@@ -0,0 +1,131 @@
+package com.example.lablink.domain.application.service;
+
+import com.example.lablink.domain.application.entity.ApprovalStatusEnum;
+import com.example.lablink.domain.application.repository.ApplicationRepository;
+import com.example.lablink.domain.study.service.GetStudyService;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import com.example.lablink.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+// 모집 인원 제한 (Study.maxApplicants) 좌석 예약
+// 공고별 Redis HASH (study:seat:{id} -> max, taken) 에서 Lua 스크립트로 확인 + 증가를 한 번에 처리하므로
+// 지원이 몰려도 공고 행을 잠그지 않고 마감 여부를 바로 판단한다
+//  - max  : 최대 지원자 수 (-1 이면 제한 없음, DB 를 다시 보지 않도록 같이 저장)
+//  - taken : 거절되지 않은 신청서 수 + 아직 커밋되지 않은 예약 (제한이 없어도 센다)
+// 기준은 DB : 키가 없으면 공고와 신청서 수로 다시 만들고, 마지막 예약 후 SEAT_TTL 이 지나면 만료되어 DB 값으로 맞춰진다
+// 모집 인원을 바꿀 때는 키를 지우지 않고 max 만 바꾼다 (DB 로 다시 세면 커밋 전 예약이 빠져서 초과 모집될 수 있다)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationSeatReservation {
+    private static final String KEY_PREFIX = "study:seat:";
+    private static final Duration SEAT_TTL = Duration.ofDays(1);
+    private static final String UNLIMITED = "-1";
+
+    // 1 : 예약 성공, 0 : 마감, -1 : 키 없음 (DB 에서 읽어서 만든 뒤 다시 시도)
+    private static final RedisScript<Long> RESERVE = new DefaultRedisScript<>(
+            "local max = redis.call('HGET', KEYS[1], 'max')\n" +
+            "if not max then return -1 end\n" +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1])\n" +
+            "local taken = tonumber(redis.call('HGET', KEYS[1], 'taken') or '0')\n" +
+            "if max ~= '" + UNLIMITED + "' and taken >= tonumber(max) then return 0 end\n" +
+            "redis.call('HINCRBY', KEYS[1], 'taken', 1)\n" +
+            "return 1", Long.class);
+
+    // 키가 없으면 키가 만료된 사이 다른 요청이 먼저 만들었을 수 있으므로 없을 때만 생성
+    private static final RedisScript<Long> LOAD = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end\n" +
+            "redis.call('HSET', KEYS[1], 'max', ARGV[1], 'taken', ARGV[2])\n" +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3])\n" +
+            "return 1", Long.class);
+
+    // 키가 있을 때만 max 변경 (taken 은 그대로, 키가 없으면 다음 예약 때 DB 에서 새 값으로 만든다)
+    private static final RedisScript<Long> CHANGE_MAX = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end\n" +
+            "redis.call('HSET', KEYS[1], 'max', ARGV[1])\n" +
+            "return 1", Long.class);
+
+    // 0 아래로 내려가지 않도록 (키가 없으면 다음 예약 때 DB 에서 다시 센다)
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "local taken = tonumber(redis.call('HGET', KEYS[1], 'taken') or '0')\n" +
+            "if taken <= 0 then return 0 end\n" +
+            "return redis.call('HINCRBY', KEYS[1], 'taken', -1)", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final GetStudyService getStudyService;
+    private final ApplicationRepository applicationRepository;
+
+    // 신청서 작성 전에 호출 : 마감이면 STUDY_FULL
+    // 신청서 저장이 롤백되면 예약한 좌석을 돌려준다
+    public void reserve(Long studyId) {
+        List<String> keys = List.of(key(studyId));
+        String ttl = String.valueOf(SEAT_TTL.getSeconds());
+        Long result = stringRedisTemplate.execute(RESERVE, keys, ttl);
+        if (result != null && result == -1) {
+            load(studyId);
+            result = stringRedisTemplate.execute(RESERVE, keys, ttl);
+        }
+        if (result == null || result == 0) {
+            throw new GlobalException(GlobalErrorCode.STUDY_FULL);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        releaseNow(studyId);
+                    }
+                }
+            });
+        }
+    }
+
+    // 신청서 삭제, 거절 시 호출 (커밋 후 반환)
+    public void release(Long studyId) {
+        AfterCommit.run(() -> releaseNow(studyId));
+    }
+
+    // 모집 인원 변경 시 호출 (커밋 후 반영, maxApplicants 가 null 이면 제한 없음)
+    public void changeMax(Long studyId, Integer maxApplicants) {
+        AfterCommit.run(() -> stringRedisTemplate.execute(CHANGE_MAX, List.of(key(studyId)), max(maxApplicants)));
+    }
+
+    // 공고 삭제 시 호출 (커밋 후 삭제)
+    public void evict(Long studyId) {
+        AfterCommit.run(() -> stringRedisTemplate.delete(key(studyId)));
+    }
+
+    private void load(Long studyId) {
+        Integer maxApplicants = getStudyService.getStudy(studyId).getMaxApplicants();
+        long taken = applicationRepository.countByStudyIdAndApprovalStatusEnumNot(studyId, ApprovalStatusEnum.REJECTED.toString());
+        stringRedisTemplate.execute(LOAD, List.of(key(studyId)), max(maxApplicants), String.valueOf(taken), String.valueOf(SEAT_TTL.getSeconds()));
+    }
+
+    private static String max(Integer maxApplicants) {
+        return maxApplicants == null ? UNLIMITED : String.valueOf(maxApplicants);
+    }
+
+    // 이미 커밋/롤백된 뒤라 예외를 던지지 않는다 (어긋난 값은 키가 만료되면 DB 기준으로 맞춰진다)
+    private void releaseNow(Long studyId) {
+        try {
+            stringRedisTemplate.execute(RELEASE, List.of(key(studyId)));
+        } catch (Exception e) {
+            log.warn("공고 좌석 반환 실패 : studyId={}, {}", studyId, e.getMessage());
+        }
+    }
+
+    private static String key(Long studyId) {
+        return KEY_PREFIX + studyId;
+    }
+}
@@ -7,8 +7,12 @@ import com.example.lablink.domain.application.entity.ApplicationViewStatusEnum;
 import com.example.lablink.domain.application.entity.ApprovalStatusEnum;
 import com.example.lablink.domain.application.repository.ApplicationRepository;
 import com.example.lablink.domain.user.security.UserDetailsImpl;
+import com.example.lablink.domain.study.dto.StudyCursor;
 import com.example.lablink.domain.study.entity.Study;
 import com.example.lablink.domain.study.service.GetStudyService;
+import com.example.lablink.domain.study.service.StudyIndexSynchronizer;
+import com.example.lablink.domain.study.service.StudyListCacheInvalidator;
+import com.example.lablink.domain.study.service.StudySortIndex;
 import com.example.lablink.domain.user.entity.User;
 import com.example.lablink.domain.user.service.UserService;
 import com.example.lablink.global.exception.GlobalErrorCode;
@@ -26,13 +30,16 @@ public class ApplicationService {
     private final ApplicationRepository applicationRepository;
     private final UserService userService;
     private final GetStudyService getStudyService;
+    private final StudyListCacheInvalidator studyListCacheInvalidator;
+    private final StudySortIndex studySortIndex;
+    private final StudyIndexSynchronizer studyIndexSynchronizer;
+    private final ApplicationSeatReservation applicationSeatReservation;
 
 //    신청서 작성
     @Transactional
     public void addApplication(UserDetailsImpl userDetails, Long studyId, ApplicationRequestDto applicationRequestDto) {
-        // studyid들고와서 currentApplicantCount +1 해주기
-        Study study = getStudyService.getStudy(studyId);
-        study.updateCurrentApplicantCount();
+        // 모집 인원이 찼으면 DB 를 거치지 않고 바로 거절 (롤백되면 좌석 반환)
+        applicationSeatReservation.reserve(studyId);
         User user = userService.getUser(userDetails);
 
         // 신청서 작성시 회원가입에서 받지 않은 user정보 업데이트
@@ -56,6 +63,17 @@ public class ApplicationService {
         );
 
         applicationRepository.save(application);
+
+        // done : currentApplicantCount +1 -> 공고를 읽지 않고 UPDATE ... SET c = c + 1 (동시 지원 시 유실 방지)
+        // 공고 행 잠금을 커밋 직전까지만 잡도록 트랜잭션 마지막에 실행
+        getStudyService.incrementApplicantCount(studyId);
+        // 지원자 수는 목록에 보이지 않고 인기순 정렬에만 영향
+        studySortIndex.incrementApplicantCount(studyId);
+        // 자동완성은 지원자가 많은 공고 제목을 먼저 보여준다
+        studyIndexSynchronizer.applicantAdded(studyId);
+        studyListCacheInvalidator.invalidateOrder(StudyCursor.POPULARITY);
+        // 상세에는 지원자 수가 보인다
+        studyListCacheInvalidator.invalidateDetail(studyId);
     }
 
     //신청서 수정
@@ -82,6 +100,10 @@ public class ApplicationService {
           throw new GlobalException(GlobalErrorCode.NOT_AUTHOR);
         }
         applicationRepository.delete(application);
+        // 거절된 신청서는 이미 좌석을 반환했다
+        if(!ApprovalStatusEnum.REJECTED.toString().equals(application.getApprovalStatusEnum())){
+            applicationSeatReservation.release(studyId);
+        }
     }
 
 //    // 유저의 신청서 조회
@@ -1,13 +1,17 @@
 package com.example.lablink.domain.chat.controller;
 
 import com.example.lablink.domain.chat.dto.ChatMessageDto;
+import com.example.lablink.domain.chat.security.ChatPrincipal;
 import com.example.lablink.domain.chat.service.ChatService;
 import com.example.lablink.domain.company.security.CompanyDetailsImpl;
 import com.example.lablink.domain.user.security.UserDetailsImpl;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
 import com.example.lablink.global.message.ResponseMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,10 +20,13 @@ import org.springframework.web.bind.annotation.*;
 public class ChatController {
     private final ChatService chatService;
 
-    // user가 방에 입장
-    @PostMapping("/chat/room/{studyId}/{nickname}")
-    public ResponseEntity enterRoom(@PathVariable Long studyId, @PathVariable String nickname) {
-        return ResponseMessage.SuccessResponse("방 입장", chatService.enterRoom(studyId, nickname));
+    // user가 방에 입장 (로그인한 유저 본인으로만)
+    @PostMapping("/chat/room/{studyId}")
+    public ResponseEntity enterRoom(@PathVariable Long studyId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        if (userDetails == null) {
+            throw new GlobalException(GlobalErrorCode.LOGIN_REQUIRED);
+        }
+        return ResponseMessage.SuccessResponse("방 입장", chatService.enterRoom(studyId, userDetails.getUser()));
     }
 
     // user
@@ -34,9 +41,21 @@ public class ChatController {
         return ResponseMessage.SuccessResponse("기업 대화 불러오기 성공", chatService.findCompanyMessageHistory(roomId, companyDetails.getCompany()));
     }
 
+    // 채팅 기록 (최신 size 개, 응답의 before 를 넘기면 그 이전 메시지)
+    @GetMapping("/chat/room/{roomId}/messages")
+    public ResponseEntity findMessages(@PathVariable String roomId,
+                                       @RequestParam(required = false) Long before,
+                                       @RequestParam(defaultValue = "30") int size,
+                                       @AuthenticationPrincipal UserDetailsImpl userDetails,
+                                       @AuthenticationPrincipal CompanyDetailsImpl companyDetails) {
+        return ResponseMessage.SuccessResponse("대화 불러오기 성공", chatService.findMessages(roomId, before, size,
+                userDetails == null ? null : userDetails.getUser(), companyDetails == null ? null : companyDetails.getCompany()));
+    }
+
     @MessageMapping(value = "/chat/message")
-    public void message(ChatMessageDto message) {
-        chatService.saveMessage(message);
+    public void message(ChatMessageDto message, SimpMessageHeaderAccessor headerAccessor) {
+        // 보낸 사람은 CONNECT 때 세션에 고정된 사용자 (StompAuthInterceptor)
+        chatService.saveMessage(message, ChatPrincipal.of(headerAccessor.getSessionAttributes()));
     }
 
     @DeleteMapping("/chat/room/{roomId}")
@@ -0,0 +1,18 @@
+package com.example.lablink.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 채팅 기록 한 페이지 (오래된 순)
+// 위로 스크롤할 때 before 를 그대로 넘기면 그 이전 메시지를 내려준다
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatHistoryResponseDto {
+    private List<MessageListDto> messages;
+    private Long before;
+    private boolean hasNext;
+}
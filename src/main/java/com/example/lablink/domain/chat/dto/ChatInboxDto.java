@@ -0,0 +1,30 @@
+package com.example.lablink.domain.chat.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 채팅방 목록 한 줄 (ChatRoomRepository.findUserInbox / findCompanyInbox 조회 결과)
+@Getter
+public class ChatInboxDto {
+    private final String roomId;
+    private final String nickname;
+    private final String profile;
+    private final String lastMessage;
+    private final LocalDateTime lastMessageAt;
+    private final int unreadCount;
+
+    public ChatInboxDto(String roomId, String nickname, String profile, String lastMessage, LocalDateTime lastMessageAt, int unreadCount) {
+        this.roomId = roomId;
+        this.nickname = nickname;
+        this.profile = profile;
+        this.lastMessage = lastMessage;
+        this.lastMessageAt = lastMessageAt;
+        this.unreadCount = unreadCount;
+    }
+
+    // 기업 목록 (상대가 유저라 프로필 이미지 없음)
+    public ChatInboxDto(String roomId, String nickname, String lastMessage, LocalDateTime lastMessageAt, int unreadCount) {
+        this(roomId, nickname, null, lastMessage, lastMessageAt, unreadCount);
+    }
+}
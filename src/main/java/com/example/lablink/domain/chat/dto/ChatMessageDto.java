@@ -11,6 +11,6 @@ import lombok.Setter;
 @AllArgsConstructor
 public class ChatMessageDto {
     private String roomId; // 방번호
-    private String sender; // nickname
+    private String sender; // nickname (사용하지 않음, 보낸 사람은 STOMP 세션 사용자)
     private String content; // 메시지
 }
@@ -14,4 +14,6 @@ public class ChatMessageResponseDto {
     private String sender; // nickname
     private String content; // 메시지
     private String createdAt;
+    // 메시지 id (채팅 기록 조회의 before 와 같은 값, 중복 수신 확인용)
+    private Long messageId;
 }
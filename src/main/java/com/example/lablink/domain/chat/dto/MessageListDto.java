@@ -8,6 +8,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class MessageListDto {
+    // 메시지 id (이전 메시지를 불러올 때 before 로 사용)
+    private Long id;
     private String sender;
     private String content;
     private String roomId;
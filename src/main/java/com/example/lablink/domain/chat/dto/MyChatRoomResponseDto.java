@@ -6,10 +6,14 @@ import lombok.NoArgsConstructor;
 
 import java.util.List;
 
+// 채팅방 화면 (최신 메시지 한 페이지 + 채팅방 목록)
+// 이전 메시지는 before 를 /chat/room/{roomId}/messages 에 넘겨서 불러온다 (hasNext 가 false 면 더 없음)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class MyChatRoomResponseDto {
     private List<MessageListDto> messages;
+    private Long before;
+    private boolean hasNext;
     private List<RoomListDto> rooms;
 }
@@ -0,0 +1,20 @@
+package com.example.lablink.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 저장 전 채팅 메시지 (id / 시각은 ChatMessageWriter 가 발급, ChatMessageBatchRepository 가 저장)
+@Getter
+@AllArgsConstructor
+public class PendingChatMessage {
+    private final long id;
+    // chat_room.id
+    private final Long roomId;
+    private final Long senderId;
+    private final String content;
+    private final LocalDateTime createdAt;
+    // 유저가 보낸 메시지면 기업 쪽 안 읽은 수, 아니면 유저 쪽 안 읽은 수를 올린다
+    private final boolean fromUser;
+}
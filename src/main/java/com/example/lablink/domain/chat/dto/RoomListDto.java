@@ -12,6 +12,8 @@ public class RoomListDto {
     private String nickname;
     private String profile;
     private String lastMessage;
+    private String lastMessageAt;
+    private int unreadCount;
     private boolean target;
 
     @Override
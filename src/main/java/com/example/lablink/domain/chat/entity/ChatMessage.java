@@ -6,17 +6,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Entity
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(name = "chat_message",
+        indexes = {@Index(name = "index_room_id_id", columnList = "room_id, id")})
 public class ChatMessage {
+    public static final DateTimeFormatter CREATED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    // ChatMessageIdGenerator 가 발급 (저장은 ChatMessageWriter -> ChatMessageBatchRepository)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne
@@ -31,15 +33,4 @@ public class ChatMessage {
     @Column(nullable = false)
     private String createdAt;
 
-    @PrePersist
-    private void setCreatedAt() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-        this.createdAt = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).format(formatter);
-    }
-
-    public ChatMessage(User sender, String content, ChatRoom room) {
-        this.sender = sender;
-        this.content = content;
-        this.room = room;
-    }
 }
@@ -8,13 +8,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(name = "chat_room",
+        indexes = {@Index(name = "index_user_id_last_message_at", columnList = "user_id, last_message_at"),
+                @Index(name = "index_owner_id_last_message_at", columnList = "owner_id, last_message_at")})
 public class ChatRoom {
+    // 채팅방 목록에 보여줄 마지막 메시지 길이
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -31,6 +38,21 @@ public class ChatRoom {
     @ManyToOne
     private Company owner;
 
+    // 채팅방 목록용 마지막 메시지 (메시지 저장 시 ChatMessageBatchRepository 가 갱신)
+    private Long lastMessageId;
+
+    @Column(length = PREVIEW_LENGTH)
+    private String lastMessage;
+
+    private LocalDateTime lastMessageAt;
+
+    // 참여자별 안 읽은 메시지 수 (채팅방을 열면 0)
+    @Column(nullable = false)
+    private int userUnreadCount;
+
+    @Column(nullable = false)
+    private int ownerUnreadCount;
+
     public ChatRoom(Study study, User user, Company owner) {
         this.roomId = UUID.randomUUID().toString().substring(0, 8);
         this.study = study;
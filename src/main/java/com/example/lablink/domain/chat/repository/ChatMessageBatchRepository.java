@@ -0,0 +1,95 @@
+package com.example.lablink.domain.chat.repository;
+
+import com.example.lablink.domain.chat.dto.PendingChatMessage;
+import com.example.lablink.domain.chat.entity.ChatMessage;
+import com.example.lablink.domain.chat.entity.ChatRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 채팅 메시지 저장 (ChatMessageWriter 가 모은 메시지를 multi-row INSERT 로)
+// 채팅방 목록용 마지막 메시지 / 안 읽은 수도 채팅방별로 합쳐서 한 번씩만 갱신한다
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+    // INSERT 문 하나에 넣는 최대 행 수 (max_allowed_packet 안쪽으로)
+    private static final int ROWS_PER_STATEMENT = 500;
+    private static final String INSERT = "INSERT INTO chat_message (id, room_id, sender_id, content, created_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?)";
+    // 늦게 저장된 메시지(재시도 등)가 더 최근 메시지를 덮어쓰지 않도록 id 가 클 때만 마지막 메시지를 바꾼다
+    // last_message_id 는 맨 마지막에 바꾼다 (MySQL 은 SET 을 왼쪽부터 적용)
+    private static final String NEWER = "CASE WHEN last_message_id IS NULL OR last_message_id < ? THEN ? ELSE ";
+    private static final String UPDATE_ROOM = "UPDATE chat_room SET " +
+            "user_unread_count = user_unread_count + ?, owner_unread_count = owner_unread_count + ?, " +
+            "last_message = " + NEWER + "last_message END, " +
+            "last_message_at = " + NEWER + "last_message_at END, " +
+            "last_message_id = " + NEWER + "last_message_id END " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<PendingChatMessage> messages) {
+        for (int from = 0; from < messages.size(); from += ROWS_PER_STATEMENT) {
+            insert(messages.subList(from, Math.min(from + ROWS_PER_STATEMENT, messages.size())));
+        }
+        updateRooms(messages);
+    }
+
+    private void insert(List<PendingChatMessage> rows) {
+        String sql = INSERT + String.join(", ", Collections.nCopies(rows.size(), ROW));
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (PendingChatMessage row : rows) {
+                ps.setLong(index++, row.getId());
+                ps.setLong(index++, row.getRoomId());
+                ps.setLong(index++, row.getSenderId());
+                ps.setString(index++, row.getContent());
+                ps.setString(index++, row.getCreatedAt().format(ChatMessage.CREATED_AT_FORMATTER));
+            }
+        });
+    }
+
+    private void updateRooms(List<PendingChatMessage> messages) {
+        Map<Long, RoomUpdate> rooms = new LinkedHashMap<>();
+        for (PendingChatMessage message : messages) {
+            rooms.computeIfAbsent(message.getRoomId(), roomId -> new RoomUpdate()).add(message);
+        }
+        jdbcTemplate.batchUpdate(UPDATE_ROOM, rooms.entrySet(), rooms.size(), (ps, entry) -> {
+            RoomUpdate room = entry.getValue();
+            PendingChatMessage last = room.last;
+            String preview = last.getContent().length() > ChatRoom.PREVIEW_LENGTH ? last.getContent().substring(0, ChatRoom.PREVIEW_LENGTH) : last.getContent();
+            ps.setInt(1, room.userUnread);
+            ps.setInt(2, room.ownerUnread);
+            ps.setLong(3, last.getId());
+            ps.setString(4, preview);
+            ps.setLong(5, last.getId());
+            ps.setTimestamp(6, Timestamp.valueOf(last.getCreatedAt()));
+            ps.setLong(7, last.getId());
+            ps.setLong(8, last.getId());
+            ps.setLong(9, entry.getKey());
+        });
+    }
+
+    private static class RoomUpdate {
+        private PendingChatMessage last;
+        private int userUnread;
+        private int ownerUnread;
+
+        private void add(PendingChatMessage message) {
+            if (last == null || message.getId() > last.getId()) {
+                last = message;
+            }
+            if (message.isFromUser()) {
+                ownerUnread++;
+            } else {
+                userUnread++;
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.lablink.domain.chat.repository;
 
 import com.example.lablink.domain.chat.entity.ChatMessage;
 import com.example.lablink.domain.chat.entity.ChatRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,24 +11,17 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
-    List<ChatMessage> findAllByRoom(ChatRoom room);
+    // 채팅 기록 최신 페이지 / before 이전 페이지 : (room_id, id) 인덱스를 역순으로 읽으므로 대화량과 관계없이 pageable 크기만큼만 읽는다
+    @Query("select m from ChatMessage m join fetch m.sender where m.room = :room order by m.id desc")
+    List<ChatMessage> findRecentMessages(@Param("room") ChatRoom room, Pageable pageable);
 
-    @Query(value = "select r.room_id from chat_room r left join chat_message m on r.id = m.room_id where r.user_id = :userId order by m.id desc;", nativeQuery = true)
-    List<String> findRoomIdOfUsersLastChatMessage(@Param("userId") Long userId);
-
-    @Query(value = "select r.room_id from chat_room r left join chat_message m on r.id = m.room_id where r.owner_id = :companyId order by m.id desc;", nativeQuery = true)
-    List<String> findRoomIdOfCompanyLastChatMessage(@Param("companyId") Long companyId);
+    @Query("select m from ChatMessage m join fetch m.sender where m.room = :room and m.id < :before order by m.id desc")
+    List<ChatMessage> findMessagesBefore(@Param("room") ChatRoom room, @Param("before") Long before, Pageable pageable);
 
     @Modifying
     @Query("DELETE FROM ChatMessage cm WHERE cm.room.id IN (SELECT cr.id FROM ChatRoom cr WHERE cr.study.id = :studyId)")
     void deleteMessagesByStudyId(@Param("studyId") Long studyId);
 
-    @Query("select m from ChatMessage m where m.room = :room order by m.id desc")
-    List<ChatMessage> findLastMessageByRoom(@Param("room") ChatRoom room);
-
-    @Query("SELECT m FROM ChatMessage m WHERE m.id IN (SELECT MAX(m2.id) FROM ChatMessage m2 WHERE m2.room IN :rooms GROUP BY m2.room)")
-    List<ChatMessage> findLastMessageByRooms(@Param("rooms") List<ChatRoom> rooms);
-
     boolean existsByRoom(ChatRoom room);
     void deleteByRoom(ChatRoom room);
 }
@@ -1,13 +1,14 @@
 package com.example.lablink.domain.chat.repository;
 
+import com.example.lablink.domain.chat.dto.ChatInboxDto;
 import com.example.lablink.domain.chat.entity.ChatRoom;
-import com.example.lablink.domain.company.entity.Company;
 import com.example.lablink.domain.study.entity.Study;
 import com.example.lablink.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,11 +20,36 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     Optional<ChatRoom> findChatRoomByStudyAndUser(Study study, User user);
 
 
-    @Query(value = "select r from ChatRoom r where r.user = :user")
-    List<ChatRoom> findAllChatRoomByUser(@Param("user") User user);
+    // 채팅방 목록 (최근 대화 순) : (user_id, last_message_at) / (owner_id, last_message_at) 인덱스로 한 번에 조회
+    @Query("select new com.example.lablink.domain.chat.dto.ChatInboxDto(r.roomId, o.companyName, o.logoUrl, r.lastMessage, r.lastMessageAt, r.userUnreadCount) " +
+            "from ChatRoom r join r.owner o where r.user.id = :userId order by r.lastMessageAt desc, r.id desc")
+    List<ChatInboxDto> findUserInbox(@Param("userId") Long userId);
+
+    @Query("select new com.example.lablink.domain.chat.dto.ChatInboxDto(r.roomId, u.nickName, r.lastMessage, r.lastMessageAt, r.ownerUnreadCount) " +
+            "from ChatRoom r join r.user u where r.owner.id = :companyId order by r.lastMessageAt desc, r.id desc")
+    List<ChatInboxDto> findCompanyInbox(@Param("companyId") Long companyId);
+
+    // 읽음 처리 (이미 0 이면 쓰지 않는다)
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.userUnreadCount = 0 WHERE r.id = :roomId AND r.userUnreadCount > 0")
+    void markReadByUser(@Param("roomId") Long roomId);
+
+    @Modifying
+    @Query("UPDATE ChatRoom r SET r.ownerUnreadCount = 0 WHERE r.id = :roomId AND r.ownerUnreadCount > 0")
+    void markReadByOwner(@Param("roomId") Long roomId);
+
+    // 컬럼 추가 전 채팅방의 마지막 메시지 채우기 (이미 채워진 방은 건너뛴다)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE chat_room r JOIN chat_message m ON m.id = (SELECT MAX(m2.id) FROM chat_message m2 WHERE m2.room_id = r.id) " +
+            "SET r.last_message_id = m.id, r.last_message = LEFT(m.content, " + ChatRoom.PREVIEW_LENGTH + "), " +
+            "r.last_message_at = STR_TO_DATE(m.created_at, '%Y-%m-%d %H:%i') " +
+            "WHERE r.last_message_id IS NULL", nativeQuery = true)
+    int backfillLastMessage();
+
+    @Query("SELECT cr.roomId FROM ChatRoom cr WHERE cr.study.id = :studyId")
+    List<String> findRoomIdsByStudyId(@Param("studyId") Long studyId);
 
-    @Query(value = "select r from ChatRoom r where r.owner = :company")
-    List<ChatRoom> findAllChatRoomByCompany(@Param("company") Company company);
     @Modifying
     @Query("DELETE FROM ChatRoom cr WHERE cr.study.id = :studyId")
     void deleteByStudyId(@Param("studyId") Long studyId);
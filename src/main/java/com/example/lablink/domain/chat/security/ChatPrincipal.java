@@ -0,0 +1,70 @@
+package com.example.lablink.domain.chat.security;
+
+import com.example.lablink.domain.user.entity.UserRoleEnum;
+import com.example.lablink.global.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// STOMP 세션 사용자 (CONNECT 때 토큰에서 꺼내 세션에 고정, 메시지마다 사용자를 조회하지 않는다)
+// 세션 동안 닉네임 / 회사명이 바뀌어도 다시 연결하기 전까지는 연결할 때의 값으로 보낸다
+@Getter
+public class ChatPrincipal implements Principal {
+    public static final String SESSION_ATTRIBUTE = "chatPrincipal";
+
+    private final Long id;
+    private final String nickname;
+    // UserRoleEnum 이름 (USER, BUSINESS)
+    private final String role;
+    private final long expiresAt;
+    // 이 세션에서 참여자 확인을 마친 채팅방 (roomId -> chat_room.id, 채팅방이 삭제되면 ChatRoomMembership 이 지운다)
+    private final Map<String, Long> rooms = new ConcurrentHashMap<>();
+
+    public ChatPrincipal(Long id, String nickname, String role, long expiresAt) {
+        this.id = id;
+        this.nickname = nickname;
+        this.role = role;
+        this.expiresAt = expiresAt;
+    }
+
+    // JwtUtil.createUserToken / createCompanyToken 의 claim
+    public static ChatPrincipal from(Claims claims) {
+        String role = claims.get(JwtUtil.AUTHORIZATION_KEY, String.class);
+        String nickname = UserRoleEnum.USER.name().equals(role) ? claims.get("nickname", String.class) : claims.get("companyName", String.class);
+        return new ChatPrincipal(Long.valueOf(claims.getSubject()), nickname, role, claims.getExpiration().getTime());
+    }
+
+    // 세션에 고정된 사용자 (CONNECT 전이면 null)
+    public static ChatPrincipal of(Map<String, Object> sessionAttributes) {
+        return sessionAttributes == null ? null : (ChatPrincipal) sessionAttributes.get(SESSION_ATTRIBUTE);
+    }
+
+    public boolean isUser() {
+        return UserRoleEnum.USER.name().equals(role);
+    }
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAt;
+    }
+
+    public Long findRoom(String roomId) {
+        return rooms.get(roomId);
+    }
+
+    public void joinRoom(String roomId, Long chatRoomId) {
+        rooms.put(roomId, chatRoomId);
+    }
+
+    public void leaveRoom(String roomId) {
+        rooms.remove(roomId);
+    }
+
+    // user destination(/user/...) 용 이름
+    @Override
+    public String getName() {
+        return role + ":" + id;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.lablink.domain.chat.security;
+
+import com.example.lablink.domain.chat.entity.ChatRoom;
+import com.example.lablink.domain.chat.repository.ChatRoomRepository;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import com.example.lablink.global.util.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅방 참여자 확인 (SUBSCRIBE / SEND 때 세션에서 채팅방마다 처음 한 번만 DB 로 확인하고 ChatPrincipal 에 기록)
+// 채팅방이 삭제되면 Redis 로 모든 서버에 알려서, 연결된 세션에 남은 기록을 지운다 (다음 SEND 때 다시 확인하면 CHATROOM_NOT_FOUND)
+@Slf4j
+@Component
+public class ChatRoomMembership {
+    public static final String DELETED_CHANNEL = "chat:room-deleted";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer chatMessageListenerContainer;
+    // sessionId -> 이 서버에 연결된 세션의 사용자
+    private final Map<String, ChatPrincipal> sessions = new ConcurrentHashMap<>();
+
+    public ChatRoomMembership(ChatRoomRepository chatRoomRepository,
+                              StringRedisTemplate stringRedisTemplate,
+                              @Qualifier("chatMessageListenerContainer") RedisMessageListenerContainer chatMessageListenerContainer) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatMessageListenerContainer = chatMessageListenerContainer;
+    }
+
+    @PostConstruct
+    public void listen() {
+        chatMessageListenerContainer.addMessageListener((message, pattern) -> leave(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(DELETED_CHANNEL));
+    }
+
+    public void register(String sessionId, ChatPrincipal principal) {
+        sessions.put(sessionId, principal);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    // 유저는 채팅방의 user, 기업은 채팅방의 owner 여야 한다
+    // returns chat_room.id
+    public Long join(String roomId, ChatPrincipal principal) {
+        Long chatRoomId = principal.findRoom(roomId);
+        if (chatRoomId != null) {
+            return chatRoomId;
+        }
+        ChatRoom room = chatRoomRepository.findByRoomId(roomId).orElseThrow(() -> new GlobalException(GlobalErrorCode.CHATROOM_NOT_FOUND));
+        Long memberId = principal.isUser()
+                ? (room.getUser() == null ? null : room.getUser().getId())
+                : (room.getOwner() == null ? null : room.getOwner().getId());
+        if (memberId == null || !Objects.equals(memberId, principal.getId())) {
+            throw new GlobalException(GlobalErrorCode.NOT_HAVE_PERMISSION);
+        }
+        principal.joinRoom(roomId, room.getId());
+        return room.getId();
+    }
+
+    // 채팅방 삭제가 커밋된 뒤 모든 서버의 세션에서 기록을 지운다
+    public void evict(String roomId) {
+        AfterCommit.run(() -> {
+            try {
+                stringRedisTemplate.convertAndSend(DELETED_CHANNEL, roomId);
+            } catch (RuntimeException e) {
+                // Redis 로 보내지 못하면 적어도 이 서버의 세션에서는 지운다
+                log.warn("채팅방 삭제 전파 실패, 이 서버에서만 지움 : roomId={}, {}", roomId, e.getMessage());
+                leave(roomId);
+            }
+        });
+    }
+
+    void leave(String roomId) {
+        sessions.values().forEach(principal -> principal.leaveRoom(roomId));
+    }
+}
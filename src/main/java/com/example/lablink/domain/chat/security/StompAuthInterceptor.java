@@ -0,0 +1,64 @@
+package com.example.lablink.domain.chat.security;
+
+import com.example.lablink.domain.chat.service.ChatMessageRelay;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import com.example.lablink.global.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// STOMP 인증 : CONNECT 때 한 번만 토큰을 확인하고 사용자(ChatPrincipal)를 세션에 고정
+// 이후 SUBSCRIBE / SEND 는 세션에 고정된 사용자로 처리한다 (토큰 검증, 사용자 조회 없음)
+// 채팅방 구독(/sub/chat/room/{roomId})은 그 채팅방 참여자만 가능
+@Component
+@RequiredArgsConstructor
+public class StompAuthInterceptor implements ChannelInterceptor {
+    private final JwtUtil jwtUtil;
+    private final ChatRoomMembership chatRoomMembership;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            connect(accessor);
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) || StompCommand.SEND.equals(accessor.getCommand())) {
+            ChatPrincipal principal = ChatPrincipal.of(accessor.getSessionAttributes());
+            if (principal == null) {
+                throw new GlobalException(GlobalErrorCode.LOGIN_REQUIRED);
+            }
+            // 연결은 유지되어도 토큰이 만료되면 더 보낼 수 없다 (다시 연결)
+            if (principal.isExpired()) {
+                throw new GlobalException(GlobalErrorCode.INVALID_TOKEN);
+            }
+            String destination = accessor.getDestination();
+            if (StompCommand.SUBSCRIBE.equals(accessor.getCommand()) && destination != null && destination.startsWith(ChatMessageRelay.DESTINATION_PREFIX)) {
+                chatRoomMembership.join(destination.substring(ChatMessageRelay.DESTINATION_PREFIX.length()), principal);
+            }
+        }
+        return message;
+    }
+
+    private void connect(StompHeaderAccessor accessor) {
+        Claims claims = jwtUtil.authorizeSocketToken(accessor.getFirstNativeHeader(JwtUtil.AUTHORIZATION_HEADER));
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (claims == null || sessionAttributes == null) {
+            throw new GlobalException(GlobalErrorCode.LOGIN_REQUIRED);
+        }
+        ChatPrincipal principal = ChatPrincipal.from(claims);
+        sessionAttributes.put(ChatPrincipal.SESSION_ATTRIBUTE, principal);
+        accessor.setUser(principal);
+        chatRoomMembership.register(accessor.getSessionId(), principal);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.lablink.domain.chat.service;
+
+import com.example.lablink.domain.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 마지막 메시지 컬럼 추가 전에 만들어진 채팅방의 마지막 메시지 채우기
+// 이후에 오는 메시지는 ChatMessageWriter 가 채우므로 한 번만 실행하면 된다
+// 서버 여러 대가 동시에 돌지 않도록 락을 잡고, 끝나면 완료 표시를 남긴다 (메시지 없는 방을 서버가 뜰 때마다 다시 훑지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInboxBackfill {
+    private static final String DONE_KEY = "chat:inbox-backfill:done";
+    private static final String LOCK_KEY = "chat:inbox-backfill:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(DONE_KEY))
+                || !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL))) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            int count = chatRoomRepository.backfillLastMessage();
+            stringRedisTemplate.opsForValue().set(DONE_KEY, String.valueOf(System.currentTimeMillis()));
+            log.info("채팅방 마지막 메시지 채움 완료 : {}건, {}ms", count, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 다음 서버 시작 때 다시 시도 (이미 채운 방은 건너뛴다)
+            log.warn("채팅방 마지막 메시지 채움 실패 : {}", e.getMessage());
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.lablink.domain.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// 채팅 메시지 id (DB 에 저장하기 전에 발급해서 저장을 기다리지 않고 전송할 수 있도록)
+// [밀리초 41bit][노드 10bit][순번 12bit] 라서 시간순으로 정렬되고, 기존 AUTO_INCREMENT id 보다 항상 크다 (커서 조회 순서 유지)
+// 노드 번호가 겹치면 같은 밀리초에 같은 id 가 나오므로 서버마다 달라야 한다
+//  chat.message.node-id 를 지정하지 않으면 Redis 에서 비어 있는 번호를 임대받고 주기적으로 연장한다
+//  빈 번호가 없으면 서버를 띄우지 않고, 연장하지 못한 채 임대 기간이 지나면 (다른 서버가 가져갔을 수 있으므로) id 를 발급하지 않는다
+@Slf4j
+@Component
+public class ChatMessageIdGenerator {
+    // 2023-01-01T00:00:00Z
+    private static final long EPOCH = 1_672_531_200_000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String NODE_KEY_PREFIX = "chat:message:node:";
+    private static final String NODE_SEQUENCE_KEY = "chat:message:node-seq";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+    private static final long RENEW_INTERVAL_MILLIS = 10_000;
+
+    // 내가 임대한 번호일 때만 연장 / 반납
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end\n" +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2])\n" +
+            "return 1", Long.class);
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end\n" +
+            "return redis.call('DEL', KEYS[1])", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String leaseToken = UUID.randomUUID().toString();
+    private long nodeId;
+    private volatile long leaseExpiresAt;
+    private long lastMillis = -1;
+    private long sequence;
+
+    // 노드 번호를 직접 지정 (임대하지 않음)
+    public ChatMessageIdGenerator(long nodeId) {
+        this(nodeId, null);
+    }
+
+    @Autowired
+    public ChatMessageIdGenerator(@Value("${chat.message.node-id:-1}") long nodeId, StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        if (nodeId >= 0) {
+            if (nodeId > MAX_NODE) {
+                throw new IllegalStateException("chat.message.node-id 는 0 ~ " + MAX_NODE + " 이어야 합니다 : " + nodeId);
+            }
+            this.nodeId = nodeId;
+            this.leaseExpiresAt = Long.MAX_VALUE;
+        } else {
+            if (stringRedisTemplate == null) {
+                throw new IllegalStateException("chat.message.node-id 를 지정하지 않으면 Redis 에서 임대받아야 합니다");
+            }
+            long started = System.currentTimeMillis();
+            this.nodeId = lease();
+            this.leaseExpiresAt = started + LEASE_TTL.toMillis();
+            log.info("채팅 메시지 노드 번호 임대 : {}", this.nodeId);
+        }
+    }
+
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis();
+        if (now >= leaseExpiresAt) {
+            throw new IllegalStateException("채팅 메시지 노드 번호 임대 기간이 지났습니다 : " + nodeId);
+        }
+        if (now > lastMillis) {
+            lastMillis = now;
+            sequence = 0;
+        } else if (++sequence > MAX_SEQUENCE) {
+            // 같은 밀리초에 4096개를 넘거나 시계가 뒤로 가면 다음 밀리초를 미리 당겨 쓴다 (id 는 계속 증가)
+            lastMillis++;
+            sequence = 0;
+        }
+        return ((lastMillis - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public synchronized long getNodeId() {
+        return nodeId;
+    }
+
+    // 임대 연장 (TTL 의 1/3 마다), 그 사이에 번호를 잃었으면 (Redis 재시작 등) 다시 임대받는다
+    @Scheduled(fixedDelay = RENEW_INTERVAL_MILLIS)
+    public void renew() {
+        if (stringRedisTemplate == null || leaseExpiresAt == Long.MAX_VALUE) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try {
+            long current = getNodeId();
+            Long renewed = stringRedisTemplate.execute(RENEW, List.of(key(current)), leaseToken, String.valueOf(LEASE_TTL.toMillis()));
+            if (renewed == null || renewed == 0) {
+                long leased = lease();
+                synchronized (this) {
+                    nodeId = leased;
+                }
+                log.warn("채팅 메시지 노드 번호를 잃어서 다시 임대 : {} -> {}", current, leased);
+            }
+            leaseExpiresAt = started + LEASE_TTL.toMillis();
+        } catch (Exception e) {
+            log.warn("채팅 메시지 노드 번호 임대 연장 실패 : {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (stringRedisTemplate == null || leaseExpiresAt == Long.MAX_VALUE) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE, List.of(key(getNodeId())), leaseToken);
+        } catch (Exception e) {
+            log.warn("채팅 메시지 노드 번호 반납 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 돌아가면서 비어 있는 번호를 찾는다 (SET NX 에 성공한 서버만 그 번호를 쓴다)
+    private long lease() {
+        for (int i = 0; i <= MAX_NODE; i++) {
+            Long next = stringRedisTemplate.opsForValue().increment(NODE_SEQUENCE_KEY);
+            long candidate = Math.floorMod(next == null ? i : next, MAX_NODE + 1);
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key(candidate), leaseToken, LEASE_TTL))) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("임대할 수 있는 채팅 메시지 노드 번호가 없습니다");
+    }
+
+    private static String key(long nodeId) {
+        return NODE_KEY_PREFIX + nodeId;
+    }
+}
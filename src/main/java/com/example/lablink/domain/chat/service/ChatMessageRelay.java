@@ -0,0 +1,213 @@
+package com.example.lablink.domain.chat.service;
+
+import com.example.lablink.domain.chat.dto.ChatMessageResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+// 채팅 메시지를 Redis pub/sub 으로 모든 서버에 전달하고, 각 서버는 자기 SimpleBroker 구독자에게 전달한다
+// (SimpleBroker 는 서버 메모리에만 구독 정보가 있어서 A 서버에 연결된 구독자는 B 서버에서 보낸 메시지를 받지 못함)
+// 채널은 채팅방 id 로 나눈 shard (chat:room:{0 ~ shards-1}) 이고,
+// 서버는 자기에게 구독자가 있는 채팅방의 shard 만 구독한다 (구독자가 없는 서버로는 메시지가 가지 않음)
+// Redis SUBSCRIBE 는 비동기라서, 새로 구독한 shard 는 자기가 보낸 probe 가 돌아올 때까지(구독 확인) 이 서버에서 보낸 메시지를 직접 전달한다
+@Slf4j
+@Component
+public class ChatMessageRelay {
+    public static final String CHANNEL_PREFIX = "chat:room:";
+    public static final String DESTINATION_PREFIX = "/sub/chat/room/";
+    private static final String PROBE_PREFIX = "probe:";
+    // 구독 확인 전에 직접 전달한 메시지가 Redis 로 다시 오는지 기다리는 시간 (이후에는 기록을 지운다)
+    private static final long LOCAL_DELIVERY_TTL_MILLIS = 30_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer chatMessageListenerContainer;
+    private final SimpMessageSendingOperations template;
+    private final ObjectMapper objectMapper;
+    private final int shards;
+    private final MessageListener listener = (message, pattern) -> deliver(new String(message.getBody(), StandardCharsets.UTF_8));
+    // 이 서버가 보낸 probe 만 구독 확인으로 쓴다 (같은 shard 를 구독한 다른 서버의 probe 는 무시)
+    private final String probe = PROBE_PREFIX + UUID.randomUUID() + ":";
+
+    // shard -> 이 서버에서 그 shard 에 속한 채팅방을 구독 중인 수
+    private final Map<Integer, Integer> shardSubscribers = new HashMap<>();
+    // sessionId -> (subscriptionId -> shard)
+    private final Map<String, Map<String, Integer>> sessions = new HashMap<>();
+    // 구독을 요청했지만 아직 probe 가 돌아오지 않은 shard
+    private final Set<Integer> pendingShards = new HashSet<>();
+    // 구독 확인 전에 직접 전달한 메시지 id -> 전달 시각 (구독이 반영된 뒤 Redis 로 다시 오면 한 번 더 전달하지 않도록)
+    private final Map<Long, Long> deliveredLocally = new LinkedHashMap<>();
+
+    public ChatMessageRelay(StringRedisTemplate stringRedisTemplate,
+                            @Qualifier("chatMessageListenerContainer") RedisMessageListenerContainer chatMessageListenerContainer,
+                            SimpMessageSendingOperations template,
+                            ObjectMapper objectMapper,
+                            @Value("${chat.relay.shards:16}") int shards) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatMessageListenerContainer = chatMessageListenerContainer;
+        this.template = template;
+        this.objectMapper = objectMapper;
+        this.shards = shards;
+    }
+
+    // 보낸 서버도 자기 shard 구독으로 다시 받아서 전달하므로 여기서 직접 전달하지 않는다
+    // 단, 구독 확인 전인 shard 는 Redis 로 돌아오지 않을 수 있으므로 직접 전달하고 id 를 기록해 둔다
+    public void publish(ChatMessageResponseDto message) {
+        boolean deliverLocally = markIfPending(message);
+        try {
+            stringRedisTemplate.convertAndSend(channel(message.getRoomId()), objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 로 보내지 못하면 적어도 이 서버의 구독자에게는 전달
+            log.warn("채팅 메시지 relay 실패, 이 서버에만 전달 : roomId={}, {}", message.getRoomId(), e.getMessage());
+            deliverLocally = true;
+        }
+        if (deliverLocally) {
+            template.convertAndSend(DESTINATION_PREFIX + message.getRoomId(), message);
+        }
+    }
+
+    // 같은 shard 의 다른 채팅방 메시지도 오지만, 이 서버에 구독자가 없는 채팅방이면 SimpleBroker 가 버린다
+    private void deliver(String body) {
+        if (body.startsWith(PROBE_PREFIX)) {
+            confirm(body);
+            return;
+        }
+        try {
+            ChatMessageResponseDto message = objectMapper.readValue(body, ChatMessageResponseDto.class);
+            if (wasDeliveredLocally(message)) {
+                return;
+            }
+            template.convertAndSend(DESTINATION_PREFIX + message.getRoomId(), message);
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 채팅 relay 메시지 : {}", body);
+        }
+    }
+
+    // 구독 확인 전인 shard 에 probe 를 보낸다 (구독이 반영되기 전에 보낸 probe 는 돌아오지 않으므로 확인될 때까지 반복)
+    @Scheduled(fixedDelay = 200)
+    public void probePendingShards() {
+        List<Integer> shards;
+        synchronized (this) {
+            shards = new ArrayList<>(pendingShards);
+        }
+        for (Integer shard : shards) {
+            try {
+                stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + shard, probe + shard);
+            } catch (RuntimeException e) {
+                log.warn("채팅 relay 구독 확인 실패 : shard={}, {}", shard, e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void confirm(String body) {
+        if (body.startsWith(probe)) {
+            pendingShards.remove(Integer.parseInt(body.substring(probe.length())));
+        }
+    }
+
+    private synchronized boolean markIfPending(ChatMessageResponseDto message) {
+        if (!pendingShards.contains(shard(message.getRoomId()))) {
+            return false;
+        }
+        if (message.getMessageId() != null) {
+            long now = System.currentTimeMillis();
+            Iterator<Long> deliveredAt = deliveredLocally.values().iterator();
+            while (deliveredAt.hasNext() && deliveredAt.next() < now - LOCAL_DELIVERY_TTL_MILLIS) {
+                deliveredAt.remove();
+            }
+            deliveredLocally.put(message.getMessageId(), now);
+        }
+        return true;
+    }
+
+    private synchronized boolean wasDeliveredLocally(ChatMessageResponseDto message) {
+        return message.getMessageId() != null && deliveredLocally.remove(message.getMessageId()) != null;
+    }
+
+    synchronized boolean isPending(String roomId) {
+        return pendingShards.contains(shard(roomId));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination != null && destination.startsWith(DESTINATION_PREFIX)) {
+            subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), destination.substring(DESTINATION_PREFIX.length()));
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    // 연결이 끊기면 UNSUBSCRIBE 없이 끝나므로 세션의 구독을 한 번에 정리
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    synchronized void subscribe(String sessionId, String subscriptionId, String roomId) {
+        Integer previous = sessions.computeIfAbsent(sessionId, id -> new HashMap<>()).put(subscriptionId, shard(roomId));
+        if (previous != null) {
+            release(previous);
+        }
+        acquire(shard(roomId));
+    }
+
+    synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Integer> subscriptions = sessions.get(sessionId);
+        Integer shard = subscriptions == null ? null : subscriptions.remove(subscriptionId);
+        if (shard != null) {
+            release(shard);
+        }
+    }
+
+    synchronized void disconnect(String sessionId) {
+        Map<String, Integer> subscriptions = sessions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void acquire(int shard) {
+        if (shardSubscribers.merge(shard, 1, Integer::sum) == 1) {
+            pendingShards.add(shard);
+            chatMessageListenerContainer.addMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + shard));
+        }
+    }
+
+    private void release(int shard) {
+        if (shardSubscribers.merge(shard, -1, Integer::sum) == 0) {
+            shardSubscribers.remove(shard);
+            pendingShards.remove(shard);
+            chatMessageListenerContainer.removeMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + shard));
+        }
+    }
+
+    private String channel(String roomId) {
+        return CHANNEL_PREFIX + shard(roomId);
+    }
+
+    private int shard(String roomId) {
+        return Math.floorMod(roomId.hashCode(), shards);
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.lablink.domain.chat.service;
+
+import com.example.lablink.domain.chat.dto.PendingChatMessage;
+import com.example.lablink.domain.chat.repository.ChatMessageBatchRepository;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+// 채팅 메시지 저장을 전송 경로에서 분리
+// id / 시각은 서버에서 바로 발급하므로 저장(IDENTITY INSERT)을 기다리지 않고 전송할 수 있다
+// chat.message.write-behind=true : 큐에 넣고 바로 반환, 백그라운드 스레드가 모아서 multi-row INSERT 로 저장
+// chat.message.await-flush=true : write-behind 여도 커밋될 때까지 기다린다 (여러 메시지가 한 커밋을 공유하는 group commit)
+// write-behind 를 끄면(기본값) 호출한 스레드에서 바로 저장한다
+@Slf4j
+@Component
+public class ChatMessageWriter {
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 500;
+    // 큐가 비어 있을 때 기다리는 시간 (이 안에 들어온 메시지는 한 번에 저장)
+    private static final long POLL_TIMEOUT_MILLIS = 50;
+    // 큐가 가득 찼을 때 자리가 나기를 기다리는 시간 (넘으면 호출한 스레드에서 직접 저장)
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final long AWAIT_TIMEOUT_SECONDS = 5;
+    // 일시적인 DB 오류로 실패한 메시지를 다시 큐에 넣는 최대 횟수
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 200;
+
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final TransactionOperations transactionOperations;
+    private final MeterRegistry meterRegistry;
+    private final boolean writeBehind;
+    private final boolean awaitFlush;
+
+    private final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "chat-message-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+    private Counter writtenCounter;
+    private Counter failedCounter;
+    private Counter retriedCounter;
+    private Counter queueFullCounter;
+    private Timer flushTimer;
+    private Timer lagTimer;
+
+    public ChatMessageWriter(ChatMessageBatchRepository chatMessageBatchRepository,
+                             ChatMessageIdGenerator chatMessageIdGenerator,
+                             TransactionOperations transactionOperations,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.message.write-behind:false}") boolean writeBehind,
+                             @Value("${chat.message.await-flush:false}") boolean awaitFlush) {
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.chatMessageIdGenerator = chatMessageIdGenerator;
+        this.transactionOperations = transactionOperations;
+        this.meterRegistry = meterRegistry;
+        this.writeBehind = writeBehind;
+        this.awaitFlush = awaitFlush;
+    }
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("chat.message.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        // 큐에서 가장 오래 기다린 메시지의 대기 시간 (저장이 밀리고 있는지)
+        Gauge.builder("chat.message.queue.oldest", this, ChatMessageWriter::oldestLagSeconds).baseUnit("seconds").register(meterRegistry);
+        writtenCounter = Counter.builder("chat.message.written").register(meterRegistry);
+        failedCounter = Counter.builder("chat.message.failed").register(meterRegistry);
+        retriedCounter = Counter.builder("chat.message.retried").register(meterRegistry);
+        queueFullCounter = Counter.builder("chat.message.queue.full").register(meterRegistry);
+        flushTimer = Timer.builder("chat.message.flush").register(meterRegistry);
+        // 큐에 들어간 뒤 커밋될 때까지 걸린 시간
+        lagTimer = Timer.builder("chat.message.queue.lag").register(meterRegistry);
+        if (writeBehind) {
+            executor.execute(this::run);
+        }
+    }
+
+    // 종료 시 남은 메시지까지 저장하고 멈춘다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // roomId : chat_room.id
+    public PendingChatMessage write(Long roomId, Long senderId, String content, boolean fromUser) {
+        PendingChatMessage message = new PendingChatMessage(chatMessageIdGenerator.nextId(), roomId, senderId, content, LocalDateTime.now(SEOUL), fromUser);
+        if (!writeBehind) {
+            save(List.of(message));
+            writtenCounter.increment();
+            return message;
+        }
+
+        Entry entry = new Entry(message, awaitFlush ? new CompletableFuture<>() : null);
+        if (!offer(entry)) {
+            // 저장이 밀려 큐가 가득 차면 보내는 쪽을 늦춰서라도 유실하지 않는다
+            queueFullCounter.increment();
+            save(List.of(message));
+            writtenCounter.increment();
+            return message;
+        }
+        if (entry.saved != null) {
+            await(entry.saved);
+        }
+        return message;
+    }
+
+    private boolean offer(Entry entry) {
+        try {
+            return running && queue.offer(entry, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void await(CompletableFuture<Void> saved) {
+        try {
+            saved.get(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GlobalException(GlobalErrorCode.CHAT_MESSAGE_NOT_SAVED, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new GlobalException(GlobalErrorCode.CHAT_MESSAGE_NOT_SAVED, e);
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Entry> batch) throws InterruptedException {
+        try {
+            flushTimer.record(() -> save(batch.stream().map(entry -> entry.message).collect(Collectors.toList())));
+            batch.forEach(this::saved);
+        } catch (DataIntegrityViolationException e) {
+            // 채팅방이 삭제되는 등 일부 메시지만 저장할 수 없는 경우 -> 한 건씩 저장해서 나머지는 살린다
+            log.warn("채팅 메시지 일괄 저장 실패, 한 건씩 다시 저장 : {}건, {}", batch.size(), e.getMessage());
+            batch.forEach(this::saveOne);
+        } catch (RuntimeException e) {
+            // DB 연결 끊김 등 일시적인 오류 -> 큐에 다시 넣고 잠시 쉰다
+            log.warn("채팅 메시지 저장 실패, 다시 시도 : {}건, {}", batch.size(), e.getMessage());
+            batch.forEach(entry -> retry(entry, e));
+            Thread.sleep(RETRY_DELAY_MILLIS);
+        }
+    }
+
+    private void saveOne(Entry entry) {
+        try {
+            save(List.of(entry.message));
+            saved(entry);
+        } catch (RuntimeException e) {
+            failed(entry, e);
+        }
+    }
+
+    private void retry(Entry entry, RuntimeException cause) {
+        if (++entry.attempts < MAX_ATTEMPTS && queue.offer(entry)) {
+            retriedCounter.increment();
+        } else {
+            failed(entry, cause);
+        }
+    }
+
+    private void save(List<PendingChatMessage> messages) {
+        transactionOperations.executeWithoutResult(status -> chatMessageBatchRepository.saveAll(messages));
+    }
+
+    private void saved(Entry entry) {
+        writtenCounter.increment();
+        lagTimer.record(System.nanoTime() - entry.enqueuedAt, TimeUnit.NANOSECONDS);
+        if (entry.saved != null) {
+            entry.saved.complete(null);
+        }
+    }
+
+    private void failed(Entry entry, RuntimeException cause) {
+        failedCounter.increment();
+        log.error("채팅 메시지 저장 실패 : id={}, roomId={}, {}", entry.message.getId(), entry.message.getRoomId(), cause.getMessage());
+        if (entry.saved != null) {
+            entry.saved.completeExceptionally(cause);
+        }
+    }
+
+    private double oldestLagSeconds() {
+        Entry oldest = queue.peek();
+        return oldest == null ? 0 : (System.nanoTime() - oldest.enqueuedAt) / 1_000_000_000.0;
+    }
+
+    private static class Entry {
+        private final PendingChatMessage message;
+        // await-flush 일 때만 (커밋되면 완료)
+        private final CompletableFuture<Void> saved;
+        private final long enqueuedAt = System.nanoTime();
+        private int attempts;
+
+        private Entry(PendingChatMessage message, CompletableFuture<Void> saved) {
+            this.message = message;
+            this.saved = saved;
+        }
+    }
+}
@@ -5,16 +5,17 @@ import com.example.lablink.domain.chat.entity.ChatMessage;
 import com.example.lablink.domain.chat.entity.ChatRoom;
 import com.example.lablink.domain.chat.repository.ChatMessageRepository;
 import com.example.lablink.domain.chat.repository.ChatRoomRepository;
+import com.example.lablink.domain.chat.security.ChatPrincipal;
+import com.example.lablink.domain.chat.security.ChatRoomMembership;
 import com.example.lablink.domain.company.entity.Company;
 import com.example.lablink.domain.study.entity.Study;
 import com.example.lablink.domain.study.service.GetStudyService;
 import com.example.lablink.domain.user.entity.User;
-import com.example.lablink.domain.user.service.UserService;
 import com.example.lablink.global.exception.GlobalErrorCode;
 import com.example.lablink.global.exception.GlobalException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,21 +24,24 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ChatService {
+    // 채팅방을 열 때 / 위로 스크롤할 때 한 번에 불러오는 메시지 수
+    private static final int HISTORY_SIZE = 30;
+    private static final int MAX_HISTORY_SIZE = 100;
+
     private final GetStudyService getStudyService;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final SimpMessageSendingOperations template;
-    private final UserService userService;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatMessageRelay chatMessageRelay;
+    private final ChatRoomMembership chatRoomMembership;
     @Transactional
-    public String enterRoom(Long studyId, String nickname) {
-        User user = userService.getUserByNickname(nickname);
+    public String enterRoom(Long studyId, User user) {
         Study study = getStudyService.getStudy(studyId);
         Company owner = study.getCompany();
         ChatRoom room = chatRoomRepository.findChatRoomByStudyAndUser(study, user).orElse(null);
@@ -49,76 +53,132 @@ public class ChatService {
     }
 
     // user
+    // done : 채팅방 목록은 ChatRoom 에 저장된 마지막 메시지 / 안 읽은 수로 한 번에 조회 (최근 대화 순)
+    //  roomId 가 없으면 가장 최근에 대화한 방을 연다
     @Transactional
     public MyChatRoomResponseDto findUserMessageHistory(String roomId, User user) {
+        List<ChatInboxDto> inbox = chatRoomRepository.findUserInbox(user.getId());
         if (roomId == null) {
-            List<String> rooms = chatMessageRepository.findRoomIdOfUsersLastChatMessage(user.getId());
-            if (rooms.size() > 0) {
-                roomId = rooms.get(0);
+            if (inbox.isEmpty()) {
+                return null;
             }
+            roomId = inbox.get(0).getRoomId();
+        }
+        ChatRoom room = chatRoomRepository.findByRoomId(roomId).orElseThrow(() -> new GlobalException(GlobalErrorCode.CHATROOM_NOT_FOUND));
+        ChatHistoryResponseDto history = findHistory(room, null, HISTORY_SIZE);
+        if (isUserOf(room, user)) {
+            chatRoomRepository.markReadByUser(room.getId());
         }
-        return roomId == null ? null : findUserMessageHistoryByRoomId(roomId, user);
+        return new MyChatRoomResponseDto(history.getMessages(), history.getBefore(), history.isHasNext(), toRoomListDtos(inbox, roomId));
     }
 
     // company
     @Transactional
     public MyChatRoomResponseDto findCompanyMessageHistory(String roomId, Company company) {
+        List<ChatInboxDto> inbox = chatRoomRepository.findCompanyInbox(company.getId());
         if (roomId == null) {
-            List<String> rooms = chatMessageRepository.findRoomIdOfCompanyLastChatMessage(company.getId());
-            if (rooms.size() > 0) {
-                roomId = rooms.get(0);
+            if (inbox.isEmpty()) {
+                return null;
             }
+            roomId = inbox.get(0).getRoomId();
         }
-        return roomId == null ? null : findCompanyMessageHistoryByRoomId(roomId, company);
+        ChatRoom room = chatRoomRepository.findByRoomId(roomId).orElseThrow(() -> new GlobalException(GlobalErrorCode.CHATROOM_NOT_FOUND));
+        ChatHistoryResponseDto history = findHistory(room, null, HISTORY_SIZE);
+        if (isOwnerOf(room, company)) {
+            chatRoomRepository.markReadByOwner(room.getId());
+        }
+        return new MyChatRoomResponseDto(history.getMessages(), history.getBefore(), history.isHasNext(), toRoomListDtos(inbox, roomId));
     }
 
-    // user
+    // 채팅 기록 (최신 size 개, before 가 있으면 그 이전 메시지) - 채팅방 참여자(유저, 기업)만 조회 가능
     @Transactional
-    public void saveMessage(ChatMessageDto message) {
-        User user = userService.getUserByNickname(message.getSender());
-        ChatRoom room = chatRoomRepository.findByRoomId(message.getRoomId()).orElseThrow(() -> new GlobalException(GlobalErrorCode.CHATROOM_NOT_FOUND));
-        ChatMessage chatMessage = new ChatMessage(user, message.getContent(), room);
-        chatMessageRepository.saveAndFlush(chatMessage);
-        ChatMessageResponseDto responseDto = new ChatMessageResponseDto(chatMessage.getRoom().getRoomId(), chatMessage.getSender().getNickName(), chatMessage.getContent(), changeDateFormat(chatMessage.getCreatedAt()));
-        template.convertAndSend("/sub/chat/room/" + message.getRoomId(), responseDto);
+    public ChatHistoryResponseDto findMessages(String roomId, Long before, int size, User user, Company company) {
+        if (user == null && company == null) {
+            throw new GlobalException(GlobalErrorCode.LOGIN_REQUIRED);
+        }
+        if (size < 1 || size > MAX_HISTORY_SIZE) {
+            throw new GlobalException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+        ChatRoom room = chatRoomRepository.findByRoomId(roomId).orElseThrow(() -> new GlobalException(GlobalErrorCode.CHATROOM_NOT_FOUND));
+        boolean isUser = isUserOf(room, user);
+        boolean isOwner = isOwnerOf(room, company);
+        if (!isUser && !isOwner) {
+            throw new GlobalException(GlobalErrorCode.NOT_HAVE_PERMISSION);
+        }
+        // 최신 페이지를 열면 읽음 처리
+        if (before == null) {
+            if (isUser) {
+                chatRoomRepository.markReadByUser(room.getId());
+            } else {
+                chatRoomRepository.markReadByOwner(room.getId());
+            }
+        }
+        return findHistory(room, before, size);
     }
 
-    // Company
-    private MyChatRoomResponseDto findCompanyMessageHistoryByRoomId(String roomId, Company company) {
-        ChatRoom room = chatRoomRepository.findByRoomId(roomId).orElseThrow(() -> new GlobalException(GlobalErrorCode.CHATROOM_NOT_FOUND));
-        List<MessageListDto> messages = chatMessageRepository.findAllByRoom(room).stream()
-                .map(m -> new MessageListDto(m.getSender().getNickName(), m.getContent(), m.getRoom().getRoomId(), changeDateFormat(m.getCreatedAt()))).toList();
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllChatRoomByCompany(company);
-        Map<Long, ChatMessage> lastMessageMap = chatMessageRepository.findLastMessageByRooms(chatRooms).stream()
-                .collect(Collectors.toMap(m -> m.getRoom().getId(), m -> m));
-        List<RoomListDto> rooms = new ArrayList<>();
-        for (ChatRoom chatRoom : chatRooms) {
-            boolean target = chatRoom.getRoomId().equals(roomId);
-            User other = chatRoom.getUser();
-            ChatMessage lastMsg = lastMessageMap.get(chatRoom.getId());
-            String lastMessage = lastMsg != null ? lastMsg.getContent() : null;
-            rooms.add(new RoomListDto(chatRoom.getRoomId(), other.getNickName(), null, lastMessage, target));
+    // user
+    // done : id / 시각은 ChatMessageWriter 가 바로 발급하므로 저장(write-behind 면 큐에 넣기만)을 기다리지 않고 전송
+    //  트랜잭션을 열지 않는다 (await-flush 로 커밋을 기다리는 동안 커넥션을 잡고 있지 않도록)
+    // done : 보낸 사람은 CONNECT 때 세션에 고정된 사용자 (메시지마다 사용자를 조회하지 않음)
+    //  채팅방 참여자 확인도 세션에서 채팅방마다 처음 한 번만 (채팅방이 삭제되면 ChatRoomMembership 이 세션의 기록을 지운다)
+    public void saveMessage(ChatMessageDto message, ChatPrincipal sender) {
+        // todo : 기업 메시지 (ChatMessage.sender 가 User 라 아직 저장할 수 없음)
+        if (sender == null || !sender.isUser()) {
+            throw new GlobalException(GlobalErrorCode.NOT_HAVE_PERMISSION);
         }
-        return new MyChatRoomResponseDto(messages, rooms);
+        Long chatRoomId = chatRoomMembership.join(message.getRoomId(), sender);
+        PendingChatMessage chatMessage = chatMessageWriter.write(chatRoomId, sender.getId(), message.getContent(), true);
+        ChatMessageResponseDto responseDto = new ChatMessageResponseDto(message.getRoomId(), sender.getNickname(), chatMessage.getContent(),
+                changeDateFormat(chatMessage.getCreatedAt().format(ChatMessage.CREATED_AT_FORMATTER)), chatMessage.getId());
+        // 다른 서버에 연결된 구독자에게도 전달되도록 Redis 로 relay
+        chatMessageRelay.publish(responseDto);
     }
 
-    // User
-    private MyChatRoomResponseDto findUserMessageHistoryByRoomId(String roomId, User user) {
-        ChatRoom room = chatRoomRepository.findByRoomId(roomId).orElseThrow(() -> new GlobalException(GlobalErrorCode.CHATROOM_NOT_FOUND));
-        List<MessageListDto> messages = chatMessageRepository.findAllByRoom(room).stream()
-                .map(m -> new MessageListDto(m.getSender().getNickName(), m.getContent(), m.getRoom().getRoomId(), changeDateFormat(m.getCreatedAt()))).toList();
-        List<ChatRoom> chatRooms = chatRoomRepository.findAllChatRoomByUser(user);
-        Map<Long, ChatMessage> lastMessageMap = chatMessageRepository.findLastMessageByRooms(chatRooms).stream()
-                .collect(Collectors.toMap(m -> m.getRoom().getId(), m -> m));
-        List<RoomListDto> rooms = new ArrayList<>();
-        for (ChatRoom chatRoom : chatRooms) {
+    // 지금 열린 방은 방금 읽음 처리했으므로 안 읽은 수 0
+    private List<RoomListDto> toRoomListDtos(List<ChatInboxDto> inbox, String roomId) {
+        List<RoomListDto> rooms = new ArrayList<>(inbox.size());
+        for (ChatInboxDto chatRoom : inbox) {
             boolean target = chatRoom.getRoomId().equals(roomId);
-            Company other = chatRoom.getOwner();
-            ChatMessage lastMsg = lastMessageMap.get(chatRoom.getId());
-            String lastMessage = lastMsg != null ? lastMsg.getContent() : null;
-            rooms.add(new RoomListDto(chatRoom.getRoomId(), other.getCompanyName(), other.getLogoUrl(), lastMessage, target));
+            String lastMessageAt = chatRoom.getLastMessageAt() == null ? null : changeDateFormat(chatRoom.getLastMessageAt().format(ChatMessage.CREATED_AT_FORMATTER));
+            rooms.add(new RoomListDto(chatRoom.getRoomId(), chatRoom.getNickname(), chatRoom.getProfile(), chatRoom.getLastMessage(),
+                    lastMessageAt, target ? 0 : chatRoom.getUnreadCount(), target));
+        }
+        return rooms;
+    }
+
+    private boolean isUserOf(ChatRoom room, User user) {
+        return user != null && room.getUser() != null && Objects.equals(room.getUser().getId(), user.getId());
+    }
+
+    private boolean isOwnerOf(ChatRoom room, Company company) {
+        return company != null && room.getOwner() != null && Objects.equals(room.getOwner().getId(), company.getId());
+    }
+
+    // 최신 size 개 (before 가 있으면 그 이전), 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+    private ChatHistoryResponseDto findHistory(ChatRoom room, Long before, int size) {
+        List<ChatMessage> found = findRecentMessages(room, before, size + 1);
+        boolean hasNext = found.size() > size;
+        List<ChatMessage> page = hasNext ? found.subList(0, size) : found;
+        Long nextBefore = hasNext ? page.get(page.size() - 1).getId() : null;
+        return new ChatHistoryResponseDto(toMessageListDtos(page), nextBefore, hasNext);
+    }
+
+    // 최신순으로 limit 개 조회
+    private List<ChatMessage> findRecentMessages(ChatRoom room, Long before, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        return before == null
+                ? chatMessageRepository.findRecentMessages(room, pageRequest)
+                : chatMessageRepository.findMessagesBefore(room, before, pageRequest);
+    }
+
+    // 최신순으로 조회한 메시지를 화면에 보여줄 순서(오래된 순)로 변환
+    private List<MessageListDto> toMessageListDtos(List<ChatMessage> newestFirst) {
+        List<MessageListDto> messages = new ArrayList<>(newestFirst.size());
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            ChatMessage m = newestFirst.get(i);
+            messages.add(new MessageListDto(m.getId(), m.getSender().getNickName(), m.getContent(), m.getRoom().getRoomId(), changeDateFormat(m.getCreatedAt())));
         }
-        return new MyChatRoomResponseDto(messages, rooms);
+        return messages;
     }
 
     private String changeDateFormat(String createdAt) {
@@ -129,7 +189,9 @@ public class ChatService {
     }
 
     public void deleteByStudyId(Long studyId) {
+        List<String> roomIds = chatRoomRepository.findRoomIdsByStudyId(studyId);
         chatRoomRepository.deleteByStudyId(studyId);
+        roomIds.forEach(chatRoomMembership::evict);
     }
 
     public void deleteMessagesByStudyId(Long studyId) {
@@ -143,5 +205,6 @@ public class ChatService {
             chatMessageRepository.deleteByRoom(room);
         }
         chatRoomRepository.deleteById(room.getId());
+        chatRoomMembership.evict(roomId);
     }
 }
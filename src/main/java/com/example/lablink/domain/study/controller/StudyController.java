@@ -4,6 +4,8 @@ import com.example.lablink.domain.company.security.CompanyDetailsImpl;
 import com.example.lablink.domain.study.dto.StudySearchOption;
 import com.example.lablink.domain.study.dto.requestDto.StudyRequestDto;
 import com.example.lablink.domain.study.dto.responseDto.LatestSearchKeyword;
+import com.example.lablink.domain.study.dto.responseDto.StudyResponseDto;
+import com.example.lablink.domain.study.dto.responseDto.StudySearchResponseDto;
 import com.example.lablink.domain.study.service.StudySearchService;
 import com.example.lablink.domain.study.service.StudyService;
 import com.example.lablink.domain.user.security.UserDetailsImpl;
@@ -46,18 +48,44 @@ public class StudyController {
             @RequestParam(defaultValue = "0") int pageIndex,
             @RequestParam(defaultValue = "10") int pageCount,
             @RequestParam(required = false) String sortedType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
             @AuthenticationPrincipal UserDetailsImpl userDetails, @AuthenticationPrincipal CompanyDetailsImpl companyDetails) {
         // searchOption 객체를 사용하여 검색 조건을 처리합니다.
         // pageIndex와 pageCount 파라미터는 기본값을 설정하여 받습니다.
-        return ResponseMessage.SuccessResponse("조회 성공",
-                studySearchService.getStudies(searchOption, searchOption.getKeyword(), pageIndex, pageCount, sortedType, userDetails, companyDetails));
+        // cursor 파라미터가 있으면 (첫 페이지는 빈 값) pageIndex 대신 커서 기반으로 조회합니다.
+        // facets=true 면 category / 성별 / 연령대 / 지역 별 공고 수를 함께 내려줍니다.
+        // lat, lng 가 있으면 반경 radiusKm 안의 공고를 가까운 순으로 조회합니다.
+        if (lat != null && lng != null) {
+            return ResponseMessage.SuccessResponse("조회 성공",
+                    studySearchService.getNearbyStudies(lat, lng, radiusKm, pageIndex, pageCount, userDetails, companyDetails));
+        }
+        if (cursor != null) {
+            return ResponseMessage.SuccessResponse("조회 성공",
+                    studySearchService.getStudiesByCursor(searchOption, cursor, pageCount, sortedType, facets, userDetails, companyDetails));
+        }
+        List<StudyResponseDto> studies = studySearchService.getStudies(searchOption, searchOption.getKeyword(), pageIndex, pageCount, sortedType, userDetails, companyDetails);
+        if (facets) {
+            return ResponseMessage.SuccessResponse("조회 성공", new StudySearchResponseDto(studies, studySearchService.getFacets(searchOption)));
+        }
+        return ResponseMessage.SuccessResponse("조회 성공", studies);
     }
 
     // done : ResponseEntity로
     // done : 최근 검색 기록 삭제 기능 추가
+    // window : hour(최근 1시간), day(24시간, 기본값), week(7일), all(누적)
     @GetMapping("/search/rank")
-    public ResponseEntity searchRankList(){
-        return ResponseMessage.SuccessResponse("인기 검색어 조회 성공", studySearchService.searchRankList());
+    public ResponseEntity searchRankList(@RequestParam(defaultValue = "day") String window){
+        return ResponseMessage.SuccessResponse("인기 검색어 조회 성공", studySearchService.searchRankList(window));
+    }
+
+    // 검색어 자동완성 (입력한 접두어로 시작하는 공고 제목 / 인기 검색어, 인기순 최대 10개)
+    @GetMapping("/search/suggest")
+    public ResponseEntity suggest(@RequestParam String keyword, @RequestParam(defaultValue = "10") int size){
+        return ResponseMessage.SuccessResponse("자동완성 조회 성공", studySearchService.suggest(keyword, size));
     }
 
     @GetMapping("/search/latest")
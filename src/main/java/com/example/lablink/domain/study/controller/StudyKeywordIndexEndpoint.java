@@ -0,0 +1,30 @@
+package com.example.lablink.domain.study.controller;
+
+import com.example.lablink.domain.study.service.StudyKeywordIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 운영용 공고 검색 색인 현황 (GET)
+// management.endpoints.web.exposure.include 에 studyindex 를 추가해야 노출된다 (관리 포트에서만 접근 가능)
+// 전체 재색인은 스케줄러 / StudyIndexSynchronizer.rebuild 로만 한다 (웹으로 노출하지 않음)
+// 인메모리 색인(study.search.engine=memory)을 쓸 때만 등록
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "study.search.engine", havingValue = "memory", matchIfMissing = true)
+@Endpoint(id = "studyindex")
+public class StudyKeywordIndexEndpoint {
+    private final StudyKeywordIndex studyKeywordIndex;
+
+    @ReadOperation
+    public Map<String, Integer> status() {
+        return Map.of(
+                "studies", studyKeywordIndex.size(),
+                "grams", studyKeywordIndex.gramCount()
+        );
+    }
+}
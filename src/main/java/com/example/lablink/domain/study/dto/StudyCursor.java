@@ -0,0 +1,110 @@
+package com.example.lablink.domain.study.dto;
+
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+// 무한 스크롤용 커서 (마지막으로 내려준 공고의 정렬 기준 값 + id)
+// 클라이언트에는 Base64로 인코딩된 문자열로만 내려준다
+@Getter
+@AllArgsConstructor
+public class StudyCursor {
+    // 커서 모드 (어떤 정렬/검색에서 발급된 커서인지)
+    public static final String KEYWORD = "keyword";
+    public static final String SEARCH = "search";
+    public static final String POPULARITY = "popularity";
+    public static final String PAY = "pay";
+    public static final String LATEST = "latest";
+    // 마감 임박순 (모집 중인 공고만, endDate 오름차순)
+    public static final String ENDING_SOON = "ending";
+    // 인기순 (조회수에 시간 감쇠를 적용한 점수, StudySortIndex)
+    // 점수가 계속 바뀌어서 커서로 이어 읽을 수 없으므로 페이지 조회에서만 지원 (커서 조회는 최신순)
+    public static final String HOT = "hot";
+
+    private static final String DELIMITER = "|";
+
+    private final String mode;
+    private final String sortKey;
+    private final Long id;
+
+    // 검색 조건과 정렬 조건으로 커서 모드 결정 (기존 getStudies 의 우선순위와 동일 : 키워드 > 상세 검색 > 정렬)
+    public static String modeOf(StudySearchOption searchOption, String sortedType) {
+        if (searchOption.getKeyword() != null) return KEYWORD;
+        if (searchOption.hasValue()) return SEARCH;
+        if (Objects.equals(sortedType, POPULARITY)) return POPULARITY;
+        if (Objects.equals(sortedType, PAY)) return PAY;
+        if (Objects.equals(sortedType, ENDING_SOON)) return ENDING_SOON;
+        return LATEST;
+    }
+
+    public static StudyCursor of(String mode, StudyListDto study) {
+        String sortKey;
+        switch (mode) {
+            case POPULARITY:
+                sortKey = String.valueOf(study.getCurrentApplicantCount());
+                break;
+            case PAY:
+                sortKey = String.valueOf(study.getPay());
+                break;
+            case KEYWORD:
+                sortKey = String.valueOf(study.getId());
+                break;
+            case ENDING_SOON:
+                sortKey = study.getEndDate().toString();
+                break;
+            default:
+                sortKey = study.getCreatedAt().toString();
+        }
+        return new StudyCursor(mode, sortKey, study.getId());
+    }
+
+    // 키워드 검색 커서 (검색 결과 id 로 이어 읽는다)
+    public static StudyCursor ofKeyword(Long id) {
+        return new StudyCursor(KEYWORD, String.valueOf(id), id);
+    }
+
+    // 빈 문자열이면 첫 페이지 (null 반환)
+    public static StudyCursor decode(String cursor, String mode) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 3 || !parts[0].equals(mode)) {
+                throw new GlobalException(GlobalErrorCode.INVALID_CURSOR);
+            }
+            return new StudyCursor(parts[0], parts[1], Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new GlobalException(GlobalErrorCode.INVALID_CURSOR, e);
+        }
+    }
+
+    public String encode() {
+        String raw = mode + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int getSortKeyAsInt() {
+        try {
+            return Integer.parseInt(sortKey);
+        } catch (NumberFormatException e) {
+            throw new GlobalException(GlobalErrorCode.INVALID_CURSOR, e);
+        }
+    }
+
+    public LocalDateTime getSortKeyAsDateTime() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new GlobalException(GlobalErrorCode.INVALID_CURSOR, e);
+        }
+    }
+}
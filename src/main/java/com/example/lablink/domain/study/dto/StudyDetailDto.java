@@ -0,0 +1,54 @@
+package com.example.lablink.domain.study.dto;
+
+import com.example.lablink.domain.study.entity.CategoryEnum;
+import com.example.lablink.domain.study.entity.Study;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 공고 상세 중 로그인 정보와 무관한 부분 (StudyDetailService 캐시)
+// 북마크/지원 여부는 StudyDetailResponseDto 를 만들 때 덧씌운다
+@Getter
+@NoArgsConstructor
+public class StudyDetailDto {
+    private Long id;
+    private String title;
+    private String studyInfo;
+    private String description;
+    private String benefit;
+    private CategoryEnum category;
+    private LocalDateTime date;
+    private String address;
+    private int pay;
+    private String subjectGender;
+    private int subjectMinAge;
+    private int subjectMaxAge;
+    private LocalDateTime endDate;
+    private String thumbnailImageURL;
+    private String detailImageURL;
+    private int currentApplicantCount;
+    private Integer maxApplicants;
+    private String companyName;
+
+    public StudyDetailDto(Study study) {
+        this.id = study.getId();
+        this.title = study.getTitle();
+        this.studyInfo = study.getStudyInfo();
+        this.description = study.getDescription();
+        this.benefit = study.getBenefit();
+        this.category = study.getCategory();
+        this.date = study.getDate();
+        this.address = study.getAddress();
+        this.pay = study.getPay();
+        this.subjectGender = study.getSubjectGender();
+        this.subjectMinAge = study.getSubjectMinAge();
+        this.subjectMaxAge = study.getSubjectMaxAge();
+        this.endDate = study.getEndDate();
+        this.thumbnailImageURL = study.getThumbnailImageURL();
+        this.detailImageURL = study.getDetailImageURL();
+        this.currentApplicantCount = study.getCurrentApplicantCount();
+        this.maxApplicants = study.getMaxApplicants();
+        this.companyName = study.getCompany().getCompanyName();
+    }
+}
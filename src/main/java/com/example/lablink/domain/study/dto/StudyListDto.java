@@ -0,0 +1,30 @@
+package com.example.lablink.domain.study.dto;
+
+import com.example.lablink.domain.study.entity.CategoryEnum;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 공고 목록 조회용 projection (StudySearchQueryRepository)
+// Study 엔티티 대신 목록에 필요한 컬럼 + 회사명만 조회한다 (description, Company 엔티티 로딩 X)
+// currentApplicantCount, createdAt, endDate 는 커서(StudyCursor) 생성 및 정렬 색인(StudySortIndex)용
+// 목록 캐시(StudyListService)에 그대로 저장되므로 역직렬화용 기본 생성자 필요
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyListDto {
+    private Long id;
+    private String title;
+    private CategoryEnum category;
+    private LocalDateTime date;
+    private String address;
+    private int pay;
+    private StudyStatusEnum status;
+    private String companyName;
+    private int currentApplicantCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime endDate;
+}
@@ -0,0 +1,13 @@
+package com.example.lablink.domain.study.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 위치 색인 재생성용 (StudyGeoIndex)
+@Getter
+@AllArgsConstructor
+public class StudyLocationDto {
+    private final Long id;
+    private final Double latitude;
+    private final Double longitude;
+}
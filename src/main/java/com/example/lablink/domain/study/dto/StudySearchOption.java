@@ -21,6 +21,18 @@ public class StudySearchOption {
     private String age;
     private String keyword;
 
+    // 패싯 집계용 : 키워드를 제외한 필터 조건 복사
+    public StudySearchOption copyFilters() {
+        StudySearchOption copy = new StudySearchOption();
+        copy.setCategory(category);
+        copy.setAddress(address);
+        copy.setSearchTime(searchTime);
+        copy.setSearchDate(searchDate);
+        copy.setGender(gender);
+        copy.setAge(age);
+        return copy;
+    }
+
     // 사용자 정의 메서드
     public boolean hasValue() {
         return category != null || address != null || searchDate != null || searchTime != null || gender != null || age != null || keyword != null;
@@ -0,0 +1,14 @@
+package com.example.lablink.domain.study.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 공고 상세의 사용자별 값 (북마크 여부, 지원 여부)
+@Getter
+@AllArgsConstructor
+public class StudyUserFlagsDto {
+    public static final StudyUserFlagsDto NONE = new StudyUserFlagsDto(false, false);
+
+    private final boolean bookmarked;
+    private final boolean applied;
+}
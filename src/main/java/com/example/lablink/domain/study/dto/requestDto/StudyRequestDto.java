@@ -57,6 +57,13 @@ public class StudyRequestDto {
     @DateTimeFormat(pattern = "yyyy-MM-dd HH:mm")
     private LocalDateTime endDate;
 
+    // 최대 지원자 수 (없으면 제한 없음)
+    @Min(value = 1, message = "최대 지원자 수는 1 이상이어야 합니다.")
+    private Integer maxApplicants;
+
+    // 수정 시 true 면 최대 지원자 수 제한을 없앤다 (maxApplicants 를 비우면 기존 값 유지)
+    private boolean clearMaxApplicants;
+
     MultipartFile thumbnailImage;
     MultipartFile detailImage;
 }
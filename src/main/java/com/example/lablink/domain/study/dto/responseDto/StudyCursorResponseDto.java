@@ -0,0 +1,15 @@
+package com.example.lablink.domain.study.dto.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class StudyCursorResponseDto {
+    private final List<StudyResponseDto> studies;
+    private final String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private final boolean hasNext;
+    private final StudyFacetsDto facets; // facets=true 인 첫 페이지에만 포함
+}
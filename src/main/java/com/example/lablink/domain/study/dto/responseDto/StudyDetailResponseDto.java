@@ -1,5 +1,7 @@
 package com.example.lablink.domain.study.dto.responseDto;
 
+import com.example.lablink.domain.study.dto.StudyDetailDto;
+import com.example.lablink.domain.study.dto.StudyUserFlagsDto;
 import com.example.lablink.domain.study.entity.CategoryEnum;
 import com.example.lablink.domain.study.entity.Study;
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -34,9 +36,34 @@ public class StudyDetailResponseDto {
 
     private final boolean isbookmarked;
     private final int currentApplicantCount;
+    private final Integer maxApplicants;
     private final String companyName;
     private final boolean isapplied;
 
+    // 캐시된 상세 + 사용자별 값
+    public StudyDetailResponseDto(StudyDetailDto study, StudyUserFlagsDto flags) {
+        this.id = study.getId();
+        this.title = study.getTitle();
+        this.studyInfo = study.getStudyInfo();
+        this.description = study.getDescription();
+        this.benefit = study.getBenefit();
+        this.category = study.getCategory();
+        this.date = study.getDate();
+        this.address = study.getAddress();
+        this.pay = study.getPay();
+        this.subjectGender = study.getSubjectGender();
+        this.subjectMinAge = study.getSubjectMinAge();
+        this.subjectMaxAge = study.getSubjectMaxAge();
+        this.endDate = study.getEndDate();
+        this.thumbnailImageURL = study.getThumbnailImageURL();
+        this.detailImageURL = study.getDetailImageURL();
+        this.isbookmarked = flags.isBookmarked();
+        this.currentApplicantCount = study.getCurrentApplicantCount();
+        this.maxApplicants = study.getMaxApplicants();
+        this.companyName = study.getCompanyName();
+        this.isapplied = flags.isApplied();
+    }
+
     public StudyDetailResponseDto(Study study, boolean isbookmarked, boolean isapplied) {
         this.id = study.getId();
         this.title = study.getTitle();
@@ -55,6 +82,7 @@ public class StudyDetailResponseDto {
         this.detailImageURL = study.getDetailImageURL();
         this.isbookmarked = isbookmarked;
         this.currentApplicantCount = study.getCurrentApplicantCount();
+        this.maxApplicants = study.getMaxApplicants();
         this.companyName = study.getCompany().getCompanyName();
         this.isapplied = isapplied;
     }
@@ -0,0 +1,20 @@
+package com.example.lablink.domain.study.dto.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// 검색 결과 패싯 (필터 값 -> 공고 수)
+// 각 패싯은 자기 자신을 제외한 나머지 필터만 적용해서 센다 (ex. category 를 ONLINE 으로 골라도 OFFLINE 개수를 보여줌)
+// 캐시(StudyFacetService)에 저장되므로 역직렬화용 기본 생성자 필요
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyFacetsDto {
+    private Map<String, Long> category;
+    private Map<String, Long> gender;
+    private Map<String, Long> age;      // 연령대 시작 나이 -> 공고 수 (모집 연령 범위가 겹치는 연령대마다 집계)
+    private Map<String, Long> region;   // 시/도 -> 공고 수
+}
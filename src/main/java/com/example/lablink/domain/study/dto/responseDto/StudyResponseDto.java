@@ -1,9 +1,11 @@
 package com.example.lablink.domain.study.dto.responseDto;
 
+import com.example.lablink.domain.study.dto.StudyListDto;
 import com.example.lablink.domain.study.entity.CategoryEnum;
 import com.example.lablink.domain.study.entity.Study;
 import com.example.lablink.domain.study.entity.StudyStatusEnum;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import org.springframework.format.annotation.DateTimeFormat;
 
@@ -27,6 +29,9 @@ public class StudyResponseDto {
     private final String companyName;
     private final boolean isbookmarked;
 //    private final boolean isappliend;
+    // 내 주변 검색일 때만 (km)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Double distance;
 
     public StudyResponseDto(Study study, boolean isbookmarked/*, boolean isapplied*/) {
         this.id = study.getId();
@@ -39,5 +44,25 @@ public class StudyResponseDto {
         this.studyStatusEnum = study.getStatus();
         this.isbookmarked = isbookmarked;
 //        this.isappliend = isapplied;
+        this.distance = null;
+    }
+
+    // 목록 조회 (projection)
+    public StudyResponseDto(StudyListDto study, boolean isbookmarked) {
+        this(study, isbookmarked, null);
+    }
+
+    // 내 주변 검색 (거리 포함)
+    public StudyResponseDto(StudyListDto study, boolean isbookmarked, Double distance) {
+        this.id = study.getId();
+        this.title = study.getTitle();
+        this.category = study.getCategory();
+        this.date = study.getDate();
+        this.pay = study.getPay();
+        this.address = study.getAddress();
+        this.companyName = study.getCompanyName();
+        this.studyStatusEnum = study.getStatus();
+        this.isbookmarked = isbookmarked;
+        this.distance = distance;
     }
 }
@@ -0,0 +1,14 @@
+package com.example.lablink.domain.study.dto.responseDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 페이지 조회 + 패싯 (facets=true 일 때)
+@Getter
+@AllArgsConstructor
+public class StudySearchResponseDto {
+    private final List<StudyResponseDto> studies;
+    private final StudyFacetsDto facets;
+}
@@ -19,6 +19,11 @@ import java.util.Objects;
 @NoArgsConstructor
 @Where(clause = "deleted_at IS NULL")
 @SQLDelete(sql = "UPDATE study SET deleted_at = CONVERT_TZ(now(), 'UTC', 'Asia/Seoul') WHERE id = ?")
+@Table(name = "study",
+        indexes = {@Index(name = "index_created_at_id", columnList = "created_at, id"),
+                @Index(name = "index_pay_id", columnList = "pay, id"),
+                @Index(name = "index_current_applicant_count_id", columnList = "current_applicant_count, id"),
+                @Index(name = "index_end_date_id", columnList = "end_date, id")})
 public class Study extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -82,6 +87,21 @@ public class Study extends Timestamped {
     @Column(nullable = false)
     private int currentApplicantCount; // 지원자 현황
 
+    // 최대 지원자 수 (null 이면 제한 없음, ApplicationSeatReservation)
+    @Column(nullable = true)
+    private Integer maxApplicants;
+
+    // 조회수 (StudyViewCounter 가 모아서 주기적으로 더한다)
+    @Column(nullable = false)
+    private long viewCount;
+
+    // 주소를 geocoder 로 변환한 좌표 (변환하지 못하면 null)
+    @Column(nullable = true)
+    private Double latitude;
+
+    @Column(nullable = true)
+    private Double longitude;
+
     public Study(String title, String studyInfo, String description, String benefit,
                  LocalDateTime date, String address, int pay, String subjectGender,
                  int subjectMinAge, int subjectMaxAge, LocalDateTime endDate,
@@ -117,12 +137,17 @@ public class Study extends Timestamped {
         this.status = status;
     }
 
-    public void updateEmailSend() {
-        this.emailSend = true;
+    public void updateMaxApplicants(Integer maxApplicants) {
+        this.maxApplicants = maxApplicants;
     }
 
-    public void updateCurrentApplicantCount() {
-        ++this.currentApplicantCount;
+    public void updateLocation(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public void updateEmailSend() {
+        this.emailSend = true;
     }
 
     public void deleteThumbnail(){
@@ -0,0 +1,84 @@
+package com.example.lablink.domain.study.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+// MySQL FULLTEXT 검색 (ngram parser)
+// ngram parser 는 ngram_token_size(기본 2) 단위로 색인하기 때문에 한글 부분 일치 검색이 가능하다
+@Slf4j
+@RequiredArgsConstructor
+public class FullTextStudyKeywordSearchEngine implements StudyKeywordSearchEngine {
+    private static final String INDEX_NAME = "ft_study_keyword";
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final String MATCH = "MATCH(title, study_info, description) AGAINST (:keyword IN BOOLEAN MODE)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    // ngram 보다 짧은 검색어는 FULLTEXT 로 찾을 수 없으므로 LIKE 로 검색
+    private final StudyKeywordSearchEngine fallback;
+
+    // ddl-auto 로는 FULLTEXT 인덱스가 만들어지지 않으므로 서버 시작 시 없으면 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfAbsent() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = 'study' AND index_name = :indexName",
+                new MapSqlParameterSource("indexName", INDEX_NAME), Integer.class);
+        if (count != null && count > 0) {
+            return;
+        }
+        log.info("공고 FULLTEXT 인덱스 생성 : {}", INDEX_NAME);
+        jdbcTemplate.getJdbcTemplate().execute(
+                "ALTER TABLE study ADD FULLTEXT INDEX " + INDEX_NAME + " (title, study_info, description) WITH PARSER ngram");
+    }
+
+    @Override
+    public List<Long> search(String keyword, int pageIndex, int pageCount) {
+        if (isShorterThanToken(keyword)) {
+            return fallback.search(keyword, pageIndex, pageCount);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keyword", toPhrase(keyword))
+                .addValue("limit", pageCount)
+                .addValue("offset", pageIndex * pageCount);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM study WHERE deleted_at IS NULL AND " + MATCH +
+                        " ORDER BY " + MATCH + " DESC, id DESC LIMIT :limit OFFSET :offset",
+                params, Long.class);
+    }
+
+    @Override
+    public List<Long> search(String keyword, Long beforeId, int limit) {
+        if (isShorterThanToken(keyword)) {
+            return fallback.search(keyword, beforeId, limit);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("keyword", toPhrase(keyword))
+                .addValue("beforeId", beforeId)
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM study WHERE deleted_at IS NULL AND " + MATCH +
+                        (beforeId == null ? "" : " AND id < :beforeId") +
+                        " ORDER BY id DESC LIMIT :limit",
+                params, Long.class);
+    }
+
+    // 기존 LIKE 검색처럼 입력한 문자열이 그대로 들어간 공고만 찾도록 구문 검색("...")으로 감싼다
+    static String toPhrase(String keyword) {
+        return "\"" + keyword.replace("\"", " ").trim() + "\"";
+    }
+
+    private boolean isShorterThanToken(String keyword) {
+        for (String word : keyword.trim().split("\\s+")) {
+            if (word.length() < NGRAM_TOKEN_SIZE) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.lablink.domain.study.repository;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 기존 QueryDSL LIKE 검색 (title, studyInfo, description)
+@RequiredArgsConstructor
+public class LikeStudyKeywordSearchEngine implements StudyKeywordSearchEngine {
+    private final StudySearchQueryRepository studySearchQueryRepository;
+
+    @Override
+    public List<Long> search(String keyword, int pageIndex, int pageCount) {
+        return studySearchQueryRepository.searchStudyIdsByKeyword(keyword, pageIndex, pageCount);
+    }
+
+    @Override
+    public List<Long> search(String keyword, Long beforeId, int limit) {
+        return studySearchQueryRepository.searchStudyIdsByKeyword(keyword, beforeId, limit);
+    }
+}
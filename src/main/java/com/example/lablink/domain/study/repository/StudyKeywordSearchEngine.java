@@ -0,0 +1,25 @@
+package com.example.lablink.domain.study.repository;
+
+import com.example.lablink.domain.study.entity.Study;
+
+import java.util.List;
+
+// 공고 키워드 검색 엔진 (study.search.engine 으로 선택)
+//  - memory   : 인메모리 n-gram 역색인 (기본값)
+//  - fulltext : MySQL FULLTEXT (ngram parser), H2 등 MySQL 이 아니면 like 로 대체
+//  - like     : QueryDSL LIKE 검색
+public interface StudyKeywordSearchEngine {
+
+    // 관련도순으로 pageIndex 페이지의 공고 id 반환
+    List<Long> search(String keyword, int pageIndex, int pageCount);
+
+    // 커서 기반 조회용 : beforeId 보다 작은 id 를 최신순으로 limit 개 반환 (beforeId 가 null 이면 첫 페이지)
+    List<Long> search(String keyword, Long beforeId, int limit);
+
+    // 공고 작성/수정/삭제 시 호출 (DB 에서 바로 검색하는 엔진은 할 일 없음)
+    default void index(Study study) {
+    }
+
+    default void remove(Long studyId) {
+    }
+}
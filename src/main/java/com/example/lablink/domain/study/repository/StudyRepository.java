@@ -3,13 +3,17 @@ package com.example.lablink.domain.study.repository;
 import com.example.lablink.domain.company.entity.Company;
 import com.example.lablink.domain.study.dto.StudySearchOption;
 import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,14 +26,31 @@ public interface StudyRepository extends JpaRepository<Study, Long> {
     Page<Study> findAllByOrderByCurrentApplicantCountDesc(Pageable pageable);
     List<Study> findAllByCompany(Company company);
 
-    @Query(value = "select * from study as s where s.end_date < now()", nativeQuery = true)
-    List<Study> getAllByEndDate();
+    // 좌표가 없는 공고 (StudyGeocodeBackfill, afterId 다음부터 pageable 크기만큼)
+    List<Study> findByIdGreaterThanAndLatitudeIsNullOrderByIdAsc(Long afterId, Pageable pageable);
+
+    // 자동 마감 대상 (StudyCloseQueue.closeOverdue, 한 번에 pageable 크기만큼)
+    @Query("SELECT s.id FROM Study s WHERE s.status = :status AND s.endDate < :now ORDER BY s.id")
+    List<Long> findIdsByStatusAndEndDateBefore(@Param("status") StudyStatusEnum status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 마감 처리 (모집 중이고 마감 시각이 지난 공고만, 그 사이 수정된 공고는 건너뛴다)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Study s SET s.status = :closed WHERE s.id IN :studyIds AND s.status = :ongoing AND s.endDate <= :now")
+    int closeStudies(@Param("studyIds") List<Long> studyIds, @Param("ongoing") StudyStatusEnum ongoing,
+                     @Param("closed") StudyStatusEnum closed, @Param("now") LocalDateTime now);
+
+    // 지원자 수 +1 (엔티티를 읽어서 더하면 동시에 지원할 때 값이 유실되므로 DB 에서 바로 더한다)
+    @Modifying
+    @Query("UPDATE Study s SET s.currentApplicantCount = s.currentApplicantCount + 1 WHERE s.id = :studyId AND s.deletedAt IS NULL")
+    int incrementApplicantCount(@Param("studyId") Long studyId);
 
     // done : 방금 올린 공고 못 찾는 이슈 해결 ..
 //    @Query(value = "ALTER TABLE study ADD FULLTEXT key (title, study_info, study_purpose, study_action)", nativeQuery = true);
+    // FULLTEXT 인덱스는 FullTextStudyKeywordSearchEngine 에서 서버 시작 시 생성 (study.search.engine=fulltext)
 
 
-    // todo : offset -> limit, lastid로 바꿔주기
+    // done : offset -> limit, lastid로 바꿔주기 (StudySearchQueryRepository 커서 기반 조회)
     //  offset은 fullscan이기 때문에 성능 저하를 일으킨다
     //  무한스크롤시 몇번째 페이지로 이동이 없기 때문에 굳이 fullscan을 할 필요 없음
     @Query(value = "SELECT * FROM study " +
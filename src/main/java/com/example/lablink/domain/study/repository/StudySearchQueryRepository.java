@@ -1,15 +1,40 @@
 package com.example.lablink.domain.study.repository;
 
+import com.example.lablink.domain.application.entity.QApplication;
+import com.example.lablink.domain.bookmark.entity.QBookmark;
+import com.example.lablink.domain.company.entity.QCompany;
+import com.example.lablink.domain.study.dto.StudyCursor;
+import com.example.lablink.domain.study.dto.StudyListDto;
+import com.example.lablink.domain.study.dto.StudyLocationDto;
 import com.example.lablink.domain.study.dto.StudySearchOption;
+import com.example.lablink.domain.study.dto.StudyUserFlagsDto;
 import com.example.lablink.domain.study.entity.QStudy;
-import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
+import com.example.lablink.domain.user.entity.User;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Repository
@@ -21,10 +46,44 @@ public class StudySearchQueryRepository {
     }
 
     QStudy study = QStudy.study;
+    QCompany company = QCompany.company;
 
-    public List<Study> searchStudiesByKeyword(String keyword, int pageIndex, int pageCount) {
+    // 목록 조회는 모두 projection 으로 필요한 컬럼만 조회 (회사명은 join 한 번으로)
+    private JPAQuery<StudyListDto> selectStudyList() {
         return queryFactory
-                .selectFrom(study)
+                .select(Projections.constructor(StudyListDto.class,
+                        study.id,
+                        study.title,
+                        study.category,
+                        study.date,
+                        study.address,
+                        study.pay,
+                        study.status,
+                        company.companyName,
+                        study.currentApplicantCount,
+                        study.createdAt,
+                        study.endDate))
+                .from(study)
+                .join(study.company, company);
+    }
+
+    // 키워드 검색 엔진에서 찾은 id 로 목록 조회 (검색 엔진이 준 id 순서 유지)
+    public List<StudyListDto> findStudyListByIds(List<Long> studyIds) {
+        if (studyIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, StudyListDto> studyMap = selectStudyList()
+                .where(study.id.in(studyIds))
+                .fetch().stream()
+                .collect(Collectors.toMap(StudyListDto::getId, Function.identity()));
+        return studyIds.stream().map(studyMap::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    // LIKE 키워드 검색 엔진(LikeStudyKeywordSearchEngine)용, id 만 조회
+    public List<Long> searchStudyIdsByKeyword(String keyword, int pageIndex, int pageCount) {
+        return queryFactory
+                .select(study.id)
+                .from(study)
                 .where(
                         searchCondition(keyword)
                 )
@@ -34,6 +93,20 @@ public class StudySearchQueryRepository {
                 .fetch();
     }
 
+    // 커서 기반 키워드 검색 (id 내림차순이므로 id로 seek)
+    public List<Long> searchStudyIdsByKeyword(String keyword, Long beforeId, int limit) {
+        return queryFactory
+                .select(study.id)
+                .from(study)
+                .where(
+                        searchCondition(keyword),
+                        beforeId == null ? null : study.id.lt(beforeId)
+                )
+                .orderBy(study.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
     private BooleanExpression searchCondition(String keyword) {
         BooleanExpression titleCondition = keyword != null ? study.title.containsIgnoreCase(keyword) : null;
         BooleanExpression studyInfoCondition = keyword != null ?  study.studyInfo.containsIgnoreCase(keyword) : null;
@@ -45,7 +118,153 @@ public class StudySearchQueryRepository {
     }
 
 
-    public List<Study> searchStudies(StudySearchOption searchOption, int pageIndex, int pageCount) {
+    public List<StudyListDto> searchStudies(StudySearchOption searchOption, int pageIndex, int pageCount) {
+        return selectStudyList()
+                .where(searchOptionCondition(searchOption))
+                .orderBy(study.createdAt.desc())
+                .offset(pageIndex * pageCount)
+                .limit(pageCount)
+                .fetch();
+    }
+
+    // 커서 기반 상세 검색 (createdAt, id 로 seek)
+    public List<StudyListDto> searchStudies(StudySearchOption searchOption, StudyCursor cursor, int limit) {
+        return selectStudyList()
+                .where(searchOptionCondition(searchOption), createdAtCursorCondition(cursor))
+                .orderBy(study.createdAt.desc(), study.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 정렬 조회 (popularity, pay, latest, ending)
+    public List<StudyListDto> findSortedStudies(String mode, int pageIndex, int pageCount) {
+        return selectStudyList()
+                .where(endingSoonCondition(mode))
+                .orderBy(sortOrder(mode), idOrder(mode))
+                .offset(pageIndex * pageCount)
+                .limit(pageCount)
+                .fetch();
+    }
+
+    // 커서 기반 정렬 조회 (popularity, pay, latest, ending)
+    // offset 대신 (정렬 기준 값, id) 보다 뒤에 있는 행만 읽기 때문에 뒤 페이지로 갈수록 느려지지 않는다
+    public List<StudyListDto> findSortedStudies(String mode, StudyCursor cursor, int limit) {
+        return selectStudyList()
+                .where(endingSoonCondition(mode), sortCursorCondition(mode, cursor))
+                .orderBy(sortOrder(mode), idOrder(mode))
+                .limit(limit)
+                .fetch();
+    }
+
+    // 정렬 색인(StudySortIndex) 재생성용, id 순으로 끊어서 조회
+    public List<StudyListDto> findStudyListAfter(Long afterId, int limit) {
+        return selectStudyList()
+                .where(afterId == null ? null : study.id.gt(afterId))
+                .orderBy(study.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 공고 상세의 북마크 여부 + 지원 여부를 한 번의 쿼리로
+    public StudyUserFlagsDto findUserFlags(Long studyId, User user) {
+        QBookmark bookmark = QBookmark.bookmark;
+        QApplication application = QApplication.application;
+        Tuple tuple = queryFactory.select(
+                        new CaseBuilder().when(JPAExpressions.selectOne().from(bookmark)
+                                .where(bookmark.studyId.eq(studyId), bookmark.user.eq(user)).exists()).then(true).otherwise(false),
+                        new CaseBuilder().when(JPAExpressions.selectOne().from(application)
+                                .where(application.studyId.eq(studyId), application.user.eq(user)).exists()).then(true).otherwise(false))
+                .from(study)
+                .where(study.id.eq(studyId))
+                .fetchOne();
+        if (tuple == null) {
+            return StudyUserFlagsDto.NONE;
+        }
+        return new StudyUserFlagsDto(Boolean.TRUE.equals(tuple.get(0, Boolean.class)), Boolean.TRUE.equals(tuple.get(1, Boolean.class)));
+    }
+
+    // 위치가 있는 공고의 좌표 (StudyGeoIndex 재생성)
+    public List<StudyLocationDto> findStudyLocationsAfter(Long afterId, int limit) {
+        return queryFactory.select(Projections.constructor(StudyLocationDto.class, study.id, study.latitude, study.longitude))
+                .from(study)
+                .where(afterId == null ? null : study.id.gt(afterId), study.latitude.isNotNull(), study.longitude.isNotNull())
+                .orderBy(study.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 패싯 집계 (StudyFacetService) : 검색 조건에 맞는 공고를 category 별로 센다
+    // studyIds : 키워드 검색 결과 공고 id (null 이면 전체 공고 대상)
+    public Map<String, Long> countByCategory(StudySearchOption searchOption, Collection<Long> studyIds) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        queryFactory.select(study.category, study.count())
+                .from(study)
+                .where(facetCondition(searchOption, studyIds))
+                .groupBy(study.category)
+                .fetch()
+                .forEach(tuple -> counts.put(tuple.get(study.category).name(), tuple.get(study.count())));
+        return counts;
+    }
+
+    public Map<String, Long> countByGender(StudySearchOption searchOption, Collection<Long> studyIds) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        queryFactory.select(study.subjectGender, study.count())
+                .from(study)
+                .where(facetCondition(searchOption, studyIds))
+                .groupBy(study.subjectGender)
+                .fetch()
+                .forEach(tuple -> counts.put(tuple.get(study.subjectGender), tuple.get(study.count())));
+        return counts;
+    }
+
+    // 모집 연령 범위 [subjectMinAge, subjectMaxAge] 가 연령대 [from, to] 와 겹치는 공고 수
+    public Map<String, Long> countByAgeBand(StudySearchOption searchOption, Collection<Long> studyIds, Map<String, int[]> ageBands) {
+        List<BooleanExpression> conditions = new ArrayList<>();
+        ageBands.values().forEach(band -> conditions.add(study.subjectMinAge.loe(band[1]).and(study.subjectMaxAge.goe(band[0]))));
+        return toCountMap(ageBands.keySet(), countEach(searchOption, studyIds, conditions));
+    }
+
+    // 지역 이름으로 address 필터를 걸었을 때 나오는 공고 수 (필터와 같은 조건으로 세서 개수와 결과가 일치)
+    public Map<String, Long> countByRegion(StudySearchOption searchOption, Collection<Long> studyIds, List<String> regions) {
+        List<BooleanExpression> conditions = new ArrayList<>();
+        regions.forEach(region -> conditions.add(addressCondition(region)));
+        return toCountMap(regions, countEach(searchOption, studyIds, conditions));
+    }
+
+    // 조건마다 SUM(CASE WHEN 조건 THEN 1 ELSE 0 END) 를 한 번의 쿼리로 집계
+    private List<Long> countEach(StudySearchOption searchOption, Collection<Long> studyIds, List<BooleanExpression> conditions) {
+        Expression<?>[] sums = conditions.stream()
+                .map(condition -> new CaseBuilder().when(condition).then(1L).otherwise(0L).sum())
+                .toArray(Expression<?>[]::new);
+        Tuple tuple = queryFactory.select(sums)
+                .from(study)
+                .where(facetCondition(searchOption, studyIds))
+                .fetchOne();
+        List<Long> counts = new ArrayList<>();
+        for (int i = 0; i < sums.length; i++) {
+            Long count = tuple == null ? null : tuple.get(i, Long.class);
+            counts.add(count == null ? 0L : count);
+        }
+        return counts;
+    }
+
+    private Map<String, Long> toCountMap(Collection<String> names, List<Long> counts) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        Iterator<Long> count = counts.iterator();
+        names.forEach(name -> result.put(name, count.next()));
+        return result;
+    }
+
+    private BooleanBuilder facetCondition(StudySearchOption searchOption, Collection<Long> studyIds) {
+        return searchOptionCondition(searchOption).and(studyIds == null ? null : study.id.in(studyIds));
+    }
+
+    // 상세 검색 address 필터와 지역 패싯이 같이 쓰는 조건 (StudyFilterIndex 의 주소 포함 검사와도 같다)
+    private BooleanExpression addressCondition(String address) {
+        return study.address.containsIgnoreCase(address);
+    }
+
+    private BooleanBuilder searchOptionCondition(StudySearchOption searchOption) {
         String category = searchOption.getCategory();
         String address = searchOption.getAddress();
 //        LocalDate searchDate = searchOption.getSearchDate();
@@ -53,12 +272,10 @@ public class StudySearchQueryRepository {
         String gender = searchOption.getGender();
         String age = searchOption.getAge();
 
-        QStudy study = QStudy.study;
-
 //        BooleanExpression categoryExpression = category == null ? null : study.category.eq(CategoryEnum.valueOf(category));
         BooleanExpression categoryExpression = category == null ? null : study.category.stringValue().equalsIgnoreCase(category);
 
-        BooleanExpression addressExpression = address == null ? null : study.address.containsIgnoreCase(address);
+        BooleanExpression addressExpression = address == null ? null : addressCondition(address);
 
 //        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 //        BooleanExpression searchDateExpression = searchDate == null ? null : study.date.stringValue().containsIgnoreCase(searchDate.format(formatter));
@@ -70,13 +287,74 @@ public class StudySearchQueryRepository {
         BooleanExpression ageExpression = age == null ? null :
                 study.subjectMinAge.loe(Integer.parseInt(age)).and(study.subjectMaxAge.goe(Integer.parseInt(age)));
 
-        List<Study> studyList = queryFactory.selectFrom(study)
-                .where(categoryExpression, addressExpression, genderExpression, ageExpression)
-                .orderBy(study.createdAt.desc())
-                .offset(pageIndex * pageCount)
-                .limit(pageCount)
-                .fetch();
+        // null 조건은 BooleanBuilder 에서 무시된다
+        return new BooleanBuilder()
+                .and(categoryExpression)
+                .and(addressExpression)
+                .and(genderExpression)
+                .and(ageExpression);
+    }
+
+    private OrderSpecifier<?> sortOrder(String mode) {
+        if (StudyCursor.POPULARITY.equals(mode)) {
+            return study.currentApplicantCount.desc();
+        }
+        if (StudyCursor.PAY.equals(mode)) {
+            return study.pay.desc();
+        }
+        if (StudyCursor.ENDING_SOON.equals(mode)) {
+            return study.endDate.asc();
+        }
+        // 인기순 색인이 준비되기 전에는 누적 조회수로 대신한다
+        if (StudyCursor.HOT.equals(mode)) {
+            return study.viewCount.desc();
+        }
+        return study.createdAt.desc();
+    }
+
+    // 마감 임박순만 오름차순
+    private OrderSpecifier<?> idOrder(String mode) {
+        return StudyCursor.ENDING_SOON.equals(mode) ? study.id.asc() : study.id.desc();
+    }
+
+    // 마감 임박순은 아직 마감되지 않은 모집 중 공고만
+    private BooleanExpression endingSoonCondition(String mode) {
+        if (!StudyCursor.ENDING_SOON.equals(mode)) {
+            return null;
+        }
+        return study.status.eq(StudyStatusEnum.ONGOING).and(study.endDate.after(LocalDateTime.now()));
+    }
+
+    // 내림차순 seek 조건 : key < 마지막 key or (key == 마지막 key and id < 마지막 id)
+    private BooleanExpression sortCursorCondition(String mode, StudyCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (StudyCursor.POPULARITY.equals(mode)) {
+            int lastCount = cursor.getSortKeyAsInt();
+            return study.currentApplicantCount.lt(lastCount)
+                    .or(study.currentApplicantCount.eq(lastCount).and(study.id.lt(cursor.getId())));
+        }
+        if (StudyCursor.PAY.equals(mode)) {
+            int lastPay = cursor.getSortKeyAsInt();
+            return study.pay.lt(lastPay)
+                    .or(study.pay.eq(lastPay).and(study.id.lt(cursor.getId())));
+        }
+        // 마감 임박순은 오름차순 seek : endDate > 마지막 endDate or (같으면 id > 마지막 id)
+        if (StudyCursor.ENDING_SOON.equals(mode)) {
+            LocalDateTime lastEndDate = cursor.getSortKeyAsDateTime();
+            return study.endDate.gt(lastEndDate)
+                    .or(study.endDate.eq(lastEndDate).and(study.id.gt(cursor.getId())));
+        }
+        return createdAtCursorCondition(cursor);
+    }
 
-        return studyList;
+    private BooleanExpression createdAtCursorCondition(StudyCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        LocalDateTime lastCreatedAt = cursor.getSortKeyAsDateTime();
+        return study.createdAt.lt(lastCreatedAt)
+                .or(study.createdAt.eq(lastCreatedAt).and(study.id.lt(cursor.getId())));
     }
 }
@@ -0,0 +1,28 @@
+package com.example.lablink.domain.study.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+
+// 공고 조회수 반영 (StudyViewCounter 가 모아둔 증가분을 batch UPDATE 한 번으로)
+// 엔티티를 읽지 않고 view_count = view_count + ? 로 더하므로 다른 서버의 반영분과 겹쳐도 유실되지 않는다
+@Repository
+@RequiredArgsConstructor
+public class StudyViewCountRepository {
+    private static final String SQL = "UPDATE study SET view_count = view_count + :delta WHERE id = :id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void addViewCounts(Map<Long, Long> deltas) {
+        SqlParameterSource[] params = deltas.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey())
+                        .addValue("delta", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(SQL, params);
+    }
+}
@@ -25,6 +25,14 @@ public class GetStudyService {
         );
     }
 
+    // 지원자 수 +1 (신청서 작성 트랜잭션에 참여)
+    @Transactional
+    public void incrementApplicantCount(Long studyId) {
+        if (studyRepository.incrementApplicantCount(studyId) == 0) {
+            throw new GlobalException(GlobalErrorCode.STUDY_NOT_FOUND);
+        }
+    }
+
     @Transactional(readOnly = true)
     public Map<Long, Study> getStudiesByIds(List<Long> studyIds) {
         return studyRepository.findAllById(studyIds).stream()
@@ -0,0 +1,189 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.company.entity.Company;
+import com.example.lablink.domain.company.repository.CompanyRepository;
+import com.example.lablink.domain.user.entity.User;
+import com.example.lablink.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+
+// 기존 최근 검색어 키 이전 : {userId} -> recent-search:user:{userId}, {companyName} -> recent-search:company:{companyId}
+// 최근 MAX_SIZE 개만 옮기고 TTL 을 붙인 뒤 기존 키는 삭제한다
+// 탈퇴한 유저/기업(@Where 로 조회되지 않음)의 기존 키는 옮길 곳이 없으므로, 마지막에 SCAN 으로 남은 기존 키를 찾아서 삭제한다
+// 서버 여러 대가 동시에 돌지 않도록 락을 잡고, 끝나면 완료 표시를 남겨서 한 번만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentSearchMigration {
+    private static final String DONE_KEY = RecentSearchStore.KEY_PREFIX + "migration:done";
+    private static final String LOCK_KEY = RecentSearchStore.KEY_PREFIX + "migration:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    private static final int PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final CompanyRepository companyRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(DONE_KEY))
+                || !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL))) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            // 같은 이름의 유저 id / 회사명이 한 키를 같이 썼을 수 있으므로 둘 다 옮긴 뒤에 삭제
+            Set<String> legacyKeys = new HashSet<>();
+            int users = this.<User>migrate(userRepository::findAll, user -> user.getId().toString(), RecentSearchStore::key, legacyKeys);
+            int companies = this.<Company>migrate(companyRepository::findAll, Company::getCompanyName, RecentSearchStore::key, legacyKeys);
+            List<String> keys = new ArrayList<>(legacyKeys);
+            for (int i = 0; i < keys.size(); i += PAGE_SIZE) {
+                redisTemplate.delete(keys.subList(i, Math.min(i + PAGE_SIZE, keys.size())));
+            }
+            long orphans = deleteRemainingLegacyKeys();
+            stringRedisTemplate.opsForValue().set(DONE_KEY, String.valueOf(System.currentTimeMillis()));
+            log.info("최근 검색어 키 이전 완료 : 유저 {}명, 기업 {}곳, 남은 기존 키 {}개 삭제, {}ms", users, companies, orphans, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 다음 서버 시작 때 다시 시도 (이미 옮긴 키는 ZADD NX 라 덮어쓰지 않는다)
+            log.warn("최근 검색어 키 이전 실패 : {}", e.getMessage());
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    private <T> int migrate(Function<Pageable, Page<T>> finder, Function<T, String> legacyKey, Function<T, String> newKey, Set<String> legacyKeys) {
+        int migrated = 0;
+        int pageIndex = 0;
+        Page<T> page;
+        do {
+            page = finder.apply(PageRequest.of(pageIndex++, PAGE_SIZE));
+            Map<String, String> keys = new LinkedHashMap<>();
+            for (T principal : page.getContent()) {
+                String legacy = legacyKey.apply(principal);
+                if (legacy != null && !isReserved(legacy)) {
+                    keys.put(legacy, newKey.apply(principal));
+                }
+            }
+            migrated += copy(keys, legacyKeys);
+        } while (page.hasNext());
+        return migrated;
+    }
+
+    // 기존 키는 유저 id / 회사명 그대로라 ':' 가 없는 ZSET 이다 (다른 기능의 키는 모두 ':' 로 구분된 접두사를 쓴다)
+    // 이전이 끝난 뒤 남아 있는 키는 탈퇴한 유저/기업의 키이므로 삭제
+    private long deleteRemainingLegacyKeys() {
+        long deleted = 0;
+        List<String> candidates = new ArrayList<>();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(ScanOptions.scanOptions().count(PAGE_SIZE).build())) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (key.indexOf(':') < 0 && !isReserved(key)) {
+                    candidates.add(key);
+                }
+                if (candidates.size() == PAGE_SIZE) {
+                    deleted += deleteZSets(candidates);
+                    candidates.clear();
+                }
+            }
+        }
+        return deleted + deleteZSets(candidates);
+    }
+
+    private long deleteZSets(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<Object> types = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                keys.forEach(operations::type);
+                return null;
+            }
+        });
+        List<String> zsetKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (types.get(i) == DataType.ZSET) {
+                zsetKeys.add(keys.get(i));
+            }
+        }
+        if (zsetKeys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = stringRedisTemplate.delete(zsetKeys);
+        return deleted == null ? 0 : deleted;
+    }
+
+    // 다른 기능이 쓰는 키와 이름이 같으면 건너뛴다
+    private boolean isReserved(String key) {
+        return key.equals(SearchKeywordWriter.RANKING_KEY) || key.startsWith(RecentSearchStore.KEY_PREFIX) || key.startsWith("ranking:");
+    }
+
+    @SuppressWarnings("unchecked")
+    private int copy(Map<String, String> keys, Set<String> legacyKeys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<String> legacy = new ArrayList<>(keys.keySet());
+        List<Object> types = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                legacy.forEach(operations::type);
+                return null;
+            }
+        });
+        List<String> zsetKeys = new ArrayList<>();
+        for (int i = 0; i < legacy.size(); i++) {
+            if (types.get(i) == DataType.ZSET) {
+                zsetKeys.add(legacy.get(i));
+            }
+        }
+        if (zsetKeys.isEmpty()) {
+            return 0;
+        }
+
+        List<Object> entries = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                zsetKeys.forEach(key -> operations.opsForZSet().rangeWithScores(key, -RecentSearchStore.MAX_SIZE, -1));
+                return null;
+            }
+        });
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                for (int i = 0; i < zsetKeys.size(); i++) {
+                    Set<ZSetOperations.TypedTuple<String>> tuples = (Set<ZSetOperations.TypedTuple<String>>) entries.get(i);
+                    if (tuples == null || tuples.isEmpty()) continue;
+                    String key = keys.get(zsetKeys.get(i));
+                    // 이전 후에 새 키로 저장된 검색어는 더 최신이므로 덮어쓰지 않는다
+                    redisOperations.opsForZSet().addIfAbsent(key, tuples);
+                    RecentSearchStore.trim(redisOperations, key);
+                }
+                return null;
+            }
+        });
+        legacyKeys.addAll(zsetKeys);
+        return zsetKeys.size();
+    }
+}
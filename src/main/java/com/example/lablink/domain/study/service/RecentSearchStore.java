@@ -0,0 +1,56 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.company.entity.Company;
+import com.example.lablink.domain.study.dto.responseDto.LatestSearchKeyword;
+import com.example.lablink.domain.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 최근 검색어 저장소
+// 키 : recent-search:user:{userId}, recent-search:company:{companyId} (ZSET, score = 검색 시각)
+// 쓸 때마다 최근 MAX_SIZE 개만 남기고 TTL 을 연장하므로, 한동안 검색하지 않은 사용자의 키는 자동으로 사라진다
+@Component
+@RequiredArgsConstructor
+public class RecentSearchStore {
+    public static final String KEY_PREFIX = "recent-search:";
+    public static final int MAX_SIZE = 10;
+    public static final Duration TTL = Duration.ofDays(30);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public static String key(User user) {
+        return KEY_PREFIX + "user:" + user.getId();
+    }
+
+    public static String key(Company company) {
+        return KEY_PREFIX + "company:" + company.getId();
+    }
+
+    // 검색어를 추가한 뒤 같은 파이프라인 안에서 호출 (SearchKeywordWriter) : 오래된 것 삭제 -> TTL 연장
+    public static void trim(RedisOperations<String, String> operations, String key) {
+        operations.opsForZSet().removeRange(key, 0, -(MAX_SIZE + 1));
+        operations.expire(key, TTL);
+    }
+
+    // 최신순 MAX_SIZE 개
+    public List<LatestSearchKeyword> find(String key) {
+        Set<ZSetOperations.TypedTuple<String>> typedTuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, MAX_SIZE - 1);
+        if (typedTuples == null) {
+            return Collections.emptyList();
+        }
+        return typedTuples.stream().map(LatestSearchKeyword::convertToLatestSearchKeyword).collect(Collectors.toList());
+    }
+
+    public void delete(String key, String keyword) {
+        redisTemplate.opsForZSet().remove(key, keyword);
+    }
+}
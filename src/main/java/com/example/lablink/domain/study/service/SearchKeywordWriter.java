@@ -0,0 +1,148 @@
+package com.example.lablink.domain.study.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 검색어 저장(최근 검색어, 인기 검색어)을 요청 스레드에서 분리
+// 검색 요청은 큐에 넣기만 하고, 백그라운드 스레드가 모아서 파이프라인으로 한 번에 쓴다
+// 큐가 가득 차면 버린다 (검색 응답이 Redis 쓰기 지연에 묶이지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchKeywordWriter {
+    public static final String RANKING_KEY = "ranking";
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int BATCH_SIZE = 1_000;
+    // 큐가 비어 있을 때 기다리는 시간 (이 안에 들어온 검색어는 한 번에 쓴다)
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final BlockingQueue<SearchKeyword> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-keyword-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = true;
+    private Counter droppedCounter;
+    private Counter writtenCounter;
+    private Counter failedCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("search.keyword.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        droppedCounter = Counter.builder("search.keyword.dropped").register(meterRegistry);
+        writtenCounter = Counter.builder("search.keyword.written").register(meterRegistry);
+        failedCounter = Counter.builder("search.keyword.failed").register(meterRegistry);
+        flushTimer = Timer.builder("search.keyword.flush").register(meterRegistry);
+        executor.execute(this::run);
+    }
+
+    // 종료 시 남은 검색어까지 쓰고 멈춘다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // recentKey : 최근 검색어 ZSET 키 (RecentSearchStore.key, 비로그인이면 null)
+    public void write(String keyword, String recentKey) {
+        if (!queue.offer(new SearchKeyword(keyword, recentKey, System.currentTimeMillis()))) {
+            droppedCounter.increment();
+        }
+    }
+
+    private void run() {
+        List<SearchKeyword> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                SearchKeyword first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failedCounter.increment(batch.size());
+                log.warn("검색어 저장 실패 : {}건, {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 같은 검색어는 합쳐서 ZINCRBY 한 번 (누적 ranking, 1시간 bucket), 최근 검색어는 키/검색어마다 가장 늦은 시각만 ZADD
+    private void flush(List<SearchKeyword> batch) {
+        Map<String, Integer> rankingIncrements = new HashMap<>();
+        Map<String, Map<String, Long>> recentSearches = new HashMap<>();
+        // 1시간 bucket -> (검색어 -> 횟수) : 기간별 인기 검색어용 (TrendingKeywordService)
+        Map<String, Map<String, Integer>> bucketIncrements = new HashMap<>();
+        for (SearchKeyword searchKeyword : batch) {
+            rankingIncrements.merge(searchKeyword.keyword, 1, Integer::sum);
+            bucketIncrements.computeIfAbsent(TrendingKeywordService.bucketKey(searchKeyword.timestamp), key -> new HashMap<>())
+                    .merge(searchKeyword.keyword, 1, Integer::sum);
+            if (searchKeyword.recentKey != null) {
+                recentSearches.computeIfAbsent(searchKeyword.recentKey, key -> new HashMap<>())
+                        .merge(searchKeyword.keyword, searchKeyword.timestamp, Math::max);
+            }
+        }
+
+        flushTimer.record(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                recentSearches.forEach((recentKey, keywords) -> {
+                    keywords.forEach((keyword, timestamp) -> redisOperations.opsForZSet().add(recentKey, keyword, timestamp));
+                    RecentSearchStore.trim(redisOperations, recentKey);
+                });
+                rankingIncrements.forEach((keyword, count) -> redisOperations.opsForZSet().incrementScore(RANKING_KEY, keyword, count));
+                bucketIncrements.forEach((bucketKey, keywords) -> {
+                    keywords.forEach((keyword, count) -> redisOperations.opsForZSet().incrementScore(bucketKey, keyword, count));
+                    redisOperations.expire(bucketKey, TrendingKeywordService.BUCKET_TTL);
+                });
+                return null;
+            }
+        }));
+        writtenCounter.increment(batch.size());
+    }
+
+    private static class SearchKeyword {
+        private final String keyword;
+        private final String recentKey;
+        private final long timestamp;
+
+        private SearchKeyword(String keyword, String recentKey, long timestamp) {
+            this.keyword = keyword;
+            this.recentKey = recentKey;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudyListDto;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import com.example.lablink.global.util.AfterCommit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 공고 목록 카드(StudyListDto) 캐시 (study:card:{id})
+// 정렬 색인(StudySortIndex)에서 찾은 id 를 MGET 한 번으로 조회하고, 없는 카드만 DB 에서 조회해서 채운다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyCardCache {
+    private static final String KEY_PREFIX = "study:card:";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StudySearchQueryRepository studySearchQueryRepository;
+    private final ObjectMapper objectMapper;
+
+    // studyIds 순서대로 카드 반환 (삭제된 공고는 제외)
+    public List<StudyListDto> getCards(List<Long> studyIds) {
+        if (studyIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(
+                studyIds.stream().map(studyId -> KEY_PREFIX + studyId).collect(Collectors.toList()));
+
+        Map<Long, StudyListDto> cards = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < studyIds.size(); i++) {
+            StudyListDto card = values == null ? null : read(values.get(i));
+            if (card == null) {
+                missingIds.add(studyIds.get(i));
+            } else {
+                cards.put(card.getId(), card);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            List<StudyListDto> loaded = studySearchQueryRepository.findStudyListByIds(missingIds);
+            loaded.forEach(card -> cards.put(card.getId(), card));
+            write(loaded);
+        }
+
+        List<StudyListDto> result = new ArrayList<>(studyIds.size());
+        for (Long studyId : studyIds) {
+            StudyListDto card = cards.get(studyId);
+            if (card != null) {
+                result.add(card);
+            }
+        }
+        return result;
+    }
+
+    // 공고 수정/삭제 시 호출 (커밋 전에 지우면 다른 요청이 커밋 전 값으로 다시 채울 수 있으므로 커밋 후에 지운다)
+    public void evict(Long studyId) {
+        AfterCommit.run("공고 카드 캐시 삭제", () -> stringRedisTemplate.delete(KEY_PREFIX + studyId));
+    }
+
+    private void write(List<StudyListDto> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+        Map<String, String> values = new HashMap<>();
+        for (StudyListDto card : cards) {
+            try {
+                values.put(KEY_PREFIX + card.getId(), objectMapper.writeValueAsString(card));
+            } catch (JsonProcessingException e) {
+                log.warn("공고 카드 직렬화 실패 : {}", card.getId());
+            }
+        }
+        long ttlSeconds = TTL.getSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            values.forEach((key, value) -> stringConnection.setEx(key, ttlSeconds, value));
+            return null;
+        });
+    }
+
+    private StudyListDto read(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, StudyListDto.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
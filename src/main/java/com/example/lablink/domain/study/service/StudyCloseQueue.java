@@ -0,0 +1,173 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudyListDto;
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 공고 자동 마감 (하루 한 번 일괄 변경하는 대신 마감 시각에 바로 CLOSED)
+// Redis sorted set (study:close, 점수 = 마감 시각) 에서 마감 시각이 지난 공고만 꺼내서 닫는다
+// 꺼내기(ZRANGEBYSCORE + ZREM)를 Lua 스크립트로 한 번에 하므로 여러 서버가 같이 확인해도 한 서버만 처리한다
+// 누락분(Redis 장애 등)은 Scheduler 의 자정 일괄 마감(closeOverdue)이 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyCloseQueue {
+    private static final String KEY = "study:close";
+    private static final int POLL_SIZE = 100;
+    private static final int CHUNK_SIZE = 1000;
+
+    static final RedisScript<List> POP_DUE = new DefaultRedisScript<>(
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])\n" +
+            "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end\n" +
+            "return ids", List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StudyRepository studyRepository;
+    private final StudySearchQueryRepository studySearchQueryRepository;
+    private final StudyIndexSynchronizer studyIndexSynchronizer;
+    private final StudySortIndex studySortIndex;
+    private final StudyCardCache studyCardCache;
+    private final StudyListCacheInvalidator studyListCacheInvalidator;
+
+    // 서버 시작 시 다른 서버가 이미 만들어 둔 큐가 없으면 생성 (이미 마감 시각이 지난 공고는 다음 확인 때 바로 닫힌다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY))) {
+            rebuild();
+        }
+    }
+
+    // 공고 작성/수정 시 호출 (모집 중인 공고만 등록, 롤백되어 남은 값은 닫을 때 DB 조건으로 걸러진다)
+    public void schedule(Study study) {
+        if (study.getStatus() == StudyStatusEnum.ONGOING) {
+            stringRedisTemplate.opsForZSet().add(KEY, String.valueOf(study.getId()), epochMilli(study.getEndDate()));
+        } else {
+            remove(study.getId());
+        }
+    }
+
+    // 공고 삭제 시 호출
+    public void remove(Long studyId) {
+        stringRedisTemplate.opsForZSet().remove(KEY, String.valueOf(studyId));
+    }
+
+    // 1초마다 마감 시각이 지난 공고 닫기
+    @Scheduled(fixedDelay = 1000)
+    public void poll() {
+        List<String> members;
+        do {
+            members = popDue();
+            if (members.isEmpty()) {
+                return;
+            }
+            List<Long> studyIds = members.stream().map(Long::valueOf).collect(Collectors.toList());
+            try {
+                close(studyIds);
+            } catch (Exception e) {
+                // 꺼낸 공고를 다시 넣어서 다음 확인 때 다시 시도
+                log.warn("공고 자동 마감 실패 : {}건", studyIds.size(), e);
+                requeue(members);
+                return;
+            }
+        } while (members.size() == POLL_SIZE);
+    }
+
+    // 마감 시각이 지났는데 아직 모집 중인 공고를 CHUNK_SIZE 씩 닫는다 (큐 누락분 정리)
+    public int closeOverdue() {
+        int count = 0;
+        List<Long> studyIds;
+        do {
+            studyIds = studyRepository.findIdsByStatusAndEndDateBefore(StudyStatusEnum.ONGOING, LocalDateTime.now(), PageRequest.of(0, CHUNK_SIZE));
+            if (!studyIds.isEmpty()) {
+                count += close(studyIds);
+            }
+        } while (studyIds.size() == CHUNK_SIZE);
+        return count;
+    }
+
+    // MySQL 기준으로 모집 중인 공고 전체 등록 (ZADD 는 덮어쓰기라 기존 큐에 그대로 더한다)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        Long lastId = null;
+        List<StudyListDto> studies;
+        do {
+            studies = studySearchQueryRepository.findStudyListAfter(lastId, CHUNK_SIZE);
+            List<StudyListDto> ongoing = studies.stream()
+                    .filter(study -> study.getStatus() == StudyStatusEnum.ONGOING && study.getEndDate() != null)
+                    .collect(Collectors.toList());
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (StudyListDto study : ongoing) {
+                    stringConnection.zAdd(KEY, epochMilli(study.getEndDate()), String.valueOf(study.getId()));
+                }
+                return null;
+            });
+            count += ongoing.size();
+            if (!studies.isEmpty()) {
+                lastId = studies.get(studies.size() - 1).getId();
+            }
+        } while (studies.size() == CHUNK_SIZE);
+        log.info("공고 마감 큐 재생성 완료 : {}건, {}ms", count, System.currentTimeMillis() - start);
+    }
+
+    // 한 번의 UPDATE 로 닫고 (모집 중이고 마감 시각이 지난 공고만), 닫힌 공고의 색인과 캐시 갱신
+    private int close(List<Long> studyIds) {
+        int closed = studyRepository.closeStudies(studyIds, StudyStatusEnum.ONGOING, StudyStatusEnum.CLOSED, LocalDateTime.now());
+        if (closed == 0) {
+            return 0;
+        }
+        for (Study study : studyRepository.findAllById(studyIds)) {
+            if (study.getStatus() != StudyStatusEnum.CLOSED) {
+                continue;
+            }
+            studyIndexSynchronizer.changed(study.getId());
+            // 마감 임박순 색인에서 빠진다
+            studySortIndex.add(study);
+            studyCardCache.evict(study.getId());
+            studyListCacheInvalidator.evictPagesContaining(study.getId());
+        }
+        return closed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> popDue() {
+        List<String> members = stringRedisTemplate.execute(POP_DUE, List.of(KEY),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(POLL_SIZE));
+        return members == null ? List.of() : members;
+    }
+
+    private void requeue(List<String> members) {
+        double now = System.currentTimeMillis();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String member : members) {
+                stringConnection.zAdd(KEY, now, member);
+            }
+            return null;
+        });
+    }
+
+    private static double epochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudyDetailDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+// 공고 상세 조회 (로그인 정보와 무관한 공용 캐시)
+// 공고가 바뀌면 공고별 버전을 올려서 무효화 (StudyListCacheInvalidator.invalidateDetail)
+@Service
+@RequiredArgsConstructor
+public class StudyDetailService {
+    public static final String CACHE_NAME = "StudyDetail";
+    public static final Duration CACHE_TTL = Duration.ofMinutes(30);
+
+    private final GetStudyService getStudyService;
+    private final StudyListCacheInvalidator studyListCacheInvalidator;
+
+    public String generateCacheKey(Long studyId) {
+        return "v" + studyListCacheInvalidator.currentDetailVersion(studyId) + ":" + studyId;
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CACHE_NAME, key = "#root.target.generateCacheKey(#studyId)")
+    public StudyDetailDto getStudyDetail(Long studyId) {
+        return new StudyDetailDto(getStudyService.getStudy(studyId));
+    }
+}
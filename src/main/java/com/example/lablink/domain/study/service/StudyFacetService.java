@@ -0,0 +1,82 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudyCursor;
+import com.example.lablink.domain.study.dto.StudySearchOption;
+import com.example.lablink.domain.study.dto.responseDto.StudyFacetsDto;
+import com.example.lablink.domain.study.repository.StudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 검색 결과 패싯 집계 (category / 성별 / 연령대 / 지역 별 공고 수)
+// 패싯마다 그룹 쿼리 한 번, 결과는 검색 조건(키워드 포함) 단위로 캐시
+// 키워드 검색이면 키워드 검색 결과 공고(최신 MAX_KEYWORD_CANDIDATES 건) 안에서 센다
+@Service
+@RequiredArgsConstructor
+public class StudyFacetService {
+    public static final String CACHE_NAME = "StudyFacets";
+    public static final Duration CACHE_TTL = Duration.ofMinutes(5);
+
+    // 연령대 시작 나이 -> [최소, 최대]
+    private static final Map<String, int[]> AGE_BANDS = new LinkedHashMap<>();
+    // 시/도 (address 필터 값으로 그대로 쓸 수 있는 이름)
+    private static final List<String> REGIONS = List.of(
+            "서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종", "경기", "강원",
+            "충북", "충남", "전북", "전남", "경북", "경남", "제주");
+    // 키워드 검색 결과 중 패싯을 계산할 최대 공고 수
+    private static final int MAX_KEYWORD_CANDIDATES = 5000;
+
+    static {
+        AGE_BANDS.put("10", new int[]{10, 19});
+        AGE_BANDS.put("20", new int[]{20, 29});
+        AGE_BANDS.put("30", new int[]{30, 39});
+        AGE_BANDS.put("40", new int[]{40, 49});
+        AGE_BANDS.put("50", new int[]{50, 59});
+        AGE_BANDS.put("60", new int[]{60, 200});
+    }
+
+    private final StudySearchQueryRepository studySearchQueryRepository;
+    private final StudyKeywordSearchEngine studyKeywordSearchEngine;
+    private final StudyListCacheInvalidator studyListCacheInvalidator;
+
+    // 상세 검색(키워드 검색) 목록 캐시와 같은 버전을 붙여서 공고 등록/수정/삭제 시 함께 무효화
+    public String generateCacheKey(StudySearchOption searchOption) {
+        String version = studyListCacheInvalidator.currentVersion(searchOption.getKeyword() == null ? StudyCursor.SEARCH : StudyCursor.KEYWORD);
+        return "v" + version + ":StudyFacetsKey [" + searchOption.getCategory() + "," + searchOption.getAddress() + ","
+                + searchOption.getSearchDate() + "," + searchOption.getSearchTime() + "," + searchOption.getGender() + "," + searchOption.getAge() + ","
+                + searchOption.getKeyword() + "]";
+    }
+
+    // 각 패싯은 자기 자신의 필터만 빼고 나머지 필터를 적용해서 센다
+    // (category=ONLINE 으로 검색해도 OFFLINE 으로 바꿨을 때의 개수를 보여줄 수 있도록)
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CACHE_NAME, key = "#root.target.generateCacheKey(#searchOption)")
+    public StudyFacetsDto getFacets(StudySearchOption searchOption) {
+        List<Long> studyIds = searchOption.getKeyword() == null ? null
+                : studyKeywordSearchEngine.search(searchOption.getKeyword(), (Long) null, MAX_KEYWORD_CANDIDATES);
+        if (studyIds != null && studyIds.isEmpty()) {
+            return new StudyFacetsDto(Map.of(), Map.of(), Map.of(), Map.of());
+        }
+        StudySearchOption withoutCategory = searchOption.copyFilters();
+        withoutCategory.setCategory(null);
+        StudySearchOption withoutGender = searchOption.copyFilters();
+        withoutGender.setGender(null);
+        StudySearchOption withoutAge = searchOption.copyFilters();
+        withoutAge.setAge(null);
+        StudySearchOption withoutAddress = searchOption.copyFilters();
+        withoutAddress.setAddress(null);
+
+        return new StudyFacetsDto(
+                studySearchQueryRepository.countByCategory(withoutCategory, studyIds),
+                studySearchQueryRepository.countByGender(withoutGender, studyIds),
+                studySearchQueryRepository.countByAgeBand(withoutAge, studyIds, AGE_BANDS),
+                studySearchQueryRepository.countByRegion(withoutAddress, studyIds, REGIONS));
+    }
+}
@@ -0,0 +1,295 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudySearchOption;
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 상세 검색(category, 주소, 성별, 나이)용 인메모리 필터 색인
+// searchOptionCondition 의 equalsIgnoreCase / containsIgnoreCase / 나이 범위 조건은 인덱스를 탈 수 없어서
+// 값마다 공고 id 비트맵(RoaringBitmap)을 들고 있다가 조건끼리 AND 로 거른다
+// 결과는 id 내림차순 (IDENTITY 라 등록순과 같다)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyFilterIndex {
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final int AGE_BUCKET_SIZE = 10;
+    // 100살 이상은 한 연령대로 묶는다
+    private static final int MAX_AGE_BUCKET = 10;
+
+    private final StudyRepository studyRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Columns columns = new Columns();
+    // 첫 색인 생성 전에는 DB 에서 검색
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 전체 재색인 (새 색인을 만든 뒤 한 번에 교체하므로 재색인 중에도 검색 가능)
+    // 서버 시작 시, 매 정시에 StudyIndexSynchronizer 가 호출
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        Columns newColumns = new Columns();
+        int pageIndex = 0;
+        Page<Study> page;
+        do {
+            page = studyRepository.findAll(PageRequest.of(pageIndex++, REBUILD_PAGE_SIZE));
+            for (Study study : page.getContent()) {
+                if (!newColumns.add(study)) {
+                    log.warn("공고 필터 색인 생성 중단 : int 범위를 넘는 id {}", study.getId());
+                    ready = false;
+                    return 0;
+                }
+            }
+        } while (page.hasNext());
+        newColumns.runOptimize();
+
+        lock.writeLock().lock();
+        try {
+            columns = newColumns;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("공고 필터 색인 생성 완료 : {}건, {}ms", newColumns.rows.size(), System.currentTimeMillis() - start);
+        return newColumns.rows.size();
+    }
+
+    // 공고 작성/수정 시 색인 갱신
+    public void index(Study study) {
+        lock.writeLock().lock();
+        try {
+            columns.remove(study.getId());
+            if (!columns.add(study)) {
+                ready = false;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 공고 삭제 시 색인 제거
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            columns.remove(studyId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색 조건(status 는 null 이면 전체)에 맞는 공고 id 를 최신순으로 한 페이지 반환
+    public List<Long> search(StudySearchOption searchOption, StudyStatusEnum status, int pageIndex, int pageCount) {
+        String address = lower(searchOption.getAddress());
+        Integer age = searchOption.getAge() == null ? null : Integer.parseInt(searchOption.getAge());
+        int skip = pageIndex * pageCount;
+        List<Long> studyIds = new ArrayList<>(pageCount);
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = columns.filter(searchOption.getCategory(), searchOption.getGender(), status, address, age);
+            IntIterator iterator = matched.getReverseIntIterator();
+            while (iterator.hasNext() && studyIds.size() < pageCount) {
+                int studyId = iterator.next();
+                // 비트맵은 후보만 거르므로 나이 범위, 주소 부분 문자열은 공고 값으로 한 번 더 확인
+                if (!columns.rows.get(studyId).matches(address, age)) continue;
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                studyIds.add((long) studyId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return studyIds;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.rows.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static int ageBucket(int age) {
+        return Math.max(0, Math.min(age / AGE_BUCKET_SIZE, MAX_AGE_BUCKET));
+    }
+
+    // 공고 하나의 필터 값 (수정/삭제 시 기존 비트맵에서 빼기 위해 보관)
+    private static class Row {
+        private final String category;
+        private final String gender;
+        private final StudyStatusEnum status;
+        private final int minAge;
+        private final int maxAge;
+        private final String address;
+        private final Set<String> addressTokens;
+
+        private Row(Study study) {
+            this.category = study.getCategory() == null ? null : lower(study.getCategory().name());
+            this.gender = lower(study.getSubjectGender());
+            this.status = study.getStatus();
+            this.minAge = study.getSubjectMinAge();
+            this.maxAge = study.getSubjectMaxAge();
+            this.address = lower(study.getAddress());
+            this.addressTokens = tokens(address);
+        }
+
+        private boolean matches(String address, Integer age) {
+            if (age != null && (minAge > age || maxAge < age)) return false;
+            return address == null || (this.address != null && this.address.contains(address));
+        }
+    }
+
+    // 주소는 공백 기준 단어로 나눠서 색인 (ex. "서울 강남구 역삼동" -> 서울, 강남구, 역삼동)
+    private static Set<String> tokens(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static class Columns {
+        private final Map<Integer, Row> rows = new HashMap<>();
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> categories = new HashMap<>();
+        private final Map<String, RoaringBitmap> genders = new HashMap<>();
+        private final Map<StudyStatusEnum, RoaringBitmap> statuses = new EnumMap<>(StudyStatusEnum.class);
+        // 연령대 (나이 / 10) -> 모집 나이 범위가 그 연령대와 겹치는 공고
+        private final Map<Integer, RoaringBitmap> ageBuckets = new HashMap<>();
+        // 주소 단어 -> 공고
+        private final Map<String, RoaringBitmap> regions = new HashMap<>();
+
+        // id 가 int 범위를 넘으면 색인할 수 없다 (false)
+        private boolean add(Study study) {
+            if (study.getId() > Integer.MAX_VALUE) {
+                return false;
+            }
+            int studyId = study.getId().intValue();
+            Row row = new Row(study);
+            rows.put(studyId, row);
+            all.add(studyId);
+            addTo(categories, row.category, studyId);
+            addTo(genders, row.gender, studyId);
+            addTo(statuses, row.status, studyId);
+            if (row.minAge <= row.maxAge) {
+                for (int bucket = ageBucket(row.minAge); bucket <= ageBucket(row.maxAge); bucket++) {
+                    addTo(ageBuckets, bucket, studyId);
+                }
+            }
+            for (String token : row.addressTokens) {
+                addTo(regions, token, studyId);
+            }
+            return true;
+        }
+
+        private void remove(Long id) {
+            if (id == null || id > Integer.MAX_VALUE) {
+                return;
+            }
+            int studyId = id.intValue();
+            Row row = rows.remove(studyId);
+            if (row == null) {
+                return;
+            }
+            all.remove(studyId);
+            removeFrom(categories, row.category, studyId);
+            removeFrom(genders, row.gender, studyId);
+            removeFrom(statuses, row.status, studyId);
+            if (row.minAge <= row.maxAge) {
+                for (int bucket = ageBucket(row.minAge); bucket <= ageBucket(row.maxAge); bucket++) {
+                    removeFrom(ageBuckets, bucket, studyId);
+                }
+            }
+            for (String token : row.addressTokens) {
+                removeFrom(regions, token, studyId);
+            }
+        }
+
+        // 조건별 비트맵 AND (나이, 주소는 후보 집합이므로 호출하는 쪽에서 공고 값으로 다시 확인)
+        private RoaringBitmap filter(String category, String gender, StudyStatusEnum status, String address, Integer age) {
+            RoaringBitmap matched = all.clone();
+            if (category != null) {
+                matched.and(categories.getOrDefault(lower(category), new RoaringBitmap()));
+            }
+            if (gender != null) {
+                // containsIgnoreCase 와 같게 : 검색어를 포함하는 성별 값들의 OR
+                matched.and(containing(genders, lower(gender)));
+            }
+            if (status != null) {
+                matched.and(statuses.getOrDefault(status, new RoaringBitmap()));
+            }
+            if (age != null) {
+                matched.and(ageBuckets.getOrDefault(ageBucket(age), new RoaringBitmap()));
+            }
+            if (address != null) {
+                // 검색어의 각 단어는 주소의 한 단어 안에 있어야 하므로, 단어마다 그 단어를 포함하는 주소 단어들의 OR 를 AND
+                for (String token : tokens(address)) {
+                    matched.and(containing(regions, token));
+                }
+            }
+            return matched;
+        }
+
+        private void runOptimize() {
+            all.runOptimize();
+            categories.values().forEach(RoaringBitmap::runOptimize);
+            genders.values().forEach(RoaringBitmap::runOptimize);
+            statuses.values().forEach(RoaringBitmap::runOptimize);
+            ageBuckets.values().forEach(RoaringBitmap::runOptimize);
+            regions.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private static RoaringBitmap containing(Map<String, RoaringBitmap> bitmaps, String value) {
+            RoaringBitmap union = new RoaringBitmap();
+            for (Map.Entry<String, RoaringBitmap> entry : bitmaps.entrySet()) {
+                if (entry.getKey().contains(value)) {
+                    union.or(entry.getValue());
+                }
+            }
+            return union;
+        }
+
+        private static <K> void addTo(Map<K, RoaringBitmap> bitmaps, K key, int studyId) {
+            if (key == null) return;
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(studyId);
+        }
+
+        private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int studyId) {
+            if (key == null) return;
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap == null) return;
+            bitmap.remove(studyId);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudyLocationDto;
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import com.example.lablink.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.geo.Circle;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 공고 위치 색인 (Redis GEO)
+// study:geo 에 좌표가 있는 공고 id 를 넣어두고, 반경 검색은 GEORADIUS 로 거리순 조회 (테이블 스캔 없음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyGeoIndex {
+    private static final String KEY = "study:geo";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    private static final Duration REBUILD_KEY_TTL = Duration.ofHours(1);
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final StudySearchQueryRepository studySearchQueryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 색인이 없으면 (최초 배포, Redis 초기화) 서버 시작 시 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY))) {
+            rebuild();
+        }
+    }
+
+    // 공고 작성, 좌표 변환(StudyGeocodeBackfill) 시 호출 (좌표가 없으면 제외)
+    // 롤백된 공고가 검색되지 않도록 커밋 후 반영
+    public void add(Study study) {
+        if (study.getLatitude() == null || study.getLongitude() == null) {
+            remove(study.getId());
+            return;
+        }
+        Point point = new Point(study.getLongitude(), study.getLatitude());
+        String member = study.getId().toString();
+        AfterCommit.run("공고 위치 색인 갱신", () -> stringRedisTemplate.opsForGeo().add(KEY, point, member));
+    }
+
+    // 공고 삭제 시 호출 (커밋 후 반영)
+    public void remove(Long studyId) {
+        AfterCommit.run("공고 위치 색인 갱신", () -> stringRedisTemplate.opsForZSet().remove(KEY, studyId.toString()));
+    }
+
+    // 반경 안의 공고 id -> 거리(km), 가까운 순으로 pageIndex 페이지
+    public Map<Long, Double> near(double latitude, double longitude, double radiusKm, int pageIndex, int pageCount) {
+        int offset = pageIndex * pageCount;
+        GeoResults<RedisGeoCommands.GeoLocation<String>> results = stringRedisTemplate.opsForGeo().radius(KEY,
+                new Circle(new Point(longitude, latitude), new Distance(radiusKm, Metrics.KILOMETERS)),
+                RedisGeoCommands.GeoRadiusCommandArgs.newGeoRadiusArgs().includeDistance().sortAscending().limit(offset + pageCount));
+        if (results == null) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Double> distances = new LinkedHashMap<>();
+        List<GeoResult<RedisGeoCommands.GeoLocation<String>>> content = results.getContent();
+        for (int i = offset; i < content.size(); i++) {
+            GeoResult<RedisGeoCommands.GeoLocation<String>> result = content.get(i);
+            distances.put(Long.valueOf(result.getContent().getName()), result.getDistance().getValue());
+        }
+        return distances;
+    }
+
+    // MySQL 기준으로 전체 재생성 (실행마다 다른 임시 키에 만든 뒤 RENAME 으로 교체)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        String tempKey = KEY + REBUILD_SUFFIX + UUID.randomUUID();
+        int count = 0;
+        Long lastId = null;
+        List<StudyLocationDto> locations;
+        do {
+            locations = studySearchQueryRepository.findStudyLocationsAfter(lastId, REBUILD_PAGE_SIZE);
+            if (!locations.isEmpty()) {
+                Map<String, Point> members = new LinkedHashMap<>();
+                for (StudyLocationDto location : locations) {
+                    members.put(location.getId().toString(), new Point(location.getLongitude(), location.getLatitude()));
+                }
+                stringRedisTemplate.opsForGeo().add(tempKey, members);
+                stringRedisTemplate.expire(tempKey, REBUILD_KEY_TTL);
+                count += locations.size();
+                lastId = locations.get(locations.size() - 1).getId();
+            }
+        } while (locations.size() == REBUILD_PAGE_SIZE);
+
+        if (count > 0) {
+            // RENAME 은 TTL 도 같이 옮기므로 PERSIST 로 제거
+            stringRedisTemplate.rename(tempKey, KEY);
+            stringRedisTemplate.persist(KEY);
+        } else {
+            stringRedisTemplate.delete(KEY);
+        }
+        log.info("공고 위치 색인 재생성 완료 : {}건, {}ms", count, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import com.example.lablink.global.geo.Geocoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+// 좌표 컬럼이 생기기 전에 작성된 공고의 주소를 좌표로 변환해서 채운다 (내 주변 검색 대상에 포함)
+// 페이지마다 커밋하고 마지막으로 처리한 id 를 남겨서, 중간에 멈추면 다음 서버 시작 때 이어서 진행
+// 변환하지 못한 주소는 좌표 없이 두고 넘어간다 (다시 시도하지 않음)
+// 서버 여러 대가 동시에 돌지 않도록 락을 잡고, 끝나면 완료 표시를 남겨서 한 번만 실행 (RecentSearchMigration 과 같은 방식)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyGeocodeBackfill {
+    private static final String KEY_PREFIX = "study:geocode-backfill:";
+    private static final String DONE_KEY = KEY_PREFIX + "done";
+    private static final String LOCK_KEY = KEY_PREFIX + "lock";
+    private static final String PROGRESS_KEY = KEY_PREFIX + "last-id";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    private static final int PAGE_SIZE = 100;
+
+    private final StudyRepository studyRepository;
+    private final Geocoder geocoder;
+    private final StudyGeoIndex studyGeoIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionOperations transactionOperations;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(DONE_KEY))
+                || !Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL))) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            String progress = stringRedisTemplate.opsForValue().get(PROGRESS_KEY);
+            long lastId = progress == null ? 0L : Long.parseLong(progress);
+            int located = 0;
+            int skipped = 0;
+            List<Study> studies;
+            do {
+                long afterId = lastId;
+                studies = transactionOperations.execute(status -> {
+                    List<Study> page = studyRepository.findByIdGreaterThanAndLatitudeIsNullOrderByIdAsc(afterId, PageRequest.of(0, PAGE_SIZE));
+                    // 변경 감지로 커밋 시 UPDATE
+                    page.forEach(study -> geocoder.geocode(study.getAddress())
+                            .ifPresent(point -> study.updateLocation(point.getY(), point.getX())));
+                    return page;
+                });
+                if (studies == null || studies.isEmpty()) {
+                    break;
+                }
+                for (Study study : studies) {
+                    if (study.getLatitude() != null) {
+                        studyGeoIndex.add(study);
+                        located++;
+                    } else {
+                        skipped++;
+                    }
+                }
+                lastId = studies.get(studies.size() - 1).getId();
+                stringRedisTemplate.opsForValue().set(PROGRESS_KEY, String.valueOf(lastId));
+            } while (studies.size() == PAGE_SIZE);
+            stringRedisTemplate.opsForValue().set(DONE_KEY, String.valueOf(System.currentTimeMillis()));
+            stringRedisTemplate.delete(PROGRESS_KEY);
+            log.info("공고 좌표 채우기 완료 : {}건 변환, {}건 변환 실패, {}ms", located, skipped, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 다음 서버 시작 때 마지막으로 처리한 id 다음부터 이어서 진행
+            log.warn("공고 좌표 채우기 실패 : {}", e.getMessage());
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.repository.StudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import com.example.lablink.global.cache.TwoLevelCacheManager;
+import com.example.lablink.global.util.AfterCommit;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서버 메모리 색인(키워드 검색, 상세 검색 필터, 자동완성)을 모든 서버에서 같게 유지
+// 공고 작성/수정/삭제가 커밋된 뒤 이 서버 색인에 바로 반영하고, 캐시 무효화 채널(INVALIDATION_CHANNEL)로 공고 id 를 알린다
+// 메시지를 받은 다른 서버는 DB 에서 공고를 다시 읽어 색인을 갱신한다 (없으면 삭제)
+// 커밋 전에 반영하면 롤백된 변경이 색인에 남고, 다른 서버의 색인으로 만든 결과가 공용 캐시(목록 페이지, 카드)에 들어가므로 커밋 후에만 반영
+// 지원은 자동완성 제목 가중치(1 + 지원자 수)만 바뀌므로 공고를 다시 읽지 않고 가중치만 올린다
+@Slf4j
+@Component
+public class StudyIndexSynchronizer {
+    // 메시지를 보낸 서버 (자기가 보낸 메시지는 이미 반영했으므로 건너뛴다)
+    private final String origin = UUID.randomUUID().toString();
+
+    private final StudyRepository studyRepository;
+    private final StudyKeywordSearchEngine studyKeywordSearchEngine;
+    private final ObjectProvider<StudyKeywordIndex> studyKeywordIndex;
+    private final StudyFilterIndex studyFilterIndex;
+    private final StudySuggestIndex studySuggestIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer cacheInvalidationListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    // 재생성 중에 반영한 공고 id (재생성 중이 아니면 null)
+    // 재생성은 시작 시점의 DB 로 새 색인을 만든 뒤 교체하므로, 그 사이에 반영한 변경은 교체 후 다시 반영한다
+    private volatile Set<Long> changedWhileRebuilding;
+
+    public StudyIndexSynchronizer(StudyRepository studyRepository,
+                                  StudyKeywordSearchEngine studyKeywordSearchEngine,
+                                  ObjectProvider<StudyKeywordIndex> studyKeywordIndex,
+                                  StudyFilterIndex studyFilterIndex,
+                                  StudySuggestIndex studySuggestIndex,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  @Qualifier("cacheInvalidationListenerContainer") RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                  ObjectMapper objectMapper) {
+        this.studyRepository = studyRepository;
+        this.studyKeywordSearchEngine = studyKeywordSearchEngine;
+        this.studyKeywordIndex = studyKeywordIndex;
+        this.studyFilterIndex = studyFilterIndex;
+        this.studySuggestIndex = studySuggestIndex;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheInvalidationListenerContainer = cacheInvalidationListenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        cacheInvalidationListenerContainer.addMessageListener(
+                (message, pattern) -> handle(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+    }
+
+    // 서버 시작 시 전체 공고로 색인 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    // 공고 작성/수정/삭제 시 호출 (커밋 후 이 서버 색인 반영 + 다른 서버에 알림)
+    // 목록 캐시 버전을 올리기(StudyListCacheInvalidator) 전에 호출해야 다른 서버가 새 버전으로 이전 색인 결과를 캐싱하지 않는다
+    public void changed(Long studyId) {
+        AfterCommit.run("공고 색인 갱신", () -> {
+            apply(studyId);
+            publish("studyIndex", studyId);
+        });
+    }
+
+    // 지원 시 호출 (커밋 후 자동완성 제목 가중치 증가 + 다른 서버에 알림)
+    public void applicantAdded(Long studyId) {
+        AfterCommit.run("공고 색인 갱신", () -> {
+            addApplicant(studyId);
+            publish("studyApplicant", studyId);
+        });
+    }
+
+    // 전체 재생성 (다른 서버의 알림을 놓친 경우를 위해 주기적으로 실행)
+    public synchronized void rebuild() {
+        changedWhileRebuilding = ConcurrentHashMap.newKeySet();
+        try {
+            studyKeywordIndex.ifAvailable(StudyKeywordIndex::rebuild);
+            studyFilterIndex.rebuild();
+            studySuggestIndex.rebuild();
+        } finally {
+            Set<Long> studyIds = changedWhileRebuilding;
+            changedWhileRebuilding = null;
+            studyIds.forEach(this::apply);
+        }
+    }
+
+    // DB 의 현재 값으로 색인 갱신 (여러 번 반영해도 결과가 같다)
+    void apply(Long studyId) {
+        Set<Long> studyIds = changedWhileRebuilding;
+        if (studyIds != null) {
+            studyIds.add(studyId);
+        }
+        Optional<Study> study = studyRepository.findById(studyId);
+        if (study.isPresent()) {
+            studyKeywordSearchEngine.index(study.get());
+            studyFilterIndex.index(study.get());
+            studySuggestIndex.add(study.get());
+        } else {
+            studyKeywordSearchEngine.remove(studyId);
+            studyFilterIndex.remove(studyId);
+            studySuggestIndex.remove(studyId);
+        }
+    }
+
+    // 재생성 중이면 재생성이 읽은 지원자 수에 빠져 있을 수 있으므로 교체 후 DB 값으로 다시 반영
+    void addApplicant(Long studyId) {
+        Set<Long> studyIds = changedWhileRebuilding;
+        if (studyIds != null) {
+            studyIds.add(studyId);
+        }
+        studySuggestIndex.addApplicants(studyId, 1);
+    }
+
+    void handle(String message) {
+        try {
+            Map<?, ?> body = objectMapper.readValue(message, Map.class);
+            // 자기가 보낸 메시지는 이미 반영했다
+            if (origin.equals(body.get("origin"))) {
+                return;
+            }
+            if (body.get("studyIndex") != null) {
+                apply(((Number) body.get("studyIndex")).longValue());
+            } else if (body.get("studyApplicant") != null) {
+                addApplicant(((Number) body.get("studyApplicant")).longValue());
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 공고 색인 메시지 : {}", message);
+        } catch (Exception e) {
+            log.warn("공고 색인 갱신 실패 : {}, {}", message, e.getMessage());
+        }
+    }
+
+    // type : studyIndex (작성/수정/삭제), studyApplicant (지원)
+    private void publish(String type, Long studyId) {
+        try {
+            stringRedisTemplate.convertAndSend(TwoLevelCacheManager.INVALIDATION_CHANNEL,
+                    objectMapper.writeValueAsString(Map.of(type, studyId, "origin", origin)));
+        } catch (Exception e) {
+            // 다른 서버는 다음 재생성 때 반영된다
+            log.warn("공고 색인 변경 전파 실패 : {}, {}", studyId, e.getMessage());
+        }
+    }
+}
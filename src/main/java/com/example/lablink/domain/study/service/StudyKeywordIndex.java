@@ -0,0 +1,306 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.repository.StudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 공고 키워드 검색용 인메모리 역색인 (title, studyInfo, description)
+// LIKE '%keyword%' 는 인덱스를 탈 수 없어 매번 풀스캔이 일어나기 때문에
+// 한글에 맞게 1-gram, 2-gram 으로 쪼개서 gram -> (studyId -> 점수) 로 들고 있는다
+// study.search.engine=memory (기본값) 일 때 사용
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "study.search.engine", havingValue = "memory", matchIfMissing = true)
+public class StudyKeywordIndex implements StudyKeywordSearchEngine {
+    private static final int TITLE_WEIGHT = 3;
+    private static final int STUDY_INFO_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private final StudyRepository studyRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // gram -> (studyId -> 가중치 합)
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // studyId -> 색인한 문서 (수정/삭제 시 기존 posting 제거 + 검색 결과 원문 확인용)
+    private Map<Long, Document> documents = new HashMap<>();
+    // 재색인 중에 들어온 작성/수정/삭제 (studyId -> 문서, 삭제면 null), 재색인 중이 아니면 null
+    // 새 색인은 재색인 시작 시점의 DB 기준이라 교체 직전에 다시 적용해야 유실되지 않는다
+    private Map<Long, Document> pending;
+
+    // 전체 재색인 (새 색인을 만든 뒤 한 번에 교체하므로 재색인 중에도 검색 가능)
+    // 서버 시작 시, 매 정시에 StudyIndexSynchronizer 가 호출
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        setPending(new LinkedHashMap<>());
+        Map<String, Map<Long, Integer>> newPostings = new HashMap<>();
+        Map<Long, Document> newDocuments = new HashMap<>();
+        try {
+            int pageIndex = 0;
+            Page<Study> page;
+            do {
+                page = studyRepository.findAll(PageRequest.of(pageIndex++, REBUILD_PAGE_SIZE));
+                for (Study study : page.getContent()) {
+                    addTo(newPostings, newDocuments, study.getId(), Document.of(study));
+                }
+            } while (page.hasNext());
+
+            lock.writeLock().lock();
+            try {
+                // 재색인 중에 바뀐 공고를 새 색인에 다시 적용한 뒤 교체
+                for (Map.Entry<Long, Document> entry : pending.entrySet()) {
+                    removeFrom(newPostings, newDocuments, entry.getKey());
+                    if (entry.getValue() != null) {
+                        addTo(newPostings, newDocuments, entry.getKey(), entry.getValue());
+                    }
+                }
+                postings = newPostings;
+                documents = newDocuments;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            setPending(null);
+        }
+        log.info("공고 검색 색인 생성 완료 : {}건, gram {}개, {}ms", newDocuments.size(), newPostings.size(), System.currentTimeMillis() - start);
+        return newDocuments.size();
+    }
+
+    // 공고 작성/수정 시 색인 갱신
+    @Override
+    public void index(Study study) {
+        Document document = Document.of(study);
+        lock.writeLock().lock();
+        try {
+            removeFrom(postings, documents, study.getId());
+            addTo(postings, documents, study.getId(), document);
+            if (pending != null) {
+                pending.put(study.getId(), document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 공고 삭제 시 색인 제거
+    @Override
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            removeFrom(postings, documents, studyId);
+            if (pending != null) {
+                pending.put(studyId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setPending(Map<Long, Document> pending) {
+        lock.writeLock().lock();
+        try {
+            this.pending = pending;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 키워드의 모든 gram 을 포함하는 공고 id 를 점수 내림차순(동점이면 최신순)으로 반환
+    public List<Long> search(String keyword) {
+        Map<Long, Integer> scores = match(keyword);
+        List<Long> studyIds = new ArrayList<>(scores.keySet());
+        studyIds.sort((a, b) -> {
+            int compare = Integer.compare(scores.get(b), scores.get(a));
+            return compare != 0 ? compare : Long.compare(b, a);
+        });
+        return studyIds;
+    }
+
+    @Override
+    public List<Long> search(String keyword, int pageIndex, int pageCount) {
+        List<Long> studyIds = search(keyword);
+        int fromIndex = Math.min(pageIndex * pageCount, studyIds.size());
+        int toIndex = Math.min(fromIndex + pageCount, studyIds.size());
+        return new ArrayList<>(studyIds.subList(fromIndex, toIndex));
+    }
+
+    // 커서 기반 조회용 : beforeId 보다 작은 id 를 최신순으로 limit 개 반환
+    @Override
+    public List<Long> search(String keyword, Long beforeId, int limit) {
+        List<Long> studyIds = new ArrayList<>(match(keyword).keySet());
+        studyIds.sort(Comparator.reverseOrder());
+        List<Long> result = new ArrayList<>(limit);
+        for (Long studyId : studyIds) {
+            if (beforeId != null && studyId >= beforeId) continue;
+            result.add(studyId);
+            if (result.size() == limit) break;
+        }
+        return result;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // gram 교집합으로 후보를 좁힌 뒤, gram 이 떨어져 있어도 후보가 되므로 원문에 키워드가 그대로 있는지 확인 (LIKE '%keyword%' 와 같은 결과)
+    private Map<Long, Integer> match(String keyword) {
+        Set<String> grams = queryGrams(keyword);
+        if (grams.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String query = keyword.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            // posting 이 짧은 gram 부터 교집합을 구해야 비교 횟수가 적다
+            List<Map<Long, Integer>> lists = new ArrayList<>();
+            for (String gram : grams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting == null) {
+                    return Collections.emptyMap();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            Map<Long, Integer> scores = new HashMap<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !scores.isEmpty(); i++) {
+                Map<Long, Integer> posting = lists.get(i);
+                scores.keySet().retainAll(posting.keySet());
+                scores.replaceAll((studyId, score) -> score + posting.get(studyId));
+            }
+            scores.keySet().removeIf(studyId -> !documents.get(studyId).contains(query));
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void addTo(Map<String, Map<Long, Integer>> postings, Map<Long, Document> documents, Long studyId, Document document) {
+        for (Map.Entry<String, Integer> entry : document.weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), gram -> new HashMap<>()).put(studyId, entry.getValue());
+        }
+        documents.put(studyId, document);
+    }
+
+    private static void removeFrom(Map<String, Map<Long, Integer>> postings, Map<Long, Document> documents, Long studyId) {
+        Document document = documents.remove(studyId);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.weights.keySet()) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting == null) continue;
+            posting.remove(studyId);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static void addWeights(Map<String, Integer> weights, String text, int weight) {
+        for (String gram : tokenize(text)) {
+            weights.merge(gram, weight, Integer::sum);
+        }
+    }
+
+    // 색인용 : 소문자 변환 후 공백 기준으로 나눈 단어마다 1-gram, 2-gram 생성
+    // 한글은 형태소 분석 없이도 2-gram 이면 부분 일치 검색이 가능하다
+    static Set<String> tokenize(String text) {
+        Set<String> grams = new HashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+                if (i < word.length() - 1) {
+                    grams.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return grams;
+    }
+
+    // 검색용 : 2-gram 만 사용 (한 글자 단어는 1-gram)
+    static Set<String> queryGrams(String keyword) {
+        Set<String> grams = new HashSet<>();
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                grams.add(word);
+                continue;
+            }
+            for (int i = 0; i < word.length() - 1; i++) {
+                grams.add(word.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    // 색인한 공고 한 건 : gram -> 가중치, 소문자로 바꾼 원문 (title, studyInfo, description)
+    private static class Document {
+        private final Map<String, Integer> weights;
+        private final List<String> texts;
+
+        private Document(Map<String, Integer> weights, List<String> texts) {
+            this.weights = weights;
+            this.texts = texts;
+        }
+
+        private static Document of(Study study) {
+            Map<String, Integer> weights = new HashMap<>();
+            addWeights(weights, study.getTitle(), TITLE_WEIGHT);
+            addWeights(weights, study.getStudyInfo(), STUDY_INFO_WEIGHT);
+            addWeights(weights, study.getDescription(), DESCRIPTION_WEIGHT);
+            List<String> texts = new ArrayList<>(3);
+            for (String text : new String[]{study.getTitle(), study.getStudyInfo(), study.getDescription()}) {
+                if (text != null) {
+                    texts.add(text.toLowerCase(Locale.ROOT));
+                }
+            }
+            return new Document(weights, texts);
+        }
+
+        private boolean contains(String query) {
+            for (String text : texts) {
+                if (text.contains(query)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.global.cache.TwoLevelCacheManager;
+import com.example.lablink.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 공고 목록 캐시(StudyListService) 무효화
+// allEntries 로 전체 키를 지우는 대신
+//  - 버전 : 캐시 키 앞에 버전을 붙이고, 버전 값만 올려서 O(1) 로 논리적 무효화 (이전 버전 키는 TTL 로 만료)
+//          버전은 TwoLevelCacheManager 가 서버 메모리에 들고 있어서 L1 적중 시 Redis 를 거치지 않는다
+//  - 의존성 : 페이지를 캐싱할 때 공고 id -> 캐시 키 목록을 기록해두고, 공고가 바뀌면 그 공고가 포함된 페이지만 삭제
+// 공고 상세 캐시(StudyDetailService)도 공고별 버전으로 같이 관리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyListCacheInvalidator {
+    private static final String VERSION_KEY = StudyListService.CACHE_NAME + ":version";
+    private static final String DEPENDENCY_KEY = StudyListService.CACHE_NAME + ":dep:";
+    private static final String DETAIL_VERSION_KEY = StudyDetailService.CACHE_NAME + ":version:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TwoLevelCacheManager cacheManager;
+
+    // 전체 버전 + 정렬(mode)별 버전 ex) "3.1"
+    public String currentVersion(String mode) {
+        List<Long> versions = cacheManager.getVersions(List.of(VERSION_KEY, VERSION_KEY + ":" + mode));
+        return versions.get(0) + "." + versions.get(1);
+    }
+
+    // 캐시 미스로 페이지를 새로 만들었을 때 페이지에 포함된 공고 id 별로 캐시 키 기록
+    public void track(String cacheKey, Collection<Long> studyIds) {
+        if (studyIds.isEmpty()) {
+            return;
+        }
+        long ttlSeconds = StudyListService.CACHE_TTL.getSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long studyId : studyIds) {
+                stringConnection.sAdd(DEPENDENCY_KEY + studyId, cacheKey);
+                stringConnection.expire(DEPENDENCY_KEY + studyId, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    // 공고 작성/삭제 : 모든 목록의 순서(페이지 경계)가 바뀌므로 전체 버전 증가
+    public void invalidateAll() {
+        AfterCommit.run("공고 목록 캐시 무효화", () -> cacheManager.incrementVersion(VERSION_KEY));
+    }
+
+    // 정렬 기준 값 변경 (ex. 지원자 수 -> popularity) : 해당 정렬 목록만 버전 증가
+    public void invalidateOrder(String mode) {
+        AfterCommit.run("공고 목록 캐시 무효화", () -> cacheManager.incrementVersion(VERSION_KEY + ":" + mode));
+    }
+
+    // 목록에 보이는 값만 바뀐 경우 (ex. 모집 상태) : 해당 공고가 들어있는 페이지만 삭제
+    public void evictPagesContaining(Long studyId) {
+        AfterCommit.run("공고 목록 캐시 무효화", () -> {
+            Set<String> cacheKeys = stringRedisTemplate.opsForSet().members(DEPENDENCY_KEY + studyId);
+            if (cacheKeys == null || cacheKeys.isEmpty()) {
+                return;
+            }
+            String prefix = CacheKeyPrefix.simple().compute(StudyListService.CACHE_NAME);
+            List<String> keys = cacheKeys.stream().map(key -> prefix + key).collect(Collectors.toList());
+            keys.add(DEPENDENCY_KEY + studyId);
+            stringRedisTemplate.delete(keys);
+            // Redis 를 직접 지웠으므로 각 서버의 L1 에도 알린다
+            cacheManager.evict(StudyListService.CACHE_NAME, cacheKeys);
+        });
+    }
+
+    // 공고 상세 버전
+    public String currentDetailVersion(Long studyId) {
+        return String.valueOf(cacheManager.getVersions(List.of(DETAIL_VERSION_KEY + studyId)).get(0));
+    }
+
+    // 상세에 보이는 값 변경 (수정, 이미지 삭제, 지원자 수, 삭제) : 해당 공고 상세 버전 증가
+    // 버전 키에는 TTL 을 두지 않는다 (만료 후 다시 1 부터 올라가면 아직 살아있는 이전 v1 캐시를 읽게 됨)
+    public void invalidateDetail(Long studyId) {
+        AfterCommit.run("공고 목록 캐시 무효화", () -> cacheManager.incrementVersion(DETAIL_VERSION_KEY + studyId));
+    }
+}
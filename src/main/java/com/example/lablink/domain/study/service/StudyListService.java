@@ -0,0 +1,92 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudyCursor;
+import com.example.lablink.domain.study.dto.StudyListDto;
+import com.example.lablink.domain.study.dto.StudySearchOption;
+import com.example.lablink.domain.study.repository.StudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 공고 목록 페이지 조회 (로그인 정보와 무관한 공용 캐시)
+// 사용자별 북마크 여부는 StudySearchService 에서 캐시 밖에서 덧씌운다
+@Service
+@RequiredArgsConstructor
+public class StudyListService {
+    public static final String CACHE_NAME = "StudyListPages";
+    // 버전이 바뀐 이전 키는 TTL 로 정리된다
+    public static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+    private final StudySearchQueryRepository studySearchQueryRepository;
+    private final StudyKeywordSearchEngine studyKeywordSearchEngine;
+    private final StudyListCacheInvalidator studyListCacheInvalidator;
+    private final StudySortIndex studySortIndex;
+    private final StudyCardCache studyCardCache;
+    private final StudyFilterIndex studyFilterIndex;
+
+    // 캐시 키 생성 (조회 결과에 영향을 주는 값만 사용, userId/companyId 제외)
+    // 앞에 버전을 붙여서 버전이 바뀌면 이전 캐시를 읽지 않는다 (StudyListCacheInvalidator)
+    public String generateCacheKey(StudySearchOption searchOption, int pageIndex, int pageCount, String sortedType) {
+        String version = studyListCacheInvalidator.currentVersion(StudyCursor.modeOf(searchOption, sortedType));
+        return "v" + version + ":StudyListKey [" + searchOption.getKeyword() + "," + searchOption.getCategory() + "," + searchOption.getAddress() + ","
+                + searchOption.getSearchDate() + "," + searchOption.getSearchTime() + "," + searchOption.getGender() + "," + searchOption.getAge() + ","
+                + pageIndex + "," + pageCount + "," + sortedType + "]";
+    }
+
+    // 게시글 조회 (전체 조회 및 검색 조회 등)
+    // cacheKey 는 generateCacheKey 로 한 번만 만들어서 넘긴다 (캐시 저장과 의존성 기록이 같은 키를 써야 evictPagesContaining 이 이 페이지를 지울 수 있음)
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CACHE_NAME, key = "#cacheKey")
+    public List<StudyListDto> getStudyPage(String cacheKey, StudySearchOption searchOption, int pageIndex, int pageCount, String sortedType) {
+        String keyword = searchOption.getKeyword();
+        List<StudyListDto> studies = null;
+        // 정렬 조건이 들어온다면
+        if(sortedType != null){
+            studies = getSortedStudies(sortedType, pageIndex, pageCount);
+        }
+
+        // 상세 검색
+        if(searchOption.hasValue()){
+//            studies = studyRepository.searchStudiesBySearchOption(searchOption, pageIndex, pageCount);
+            studies = searchStudies(searchOption, pageIndex, pageCount);
+        }
+
+        if(keyword != null){
+            // 검색 엔진에서 해당 페이지의 id 를 찾고, 그 공고만 조회
+            studies = studySearchQueryRepository.findStudyListByIds(studyKeywordSearchEngine.search(keyword, pageIndex, pageCount));
+        }
+
+        // 일반 전체 조회
+        if(sortedType == null && !searchOption.hasValue()){
+//            studies = studyRepository.findAllByOrderByEndDateDesc();
+            studies = getSortedStudies(StudyCursor.LATEST, pageIndex, pageCount);
+        }
+
+        // 공고 수정 시 이 페이지만 지울 수 있도록 포함된 공고 id 기록
+        studyListCacheInvalidator.track(cacheKey, studies.stream().map(StudyListDto::getId).collect(Collectors.toList()));
+        return studies;
+    }
+
+    // 공고 정렬 조회 (popularity : 지원자 많은 순, latest : 최신순, pay : 단가 높은 순, ending : 마감 임박순, hot : 최근 조회가 많은 순)
+    // Redis 정렬 색인에서 id 를 찾고 카드 캐시에서 조회, 색인이 준비되기 전에는 DB 에서 정렬
+    public List<StudyListDto> getSortedStudies(String sortedType, int pageIndex, int pageCount) {
+        if (StudySortIndex.supports(sortedType) && studySortIndex.isReady()) {
+            return studyCardCache.getCards(studySortIndex.range(sortedType, pageIndex, pageCount));
+        }
+        return studySearchQueryRepository.findSortedStudies(sortedType, pageIndex, pageCount);
+    }
+
+    // 상세 검색 : 필터 색인에서 id 를 찾고 카드 캐시에서 조회, 색인이 준비되기 전에는 DB 에서 검색
+    public List<StudyListDto> searchStudies(StudySearchOption searchOption, int pageIndex, int pageCount) {
+        if (studyFilterIndex.isReady()) {
+            return studyCardCache.getCards(studyFilterIndex.search(searchOption, null, pageIndex, pageCount));
+        }
+        return studySearchQueryRepository.searchStudies(searchOption, pageIndex, pageCount);
+    }
+}
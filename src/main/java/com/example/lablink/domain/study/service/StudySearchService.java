@@ -3,31 +3,29 @@ package com.example.lablink.domain.study.service;
 import com.example.lablink.domain.bookmark.service.BookmarkService;
 import com.example.lablink.domain.company.entity.Company;
 import com.example.lablink.domain.company.security.CompanyDetailsImpl;
+import com.example.lablink.domain.study.dto.StudyCursor;
+import com.example.lablink.domain.study.dto.StudyListDto;
 import com.example.lablink.domain.study.dto.StudySearchOption;
+import com.example.lablink.domain.study.repository.StudyKeywordSearchEngine;
 import com.example.lablink.domain.study.repository.StudyRepository;
 import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
 import com.example.lablink.domain.user.entity.User;
 import com.example.lablink.domain.user.security.UserDetailsImpl;
 import com.example.lablink.domain.study.dto.responseDto.LatestSearchKeyword;
+import com.example.lablink.domain.study.dto.responseDto.StudyCursorResponseDto;
+import com.example.lablink.domain.study.dto.responseDto.StudyFacetsDto;
 import com.example.lablink.domain.study.dto.responseDto.SearchRankResponseDto;
 import com.example.lablink.domain.study.dto.responseDto.StudyResponseDto;
-import com.example.lablink.domain.study.entity.Study;
 import com.example.lablink.global.exception.GlobalErrorCode;
 import com.example.lablink.global.exception.GlobalException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -36,78 +34,117 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class StudySearchService {
+    // 내 주변 검색 최대 반경 (km)
+    private static final double MAX_RADIUS_KM = 50;
 
     private final StudyRepository studyRepository;
     private final StudySearchQueryRepository studySearchQueryRepository;
+    private final StudyKeywordSearchEngine studyKeywordSearchEngine;
+    private final StudyListService studyListService;
+    private final StudyFacetService studyFacetService;
+    private final StudySuggestIndex studySuggestIndex;
+    private final SearchKeywordWriter searchKeywordWriter;
+    private final TrendingKeywordService trendingKeywordService;
+    private final RecentSearchStore recentSearchStore;
+    private final StudyGeoIndex studyGeoIndex;
+    private final StudyCardCache studyCardCache;
     private final BookmarkService bookmarkService;
-    private final RedisTemplate<String, String> redisTemplate;
 
 
-    // 캐시 키 생성
-    public String generateCacheKey(String keyword, int pageIndex, int pageCount, String sortedType, UserDetailsImpl userDetails, CompanyDetailsImpl companyDetails) {
-        String userId = userDetails != null ? String.valueOf(userDetails.getUser().getId()) : "null";
-        String companyId = companyDetails != null ? String.valueOf(companyDetails.getCompany().getId()) : "null";
+    // 게시글 조회 (전체 조회 및 검색 조회 등)
+    // 목록은 모든 사용자가 같은 캐시를 쓰고, 북마크 여부만 사용자별로 조회해서 덧씌운다
+    public List<StudyResponseDto> getStudies(StudySearchOption searchOption, String keyword, Integer pageIndex, Integer pageCount, String sortedType, UserDetailsImpl userDetails, CompanyDetailsImpl companyDetails) {
+        User user = userDetails == null ? null : userDetails.getUser();
+        Company company = companyDetails == null ? null : companyDetails.getCompany();
+        String cacheKey = studyListService.generateCacheKey(searchOption, pageIndex, pageCount, sortedType);
+        List<StudyListDto> studies = studyListService.getStudyPage(cacheKey, searchOption, pageIndex, pageCount, sortedType);
 
-        return "CustomKey [" + keyword + "," + pageIndex + "," + pageCount + "," + sortedType + "," + userId + "," + companyId + "]";
+        // 캐시 적중 여부와 관계없이 검색어 저장
+        if(keyword != null && !keyword.trim().isEmpty()){
+            saveSearchKeyword(keyword, user, company);
+        }
+        return toStudyResponseDtos(studies, user, company);
     }
 
-    // 게시글 조회 (전체 조회 및 검색 조회 등)
+    // 게시글 커서 기반 조회 (무한 스크롤)
+    // cursor 가 빈 문자열이면 첫 페이지, 응답의 nextCursor 를 다음 요청에 그대로 넘겨준다
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "StudyResponseDtos", key = "#root.target.generateCacheKey(#searchOption.keyword, #pageIndex, #pageCount, #sortedType, #userDetails, #companyDetails)")
-    public List<StudyResponseDto> getStudies(StudySearchOption searchOption, String keyword, Integer pageIndex, Integer pageCount, String sortedType, UserDetailsImpl userDetails, CompanyDetailsImpl companyDetails) {
+    public StudyCursorResponseDto getStudiesByCursor(StudySearchOption searchOption, String cursor, int pageCount, String sortedType, boolean facets, UserDetailsImpl userDetails, CompanyDetailsImpl companyDetails) {
         User user = userDetails == null ? null : userDetails.getUser();
         Company company = companyDetails == null ? null : companyDetails.getCompany();
-        List<Study> studies = null;
-        List<StudyResponseDto> studyResponseDtos = new ArrayList<>();
-        // 정렬 조건이 들어온다면
-        if(sortedType != null){
-            Page<Study> pageStudies;
-            pageStudies = getSortedStudies(sortedType, pageIndex, pageCount);
-            studies = convertPageToList(pageStudies);
+        String mode = StudyCursor.modeOf(searchOption, sortedType);
+        StudyCursor lastCursor = StudyCursor.decode(cursor, mode);
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        int limit = pageCount + 1;
+
+        List<StudyListDto> studies;
+        boolean hasNext;
+        String nextCursor;
+        if(StudyCursor.KEYWORD.equals(mode)){
+            String keyword = searchOption.getKeyword();
+            List<Long> studyIds = studyKeywordSearchEngine.search(keyword, lastCursor == null ? null : lastCursor.getId(), limit);
+            // 색인 이후 삭제된 공고는 조회에서 빠지므로 다음 페이지 여부와 커서는 검색 결과 id 로 정한다
+            hasNext = studyIds.size() > pageCount;
+            if(hasNext){
+                studyIds = studyIds.subList(0, pageCount);
+            }
+            studies = studySearchQueryRepository.findStudyListByIds(studyIds);
+            nextCursor = hasNext ? StudyCursor.ofKeyword(studyIds.get(studyIds.size() - 1)).encode() : null;
+            // 스크롤할 때마다 검색어 점수가 오르지 않도록 첫 페이지에서만 저장
+            if(lastCursor == null && !keyword.trim().isEmpty()){
+                saveSearchKeyword(keyword, user, company);
+            }
+        } else {
+            studies = StudyCursor.SEARCH.equals(mode)
+                    ? studySearchQueryRepository.searchStudies(searchOption, lastCursor, limit)
+                    : studySearchQueryRepository.findSortedStudies(mode, lastCursor, limit);
+            hasNext = studies.size() > pageCount;
+            if(hasNext){
+                studies = studies.subList(0, pageCount);
+            }
+            nextCursor = hasNext ? StudyCursor.of(mode, studies.get(studies.size() - 1)).encode() : null;
         }
+        // 패싯은 스크롤해도 바뀌지 않으므로 첫 페이지에서만 계산
+        StudyFacetsDto studyFacets = facets && lastCursor == null ? getFacets(searchOption) : null;
+        return new StudyCursorResponseDto(toStudyResponseDtos(studies, user, company), nextCursor, hasNext, studyFacets);
+    }
 
-        // 상세 검색
-        if(searchOption.hasValue()){
-//            studies = studyRepository.searchStudiesBySearchOption(searchOption, pageIndex, pageCount);
-            studies = studySearchQueryRepository.searchStudies(searchOption, pageIndex, pageCount);
+    // 검색 결과 패싯 (키워드 검색이면 키워드 검색 결과 안에서 센다)
+    public StudyFacetsDto getFacets(StudySearchOption searchOption) {
+        return studyFacetService.getFacets(searchOption);
+    }
+
+    // 내 주변 공고 (반경 radiusKm 안, 가까운 순)
+    // 좌표가 매번 달라서 목록 캐시는 쓰지 않고 Redis GEO 색인 + 카드 캐시로 조회
+    public List<StudyResponseDto> getNearbyStudies(double latitude, double longitude, double radiusKm, int pageIndex, int pageCount, UserDetailsImpl userDetails, CompanyDetailsImpl companyDetails) {
+        if(latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180 || radiusKm <= 0 || radiusKm > MAX_RADIUS_KM){
+            throw new GlobalException(GlobalErrorCode.INVALID_INPUT_VALUE);
         }
+        User user = userDetails == null ? null : userDetails.getUser();
+        Company company = companyDetails == null ? null : companyDetails.getCompany();
+        Map<Long, Double> distances = studyGeoIndex.near(latitude, longitude, radiusKm, pageIndex, pageCount);
+        List<StudyListDto> studies = studyCardCache.getCards(new ArrayList<>(distances.keySet()));
+        Set<Long> bookmarkedIds = getBookmarkedIds(studies, user, company);
 
-        if(keyword != null){
-            studies = studySearchQueryRepository.searchStudiesByKeyword(keyword, pageIndex, pageCount);
-            if(searchOption.getKeyword() != null && !keyword.trim().isEmpty()){
-                if(user != null){
-                    // 최신검색어 구현
-                    Double timestamp = (double) System.currentTimeMillis();
-                    redisTemplate.opsForZSet().add(user.getId().toString(),  searchOption.getKeyword(), timestamp);
-                }
-                if(company != null){
-                    // 최신검색어 구현
-                    Double timestamp = (double) System.currentTimeMillis();
-                    redisTemplate.opsForZSet().add(company.getCompanyName(),  searchOption.getKeyword(), timestamp);
-                }
-                // 인기검색어 구현
-                Double score = 0.0;
-                try {
-                    // 검색을하면 해당검색어를 value에 저장하고, score를 1 준다
-                    redisTemplate.opsForZSet().incrementScore("ranking", searchOption.getKeyword(), 1);
-                } catch (Exception e) {
-                    System.out.println(e.toString());
-                }
-                //score를 1씩 올려준다.
-//                redisTemplate.opsForZSet().incrementScore("ranking", searchOption.getKeyword(), score);
-            }
+        List<StudyResponseDto> studyResponseDtos = new ArrayList<>();
+        for (StudyListDto study : studies){
+            studyResponseDtos.add(new StudyResponseDto(study, bookmarkedIds.contains(study.getId()), distances.get(study.getId())));
         }
+        return studyResponseDtos;
+    }
 
-        // 일반 전체 조회
-        if(sortedType == null && !searchOption.hasValue()){
-            Page<Study> pageStudies;
-//            studies = studyRepository.findAllByOrderByEndDateDesc();
-            Pageable pageable = PageRequest.of(pageIndex, pageCount);
-            pageStudies = studyRepository.findAllByOrderByCreatedAtDesc(pageable);
-            studies = convertPageToList(pageStudies);
+    private List<StudyResponseDto> toStudyResponseDtos(List<StudyListDto> studies, User user, Company company) {
+        List<StudyResponseDto> studyResponseDtos = new ArrayList<>();
+        Set<Long> bookmarkedIds = getBookmarkedIds(studies, user, company);
+        for (StudyListDto study : studies){
+            boolean isBookmarked = bookmarkedIds.contains(study.getId());
+            studyResponseDtos.add(new StudyResponseDto(study, isBookmarked));
         }
+        return studyResponseDtos;
+    }
 
-        List<Long> studyIds = studies.stream().map(Study::getId).collect(Collectors.toList());
+    private Set<Long> getBookmarkedIds(List<StudyListDto> studies, User user, Company company) {
+        List<Long> studyIds = studies.stream().map(StudyListDto::getId).collect(Collectors.toList());
         Set<Long> bookmarkedIds = new java.util.HashSet<>();
         if(user != null){
             bookmarkedIds = bookmarkService.getBookmarkedStudyIds(studyIds, user);
@@ -115,22 +152,31 @@ public class StudySearchService {
         if(company != null){
             bookmarkedIds = bookmarkService.getBookmarkedStudyIds(studyIds, company);
         }
-        for (Study study : studies){
-            boolean isBookmarked = bookmarkedIds.contains(study.getId());
-            studyResponseDtos.add(new StudyResponseDto(study, isBookmarked));
+        return bookmarkedIds;
+    }
+
+    // 최신 검색어, 인기 검색어 저장
+    // Redis 쓰기는 SearchKeywordWriter 가 모아서 비동기로 처리 (검색 응답을 기다리게 하지 않음)
+    private void saveSearchKeyword(String keyword, User user, Company company) {
+        String recentKey = null;
+        if(user != null){
+            recentKey = RecentSearchStore.key(user);
+        } else if(company != null){
+            recentKey = RecentSearchStore.key(company);
         }
-        return studyResponseDtos;
+        searchKeywordWriter.write(keyword, recentKey);
+    }
+
+    // 검색어 자동완성 (공고 제목 + 인기 검색어)
+    public List<String> suggest(String keyword, int size) {
+        return studySuggestIndex.suggest(keyword, size);
     }
 
-    // 최근 검색 조회 (유저Id == key)
-    // todo : 몇개까지 저장 ?
+    // 최근 검색 조회 (RecentSearchStore, 최근 10개까지 저장)
+    // done : 몇개까지 저장 ?
     public List<LatestSearchKeyword> latestSearchKeyword(UserDetailsImpl userDetails){
         if(userDetails != null){
-            User user = userDetails.getUser();
-            String key = user.getId().toString();
-            ZSetOperations<String, String> ZSetOperations = redisTemplate.opsForZSet();
-            Set<ZSetOperations.TypedTuple<String>> typedTuples = ZSetOperations.reverseRangeWithScores(key, 0, 9);
-            return typedTuples.stream().map(LatestSearchKeyword::convertToLatestSearchKeyword).collect(Collectors.toList());
+            return recentSearchStore.find(RecentSearchStore.key(userDetails.getUser()));
         } else{
             return null;
         }
@@ -138,11 +184,7 @@ public class StudySearchService {
 
     public List<LatestSearchKeyword> latestSearchKeywordCompany(CompanyDetailsImpl companyDetails){
         if(companyDetails != null){
-            Company company = companyDetails.getCompany();
-            String key = company.getCompanyName();
-            ZSetOperations<String, String> ZSetOperations = redisTemplate.opsForZSet();
-            Set<ZSetOperations.TypedTuple<String>> typedTuples = ZSetOperations.reverseRangeWithScores(key, 0, 9);
-            return typedTuples.stream().map(LatestSearchKeyword::convertToLatestSearchKeyword).collect(Collectors.toList());
+            return recentSearchStore.find(RecentSearchStore.key(companyDetails.getCompany()));
         } else{
             return null;
         }
@@ -150,9 +192,7 @@ public class StudySearchService {
 
     public void deleteSearchKeyword(UserDetailsImpl userDetails, String deleteWord) {
         if(userDetails != null){
-            User user = userDetails.getUser();
-            String key = user.getId().toString();
-            redisTemplate.opsForZSet().remove(key, deleteWord);
+            recentSearchStore.delete(RecentSearchStore.key(userDetails.getUser()), deleteWord);
         } else {
             throw new GlobalException(GlobalErrorCode.LOGIN_REQUIRED);
         }
@@ -160,46 +200,15 @@ public class StudySearchService {
 
     public void deleteSearchKeywordCompany(CompanyDetailsImpl companyDetails, String deleteWord) {
         if(companyDetails != null){
-            Company company = companyDetails.getCompany();
-            String key = company.getCompanyName();
-            redisTemplate.opsForZSet().remove(key, deleteWord);
+            recentSearchStore.delete(RecentSearchStore.key(companyDetails.getCompany()), deleteWord);
         } else {
             throw new GlobalException(GlobalErrorCode.LOGIN_REQUIRED);
         }
     }
 
     // 인기검색어 리스트 1위~10위까지
-    public List<SearchRankResponseDto> searchRankList() {
-        String key = "ranking";
-        // ZSetOperations 객체 생성
-        ZSetOperations<String, String> ZSetOperations = redisTemplate.opsForZSet();
-        // score순으로 10개 보여줌
-        Set<ZSetOperations.TypedTuple<String>> typedTuples = ZSetOperations.reverseRangeWithScores(key, 0, 9);
-        return typedTuples.stream().map(SearchRankResponseDto::convertToResponseRankingDto).collect(Collectors.toList());
-    }
-
-    @Transactional
-    // 공고 정렬 조회
-    public Page<Study> getSortedStudies(String sortedType, int pageIndex, int pageCount) {
-        Page<Study> studies = null;
-        Pageable pageable = PageRequest.of(pageIndex, pageCount);
-        // 인기순 == 지원자 많은 순
-        if (Objects.equals(sortedType, "popularity")){
-            // 지원자 많은 순으로 정렬
-            studies = studyRepository.findAllByOrderByCurrentApplicantCountDesc(pageable);
-        }
-        // 최신순
-        if (Objects.equals(sortedType, "latest")){
-            studies = studyRepository.findAllByOrderByCreatedAtDesc(pageable);
-        }
-        // 단가 높은 순
-        if (Objects.equals(sortedType, "pay")){
-            studies = studyRepository.findAllByOrderByPayDesc(pageable);
-        }
-        return studies;
-    }
-
-    public List<Study> convertPageToList(Page<Study> page) {
-        return page.getContent();
+    // window : hour(최근 1시간), day(24시간), week(7일), all(누적)
+    public List<SearchRankResponseDto> searchRankList(String window) {
+        return trendingKeywordService.trending(window, 10);
     }
 }
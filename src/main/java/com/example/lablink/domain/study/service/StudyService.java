@@ -4,23 +4,28 @@ import com.example.lablink.global.S3Image.dto.S3ResponseDto;
 import com.example.lablink.global.S3Image.entity.S3Image;
 import com.example.lablink.global.S3Image.service.S3Service;
 import com.example.lablink.global.S3Image.service.S3UploaderService;
+import com.example.lablink.domain.application.service.ApplicationSeatReservation;
 import com.example.lablink.domain.application.service.ApplicationService;
 import com.example.lablink.domain.bookmark.service.BookmarkService;
 import com.example.lablink.domain.chat.service.ChatService;
 import com.example.lablink.domain.company.entity.Company;
 import com.example.lablink.domain.company.security.CompanyDetailsImpl;
+import com.example.lablink.domain.study.dto.StudyCursor;
+import com.example.lablink.domain.study.dto.StudyDetailDto;
+import com.example.lablink.domain.study.dto.StudyUserFlagsDto;
 import com.example.lablink.domain.study.dto.requestDto.StudyRequestDto;
 import com.example.lablink.domain.study.dto.responseDto.StudyDetailResponseDto;
 import com.example.lablink.domain.study.entity.Study;
 import com.example.lablink.domain.study.entity.StudyStatusEnum;
 import com.example.lablink.domain.study.repository.StudyRepository;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
 import com.example.lablink.domain.user.entity.User;
 import com.example.lablink.domain.user.security.UserDetailsImpl;
 import com.example.lablink.global.exception.GlobalErrorCode;
 import com.example.lablink.global.exception.GlobalException;
+import com.example.lablink.global.geo.Geocoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -39,10 +44,20 @@ public class StudyService {
     private final S3Service s3Service;
     private final ChatService chatService;
     private final ApplicationService applicationService;
+    private final StudyListCacheInvalidator studyListCacheInvalidator;
+    private final StudySortIndex studySortIndex;
+    private final StudyCardCache studyCardCache;
+    private final StudyIndexSynchronizer studyIndexSynchronizer;
+    private final StudyGeoIndex studyGeoIndex;
+    private final StudyDetailService studyDetailService;
+    private final StudyViewCounter studyViewCounter;
+    private final ApplicationSeatReservation applicationSeatReservation;
+    private final StudyCloseQueue studyCloseQueue;
+    private final StudySearchQueryRepository studySearchQueryRepository;
+    private final Geocoder geocoder;
 
     // 게시글 작성
     @Transactional
-    @CacheEvict(cacheNames = "StudyResponseDtos", allEntries = true)
     public void createStudy(StudyRequestDto requestDto, CompanyDetailsImpl companyDetails) {
         Company company = isCompanyLogin(companyDetails);
         StudyStatusEnum status = setStatus(requestDto.getEndDate());
@@ -74,25 +89,33 @@ public class StudyService {
             thumbnailImageURL,
             detailImageURL
         );
+        study.updateMaxApplicants(requestDto.getMaxApplicants());
+        // 내 주변 검색용 좌표 (변환하지 못하면 위치 색인에서 빠진다)
+        geocoder.geocode(study.getAddress()).ifPresent(point -> study.updateLocation(point.getY(), point.getX()));
         studyRepository.save(study);
+        studyIndexSynchronizer.changed(study.getId());
+        studyGeoIndex.add(study);
+        studySortIndex.add(study);
+        studyCloseQueue.schedule(study);
+        studyListCacheInvalidator.invalidateAll();
     }
 
     // 게시글 상세 조회
-    @Transactional(readOnly = true)
+    // 공고 내용은 캐시(StudyDetailService), 북마크/지원 여부는 로그인한 경우에만 한 번의 쿼리로 조회
+    // 캐시 적중 시 비로그인 사용자는 DB 를 거치지 않도록 트랜잭션을 열지 않는다
     public StudyDetailResponseDto getDetailStudy(Long studyId, UserDetailsImpl userDetails) {
         // todo : userDetails 통일
         User user = userDetails == null ? null : userDetails.getUser();
-        Study study = getStudyService.getStudy(studyId);
-        boolean isbookmarked = bookmarkService.checkBookmark(study.getId(), user);
-        boolean isApplied = applicationService.checkApplication(study.getId(), user);
-        return new StudyDetailResponseDto(study, isbookmarked, isApplied);
+        StudyDetailDto study = studyDetailService.getStudyDetail(studyId);
+        studyViewCounter.increment(studyId);
+        StudyUserFlagsDto flags = user == null ? StudyUserFlagsDto.NONE : studySearchQueryRepository.findUserFlags(studyId, user);
+        return new StudyDetailResponseDto(study, flags);
     }
 
     // 게시글 수정
     // 이미지 수정 refactoring
     // 수정 requestDto가 따로 있어야 하나 ? or 수정하기 눌렀을 때 내용 보여주기 -> patch
     @Transactional
-    @CacheEvict(cacheNames = "StudyResponseDtos", allEntries = true)
     public void updateStudy(Long studyId, StudyRequestDto requestDto, CompanyDetailsImpl companyDetails) {
         Company company = isCompanyLogin(companyDetails);
         Study study = getStudyService.getStudy(studyId);
@@ -113,7 +136,8 @@ public class StudyService {
 //
 //        study = modelMapper.map(requestDto, Study.class);
 
-        StudyStatusEnum status = study.getStatus();
+        StudyStatusEnum beforeStatus = study.getStatus();
+        StudyStatusEnum status = beforeStatus;
         if(requestDto.getEndDate() != null) status = setStatus(requestDto.getEndDate());
 
         // 만약 수정하기 전 공고에 image가 있었다면 이미지 가져오기
@@ -141,6 +165,23 @@ public class StudyService {
         }
 
         study.update(status, thumbnailImageURL, detailImageURL);
+        // 모집 인원을 바꾸면 좌석 예약의 최대 인원도 바꾼다 (clearMaxApplicants 면 제한 해제)
+        if(requestDto.isClearMaxApplicants() || requestDto.getMaxApplicants() != null){
+            Integer maxApplicants = requestDto.isClearMaxApplicants() ? null : requestDto.getMaxApplicants();
+            study.updateMaxApplicants(maxApplicants);
+            applicationSeatReservation.changeMax(studyId, maxApplicants);
+        }
+        studyIndexSynchronizer.changed(studyId);
+        studyListCacheInvalidator.invalidateDetail(studyId);
+        studyCloseQueue.schedule(study);
+        // 목록에는 이미지가 없으므로 모집 상태가 바뀐 경우에만 해당 공고가 있는 페이지 삭제
+        if(status != beforeStatus){
+            studySortIndex.add(study);
+            studyCardCache.evict(studyId);
+            studyListCacheInvalidator.evictPagesContaining(studyId);
+            // 마감 임박순은 모집 중인 공고만 보여주므로 순서가 바뀐다
+            studyListCacheInvalidator.invalidateOrder(StudyCursor.ENDING_SOON);
+        }
     }
 
     public StudyStatusEnum setStatus(LocalDateTime endDate){
@@ -166,6 +207,7 @@ public class StudyService {
         }
         // study update 해주깅
         study.deleteThumbnail();
+        studyListCacheInvalidator.invalidateDetail(studyId);
     }
 
     // 기본 이미지로 변경 (detailImage)
@@ -179,12 +221,12 @@ public class StudyService {
             s3UploaderService.deleteFile(detailS3Image.getId());
         }
         study.deleteDetailImage();
+        studyListCacheInvalidator.invalidateDetail(studyId);
     }
 
     // 게시글 삭제
     // 이미지 삭제 refactoring
     @Transactional
-    @CacheEvict(cacheNames = "StudyResponseDtos", allEntries = true)
     public void deleteStudy(Long studyId, CompanyDetailsImpl companyDetails) {
         // companyDetails == null 아면 로그인이 필요한 서비스입니다. 날려주기
         Company company = isCompanyLogin(companyDetails);
@@ -211,6 +253,15 @@ public class StudyService {
         }
         checkRole(studyId, company);
         studyRepository.deleteById(studyId);
+        studyIndexSynchronizer.changed(studyId);
+        studyGeoIndex.remove(studyId);
+        studySortIndex.remove(studyId);
+        studyCardCache.evict(studyId);
+        studyViewCounter.remove(studyId);
+        applicationSeatReservation.evict(studyId);
+        studyCloseQueue.remove(studyId);
+        studyListCacheInvalidator.invalidateAll();
+        studyListCacheInvalidator.invalidateDetail(studyId);
     }
 
     // companyDetails == null 아면 로그인이 필요한 서비스입니다. 날려주기
@@ -0,0 +1,295 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudyCursor;
+import com.example.lablink.domain.study.dto.StudyListDto;
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import com.example.lablink.global.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// 정렬 조회용 Redis sorted set 색인 (study:sort:{정렬})
+//  - popularity : 지원자 수, pay : 단가, latest : 작성일 -> 점수 내림차순
+//  - ending     : 마감일 -> 점수 오름차순, 모집 중인 공고만
+//  - hot        : 조회수에 시간 감쇠를 적용한 점수 -> 점수 내림차순 (MySQL 로 재생성하지 않는 Redis 전용 색인)
+// 점수가 같으면 member 사전순으로 정렬되므로 member 는 0 으로 채운 id 를 사용한다 (DB 정렬의 id 순서와 동일)
+// 공고/신청서 작성·수정·삭제가 커밋된 뒤 갱신하고, 누락분은 Scheduler 에서 MySQL 기준으로 재생성
+// 재생성은 임시 키를 만든 뒤 RENAME 으로 교체하므로, 그 사이 원래 키에 반영된 변경은 교체와 함께 사라진다
+//  -> 재생성 중(락이 있는 동안)에 바뀐 공고 id 를 study:sort:changed 에 모아 두고 교체 후 DB 값으로 다시 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySortIndex {
+    private static final String KEY_PREFIX = "study:sort:";
+    private static final String REBUILD_SUFFIX = ":rebuild:";
+    // 재생성은 한 서버에서만 (서버마다 동시에 재생성하면 서로의 RENAME 이 상대의 변경 기록을 덮는다)
+    private static final String REBUILD_LOCK_KEY = KEY_PREFIX + "rebuild-lock";
+    // 재생성 중에 바뀐 공고 id
+    private static final String CHANGED_KEY = KEY_PREFIX + "changed";
+    // 재생성 도중 서버가 죽어도 임시 키가 남지 않도록
+    private static final long REBUILD_KEY_TTL_SECONDS = 3600;
+    private static final List<String> SORT_TYPES = List.of(StudyCursor.POPULARITY, StudyCursor.PAY, StudyCursor.LATEST, StudyCursor.ENDING_SOON);
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final String HOT_KEY = KEY_PREFIX + StudyCursor.HOT;
+    // 인기 점수 반감기 : 매 정시 HOT_DECAY 를 곱해서 24시간이 지나면 절반
+    private static final double HOT_DECAY = Math.pow(0.5, 1.0 / 24);
+    // 이보다 낮아진 점수는 정리
+    private static final double HOT_MIN_SCORE = 0.01;
+    // 재생성 중이면 바뀐 공고 id 기록 (KEYS[1] = 락, KEYS[2] = 기록, ARGV[1] = member)
+    private static final String RECORD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('SADD', KEYS[2], ARGV[1]) end " +
+            "return 0";
+    // 기록과 증가를 한 번에 실행해서 교체(RENAME) 전에 증가했는데 기록은 교체 후에 남는 경우를 막는다
+    // 교체 전 증가분은 다시 반영할 때 DB 값으로 덮어쓰므로 두 번 더해지지 않는다 (KEYS[3] = 인기순 키)
+    private static final RedisScript<Long> INCREMENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('SADD', KEYS[2], ARGV[1]) end " +
+            "redis.call('ZINCRBY', KEYS[3], 1, ARGV[1]) " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StudySearchQueryRepository studySearchQueryRepository;
+
+    // 색인이 만들어지기 전에는 DB 로 조회
+    private volatile boolean ready = false;
+
+    public static boolean supports(String sortedType) {
+        return SORT_TYPES.contains(sortedType) || StudyCursor.HOT.equals(sortedType);
+    }
+
+    // 서버 시작 시 다른 서버가 재생성 중이었으면 그 서버의 재생성이 끝난 뒤부터 사용
+    public boolean isReady() {
+        if (!ready && Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + StudyCursor.LATEST))
+                && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(REBUILD_LOCK_KEY))) {
+            ready = true;
+        }
+        return ready;
+    }
+
+    // 서버 시작 시 다른 서버가 이미 만들어 둔 색인이 없으면 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + StudyCursor.LATEST))) {
+            ready = true;
+            return;
+        }
+        rebuild();
+    }
+
+    // 공고 작성/수정 시 호출 (커밋 후 반영)
+    public void add(Study study) {
+        AfterCommit.run("공고 정렬 색인 갱신", () -> {
+            String member = member(study.getId());
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                record(stringConnection, member);
+                stringConnection.zAdd(KEY_PREFIX + StudyCursor.POPULARITY, study.getCurrentApplicantCount(), member);
+                stringConnection.zAdd(KEY_PREFIX + StudyCursor.PAY, study.getPay(), member);
+                stringConnection.zAdd(KEY_PREFIX + StudyCursor.LATEST, epochMilli(study.getCreatedAt()), member);
+                if (isEndingSoonTarget(study.getStatus(), study.getEndDate())) {
+                    stringConnection.zAdd(KEY_PREFIX + StudyCursor.ENDING_SOON, epochMilli(study.getEndDate()), member);
+                } else {
+                    stringConnection.zRem(KEY_PREFIX + StudyCursor.ENDING_SOON, member);
+                }
+                return null;
+            });
+        });
+    }
+
+    // 공고 삭제 시 호출 (커밋 후 반영)
+    public void remove(Long studyId) {
+        AfterCommit.run("공고 정렬 색인 갱신", () -> {
+            String member = member(studyId);
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                record(stringConnection, member);
+                removeMember(stringConnection, member);
+                stringConnection.zRem(HOT_KEY, member);
+                return null;
+            });
+        });
+    }
+
+    // 신청서 작성 시 호출 (커밋 후 반영)
+    public void incrementApplicantCount(Long studyId) {
+        AfterCommit.run("공고 정렬 색인 갱신", () -> stringRedisTemplate.execute(INCREMENT,
+                List.of(REBUILD_LOCK_KEY, CHANGED_KEY, KEY_PREFIX + StudyCursor.POPULARITY), member(studyId)));
+    }
+
+    // 조회수 반영 시 호출 (StudyViewCounter)
+    public void incrementHotScores(Map<Long, Long> views) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            views.forEach((studyId, count) -> stringConnection.zIncrBy(HOT_KEY, count, member(studyId)));
+            return null;
+        });
+    }
+
+    // 인기 점수 감쇠 (매 정시)
+    // 조회할 때마다 시간 가중치를 계산하지 않고 전체 점수에 비율을 곱하므로 조회는 그대로 ZREVRANGE
+    // 여러 서버에서 같은 시각에 실행돼도 한 번만 곱하도록 시간별 키로 막는다
+    public void decayHotScores() {
+        long hour = System.currentTimeMillis() / Duration.ofHours(1).toMillis();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(HOT_KEY + ":decay:" + hour, "1", Duration.ofHours(2)))) {
+            return;
+        }
+        stringRedisTemplate.opsForZSet().unionAndStore(HOT_KEY, Collections.emptyList(), HOT_KEY, RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.of(HOT_DECAY));
+        stringRedisTemplate.opsForZSet().removeRangeByScore(HOT_KEY, 0, HOT_MIN_SCORE);
+    }
+
+    // pageIndex 페이지의 공고 id
+    public List<Long> range(String sortedType, int pageIndex, int pageCount) {
+        String key = KEY_PREFIX + sortedType;
+        long offset = (long) pageIndex * pageCount;
+        Set<String> members;
+        if (StudyCursor.ENDING_SOON.equals(sortedType)) {
+            // 이미 마감일이 지난 공고는 건너뛴다 (재생성 시 정리)
+            members = stringRedisTemplate.opsForZSet().rangeByScore(key, epochMilli(LocalDateTime.now()), Double.POSITIVE_INFINITY, offset, pageCount);
+        } else {
+            members = stringRedisTemplate.opsForZSet().reverseRange(key, offset, offset + pageCount - 1);
+        }
+        if (members == null) {
+            return Collections.emptyList();
+        }
+        List<Long> studyIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            studyIds.add(Long.valueOf(member));
+        }
+        return studyIds;
+    }
+
+    // MySQL 기준으로 전체 재생성 (새 키에 만든 뒤 RENAME 으로 교체하므로 재생성 중에도 조회 가능)
+    // 락을 잡은 서버 한 곳에서만 실행하고, 재생성 중에 바뀐 공고는 교체 후 DB 값으로 다시 반영한다
+    public void rebuild() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", Duration.ofSeconds(REBUILD_KEY_TTL_SECONDS)))) {
+            log.info("다른 서버에서 공고 정렬 색인 재생성 중");
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            // 락을 잡기 전에 커밋된 변경은 아래에서 DB 를 읽을 때 포함된다
+            stringRedisTemplate.delete(CHANGED_KEY);
+            String suffix = REBUILD_SUFFIX + UUID.randomUUID();
+            int count = 0;
+            Long lastId = null;
+            LocalDateTime now = LocalDateTime.now();
+            List<StudyListDto> studies;
+            do {
+                studies = studySearchQueryRepository.findStudyListAfter(lastId, REBUILD_PAGE_SIZE);
+                List<StudyListDto> page = studies;
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    for (StudyListDto study : page) {
+                        addMember(stringConnection, suffix, study, now);
+                    }
+                    for (String sortType : SORT_TYPES) {
+                        stringConnection.expire(KEY_PREFIX + sortType + suffix, REBUILD_KEY_TTL_SECONDS);
+                    }
+                    return null;
+                });
+                count += studies.size();
+                if (!studies.isEmpty()) {
+                    lastId = studies.get(studies.size() - 1).getId();
+                }
+            } while (studies.size() == REBUILD_PAGE_SIZE);
+
+            for (String sortType : SORT_TYPES) {
+                String key = KEY_PREFIX + sortType;
+                if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key + suffix))) {
+                    // RENAME 은 TTL 도 같이 옮기므로 PERSIST 로 제거
+                    stringRedisTemplate.rename(key + suffix, key);
+                    stringRedisTemplate.persist(key);
+                } else {
+                    stringRedisTemplate.delete(key);
+                }
+            }
+            int replayed = replayChanges(now);
+            // 인기 점수는 유지하고 삭제된 공고만 정리 (최신순 색인에 있는 공고만 남긴다)
+            stringRedisTemplate.opsForZSet().intersectAndStore(HOT_KEY, List.of(KEY_PREFIX + StudyCursor.LATEST), HOT_KEY,
+                    RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.of(1, 0));
+            ready = true;
+            log.info("공고 정렬 색인 재생성 완료 : {}건 (재생성 중 변경 {}건), {}ms", count, replayed, System.currentTimeMillis() - start);
+        } finally {
+            stringRedisTemplate.delete(REBUILD_LOCK_KEY);
+        }
+    }
+
+    // 재생성 중에 바뀐 공고를 교체된 색인에 DB 값으로 다시 반영 (없어진 공고는 제거)
+    // 교체 후 기록된 변경은 이미 새 색인에 반영됐으므로 기록만 지운다
+    private int replayChanges(LocalDateTime now) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(CHANGED_KEY);
+        stringRedisTemplate.delete(CHANGED_KEY);
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+        List<Long> studyIds = members.stream().map(Long::valueOf).collect(Collectors.toList());
+        List<StudyListDto> studies = studySearchQueryRepository.findStudyListByIds(studyIds);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            // 인기(hot) 점수는 재생성하지 않으므로 그대로 둔다
+            for (String member : members) {
+                removeMember(stringConnection, member);
+            }
+            for (StudyListDto study : studies) {
+                addMember(stringConnection, "", study, now);
+            }
+            return null;
+        });
+        return members.size();
+    }
+
+    // suffix : 재생성 중이면 임시 키, 아니면 ""
+    private void addMember(StringRedisConnection stringConnection, String suffix, StudyListDto study, LocalDateTime now) {
+        String member = member(study.getId());
+        stringConnection.zAdd(KEY_PREFIX + StudyCursor.POPULARITY + suffix, study.getCurrentApplicantCount(), member);
+        stringConnection.zAdd(KEY_PREFIX + StudyCursor.PAY + suffix, study.getPay(), member);
+        stringConnection.zAdd(KEY_PREFIX + StudyCursor.LATEST + suffix, epochMilli(study.getCreatedAt()), member);
+        if (isEndingSoonTarget(study.getStatus(), study.getEndDate()) && study.getEndDate().isAfter(now)) {
+            stringConnection.zAdd(KEY_PREFIX + StudyCursor.ENDING_SOON + suffix, epochMilli(study.getEndDate()), member);
+        }
+    }
+
+    private void removeMember(StringRedisConnection stringConnection, String member) {
+        for (String sortType : SORT_TYPES) {
+            stringConnection.zRem(KEY_PREFIX + sortType, member);
+        }
+    }
+
+    private void record(StringRedisConnection stringConnection, String member) {
+        stringConnection.eval(RECORD_SCRIPT, ReturnType.INTEGER, 2, REBUILD_LOCK_KEY, CHANGED_KEY, member);
+    }
+
+    private boolean isEndingSoonTarget(StudyStatusEnum status, LocalDateTime endDate) {
+        return status == StudyStatusEnum.ONGOING && endDate != null;
+    }
+
+    // 점수가 같을 때 사전순 == 숫자순이 되도록 자릿수를 맞춘다
+    static String member(Long studyId) {
+        return String.format("%019d", studyId);
+    }
+
+    private static double epochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudyListDto;
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// 검색어 자동완성용 인메모리 radix trie (공고 제목 + 인기 검색어)
+// 노드마다 하위 트리에서 가중치가 높은 후보 MAX_SIZE 개를 미리 들고 있어서
+// 조회는 접두어 길이만큼 내려간 뒤 그 노드의 목록을 복사하는 것으로 끝난다
+// 가중치 = 인기 검색어 점수(ranking ZSET) + 같은 제목 공고마다 (1 + 지원자 수)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudySuggestIndex {
+    public static final int MAX_SIZE = 10;
+    // 자동완성에 쓰는 인기 검색어 수
+    private static final int RANKING_SIZE = 1000;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final StudySearchQueryRepository studySearchQueryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie trie = new Trie();
+    // studyId -> (정규화된 제목, 가중치) : 삭제 시 빼주기 위해 보관
+    private Map<Long, Title> titles = new HashMap<>();
+    // 정규화된 검색어 -> 마지막으로 반영한 ranking 점수
+    private Map<String, Long> keywordScores = new HashMap<>();
+
+    // 전체 재생성 (새 trie 를 만든 뒤 한 번에 교체)
+    // 서버 시작 시, 매 정시에 StudyIndexSynchronizer 가 호출
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Trie newTrie = new Trie();
+        Map<Long, Title> newTitles = new HashMap<>();
+        Map<String, Long> newKeywordScores = new HashMap<>();
+        newTrie.deferTop = true;
+
+        Long lastId = null;
+        List<StudyListDto> studies;
+        do {
+            studies = studySearchQueryRepository.findStudyListAfter(lastId, REBUILD_PAGE_SIZE);
+            for (StudyListDto study : studies) {
+                Title title = new Title(normalize(study.getTitle()), study.getTitle(), 1L + study.getCurrentApplicantCount());
+                if (title.key.isEmpty()) continue;
+                newTitles.put(study.getId(), title);
+                newTrie.apply(title.key, title.text, title.weight);
+            }
+            if (!studies.isEmpty()) {
+                lastId = studies.get(studies.size() - 1).getId();
+            }
+        } while (studies.size() == REBUILD_PAGE_SIZE);
+
+        for (Map.Entry<String, Long> ranking : loadRanking().entrySet()) {
+            newKeywordScores.put(ranking.getKey(), ranking.getValue());
+            newTrie.apply(ranking.getKey(), ranking.getKey(), ranking.getValue());
+        }
+        newTrie.computeAllTops();
+        newTrie.deferTop = false;
+
+        lock.writeLock().lock();
+        try {
+            trie = newTrie;
+            titles = newTitles;
+            keywordScores = newKeywordScores;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("검색어 자동완성 생성 완료 : 제목 {}건, 검색어 {}건, {}ms", newTitles.size(), newKeywordScores.size(), System.currentTimeMillis() - start);
+    }
+
+    // 인기 검색어 점수만 다시 읽어서 바뀐 만큼 반영
+    public void reloadKeywords() {
+        Map<String, Long> ranking = loadRanking();
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<String, Long> previous : keywordScores.entrySet()) {
+                if (!ranking.containsKey(previous.getKey())) {
+                    trie.apply(previous.getKey(), previous.getKey(), -previous.getValue());
+                }
+            }
+            for (Map.Entry<String, Long> current : ranking.entrySet()) {
+                long delta = current.getValue() - keywordScores.getOrDefault(current.getKey(), 0L);
+                if (delta != 0) {
+                    trie.apply(current.getKey(), current.getKey(), delta);
+                }
+            }
+            keywordScores = ranking;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 공고 작성/수정 시 제목 추가 (이전 제목은 뺀다)
+    public void add(Study study) {
+        Title title = new Title(normalize(study.getTitle()), study.getTitle(), 1L + study.getCurrentApplicantCount());
+        if (title.key.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Title previous = titles.put(study.getId(), title);
+            if (previous != null) {
+                trie.apply(previous.key, previous.text, -previous.weight);
+            }
+            trie.apply(title.key, title.text, title.weight);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 지원 시 제목 가중치 증가 (지원자 수가 많은 공고가 먼저 나오도록)
+    public void addApplicants(Long studyId, long delta) {
+        lock.writeLock().lock();
+        try {
+            Title previous = titles.get(studyId);
+            if (previous == null) {
+                return;
+            }
+            titles.put(studyId, new Title(previous.key, previous.text, previous.weight + delta));
+            trie.apply(previous.key, previous.text, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 공고 삭제 시 제목 제거
+    public void remove(Long studyId) {
+        lock.writeLock().lock();
+        try {
+            Title previous = titles.remove(studyId);
+            if (previous != null) {
+                trie.apply(previous.key, previous.text, -previous.weight);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 접두어로 시작하는 제목/검색어를 가중치 순으로 최대 size 개 (size 는 1 ~ MAX_SIZE 로 맞춘다)
+    public List<String> suggest(String prefix, int size) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            return trie.top(key).stream()
+                    .limit(Math.max(1, Math.min(size, MAX_SIZE)))
+                    .map(entry -> entry.text)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<String, Long> loadRanking() {
+        Map<String, Long> ranking = new HashMap<>();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> typedTuples = redisTemplate.opsForZSet().reverseRangeWithScores(SearchKeywordWriter.RANKING_KEY, 0, RANKING_SIZE - 1);
+            if (typedTuples == null) {
+                return ranking;
+            }
+            for (ZSetOperations.TypedTuple<String> typedTuple : typedTuples) {
+                String key = normalize(typedTuple.getValue());
+                long score = typedTuple.getScore() == null ? 0L : typedTuple.getScore().longValue();
+                if (!key.isEmpty() && score > 0) {
+                    ranking.merge(key, score, Long::sum);
+                }
+            }
+        } catch (Exception e) {
+            // 인기 검색어를 못 읽어도 제목 자동완성은 동작하도록
+            log.warn("자동완성 인기 검색어 조회 실패 : {}", e.getMessage());
+        }
+        return ranking;
+    }
+
+    // 소문자 + 앞뒤 공백 제거 + 연속 공백은 하나로
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static class Title {
+        private final String key;
+        private final String text;
+        private final long weight;
+
+        private Title(String key, String text, long weight) {
+            this.key = key;
+            this.text = text == null ? null : text.trim();
+            this.weight = weight;
+        }
+    }
+
+    // 자동완성 후보 (같은 정규화 키의 제목/검색어는 하나로 합쳐서 가중치를 더한다)
+    private static class Suggestion {
+        private final String key;
+        private String text;
+        private long weight;
+
+        private Suggestion(String key, String text) {
+            this.key = key;
+            this.text = text;
+        }
+    }
+
+    private static final Comparator<Suggestion> BY_WEIGHT = Comparator.<Suggestion>comparingLong(s -> s.weight).reversed()
+            .thenComparing(s -> s.key);
+
+    private static class Node {
+        // 부모에서 이 노드로 오는 간선의 문자열 (자식이 하나뿐인 경로는 한 간선으로 합친다)
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>();
+        private Suggestion suggestion;
+        // 하위 트리의 상위 MAX_SIZE 개 후보
+        private List<Suggestion> top = Collections.emptyList();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    // 외부에서 lock 으로 보호
+    private static class Trie {
+        private final Node root = new Node("");
+        // 전체 생성 중에는 노드별 상위 후보 계산을 마지막에 한 번만 한다
+        private boolean deferTop;
+
+        // key 후보의 가중치를 delta 만큼 바꾼다 (0 이하가 되면 제거)
+        void apply(String key, String text, long delta) {
+            apply(root, key, 0, text, delta);
+        }
+
+        List<Suggestion> top(String prefix) {
+            Node node = root;
+            int depth = 0;
+            while (depth < prefix.length()) {
+                Node child = node.children.get(prefix.charAt(depth));
+                if (child == null) {
+                    return Collections.emptyList();
+                }
+                int common = commonPrefix(child.label, prefix, depth);
+                // 접두어가 간선 중간에서 끝나면 그 아래 전체가 후보
+                if (common < child.label.length() && depth + common < prefix.length()) {
+                    return Collections.emptyList();
+                }
+                depth += common;
+                node = child;
+            }
+            return node.top;
+        }
+
+        void computeAllTops() {
+            computeAllTops(root);
+        }
+
+        private void computeAllTops(Node node) {
+            for (Node child : node.children.values()) {
+                computeAllTops(child);
+            }
+            computeTop(node);
+        }
+
+        private void apply(Node node, String key, int depth, String text, long delta) {
+            if (depth == key.length()) {
+                if (node.suggestion == null) {
+                    node.suggestion = new Suggestion(key, text);
+                }
+                node.suggestion.weight += delta;
+                if (node.suggestion.weight <= 0) {
+                    node.suggestion = null;
+                }
+            } else {
+                char first = key.charAt(depth);
+                Node child = node.children.get(first);
+                if (child == null) {
+                    child = new Node(key.substring(depth));
+                    node.children.put(first, child);
+                } else {
+                    int common = commonPrefix(child.label, key, depth);
+                    if (common < child.label.length()) {
+                        // 간선 중간에서 갈라지면 공통 부분으로 중간 노드를 만든다
+                        Node middle = new Node(child.label.substring(0, common));
+                        child.label = child.label.substring(common);
+                        middle.children.put(child.label.charAt(0), child);
+                        node.children.put(first, middle);
+                        child = middle;
+                    }
+                }
+                apply(child, key, depth + child.label.length(), text, delta);
+
+                // 후보가 없어진 노드 정리 : 자식이 없으면 삭제, 하나면 자식과 합친다
+                if (child.suggestion == null && child.children.isEmpty()) {
+                    node.children.remove(first);
+                } else if (child.suggestion == null && child.children.size() == 1) {
+                    Node only = child.children.values().iterator().next();
+                    only.label = child.label + only.label;
+                    node.children.put(first, only);
+                }
+            }
+            if (!deferTop) {
+                computeTop(node);
+            }
+        }
+
+        // 자기 자신 + 자식들의 상위 후보 중 상위 MAX_SIZE 개
+        private static void computeTop(Node node) {
+            List<Suggestion> candidates = new ArrayList<>();
+            if (node.suggestion != null) {
+                candidates.add(node.suggestion);
+            }
+            for (Node child : node.children.values()) {
+                candidates.addAll(child.top);
+            }
+            candidates.sort(BY_WEIGHT);
+            node.top = candidates.size() > MAX_SIZE ? new ArrayList<>(candidates.subList(0, MAX_SIZE)) : candidates;
+        }
+
+        private static int commonPrefix(String label, String key, int depth) {
+            int length = Math.min(label.length(), key.length() - depth);
+            int i = 0;
+            while (i < length && label.charAt(i) == key.charAt(depth + i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.repository.StudyViewCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 공고 조회수 (상세 조회마다 DB 에 쓰지 않도록 메모리에 모았다가 주기적으로 한 번에 반영)
+//  - 조회 : 공고별 LongAdder 증가만 (락 없음, 같은 공고에 요청이 몰려도 셀 단위로 나뉘어 경합이 적다)
+//  - flush : 모인 증가분을 꺼내서 DB 는 batch UPDATE 한 번, 인기(hot) 점수는 Redis 파이프라인 한 번
+// 서버가 비정상 종료되면 마지막 flush 이후의 조회수는 유실된다 (최대 FLUSH_INTERVAL_MILLIS)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyViewCounter {
+    private static final long FLUSH_INTERVAL_MILLIS = 10_000;
+
+    private final StudyViewCountRepository studyViewCountRepository;
+    private final StudySortIndex studySortIndex;
+
+    // 키를 지우지 않고 sumThenReset 으로 비우므로 꺼내는 도중 들어온 조회도 다음 flush 에 반영된다
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public void increment(Long studyId) {
+        counters.computeIfAbsent(studyId, id -> new LongAdder()).increment();
+    }
+
+    // 공고 삭제 시 호출
+    public void remove(Long studyId) {
+        counters.remove(studyId);
+    }
+
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MILLIS)
+    public void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            studyViewCountRepository.addViewCounts(deltas);
+        } catch (DataAccessException e) {
+            // DB 반영에 실패하면 다음 flush 에 다시 시도 (hot 점수도 같이 미룬다)
+            log.warn("공고 조회수 반영 실패 : {}건", deltas.size(), e);
+            deltas.forEach((studyId, delta) -> counters.computeIfAbsent(studyId, id -> new LongAdder()).add(delta));
+            return;
+        }
+        try {
+            studySortIndex.incrementHotScores(deltas);
+        } catch (DataAccessException e) {
+            // hot 점수는 근사값이므로 다시 시도하지 않는다
+            log.warn("공고 인기 점수 반영 실패 : {}건", deltas.size(), e);
+        }
+    }
+
+    // 종료 시 남은 조회수까지 반영
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        counters.forEach((studyId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(studyId, delta);
+            }
+        });
+        return deltas;
+    }
+}
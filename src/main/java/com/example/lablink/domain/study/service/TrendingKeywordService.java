@@ -0,0 +1,125 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.responseDto.SearchRankResponseDto;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 기간별 인기 검색어 (최근 1시간 / 24시간 / 7일)
+// 검색어는 1시간 단위 ZSET(bucket)에 쌓이고 TTL 로 자동 삭제된다 (SearchKeywordWriter)
+// 조회 시 기간에 해당하는 bucket 을 오래된 것일수록 작은 가중치로 ZUNIONSTORE 해서 1분간 재사용
+// 조회 결과는 2단 캐시(CacheConfig, L1 + Redis)에 두어서 대부분의 요청은 Redis 를 거치지 않는다 (검색어 순위라 CACHE_TTL 만큼 늦어도 됨)
+@Service
+@RequiredArgsConstructor
+public class TrendingKeywordService {
+    public static final String HOUR = "hour";
+    public static final String DAY = "day";
+    public static final String WEEK = "week";
+    // 누적 인기 검색어 (기존 ranking)
+    public static final String ALL = "all";
+
+    public static final String CACHE_NAME = "TrendingKeywords";
+    public static final Duration CACHE_TTL = Duration.ofMinutes(1);
+
+    private static final String BUCKET_PREFIX = "ranking:bucket:";
+    private static final String TREND_PREFIX = "ranking:trend:";
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+    // 가장 긴 기간(7일)이 지나면 자동 삭제
+    public static final Duration BUCKET_TTL = Duration.ofDays(7).plusHours(1);
+    private static final Duration TREND_TTL = Duration.ofMinutes(1);
+    // 합산 결과와 누적 ranking 에 남겨두는 검색어 수
+    private static final int TREND_SIZE = 1_000;
+    private static final int ALL_TIME_SIZE = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 검색 시각이 속한 1시간 bucket 키
+    public static String bucketKey(long epochMilli) {
+        return BUCKET_PREFIX + epochMilli / HOUR_MILLIS;
+    }
+
+    // 기간별 인기 검색어 상위 size 개
+    @Cacheable(cacheNames = CACHE_NAME, key = "#window + ':' + #size")
+    public List<SearchRankResponseDto> trending(String window, int size) {
+        String key = SearchKeywordWriter.RANKING_KEY;
+        if (!ALL.equals(window)) {
+            key = TREND_PREFIX + window;
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                long now = System.currentTimeMillis();
+                merge(key, now, weights(window, now));
+            }
+        }
+        Set<ZSetOperations.TypedTuple<String>> typedTuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, size - 1);
+        if (typedTuples == null) {
+            return Collections.emptyList();
+        }
+        return typedTuples.stream().map(SearchRankResponseDto::convertToResponseRankingDto).collect(Collectors.toList());
+    }
+
+    // 누적 ranking 은 계속 늘어나므로 상위 ALL_TIME_SIZE 개만 남긴다
+    public void trimAllTime() {
+        redisTemplate.opsForZSet().removeRange(SearchKeywordWriter.RANKING_KEY, 0, -(ALL_TIME_SIZE + 1));
+    }
+
+    // bucket 별 가중치 (index 0 = 현재 bucket)
+    // hour : 현재 bucket + 이전 bucket 중 아직 1시간이 지나지 않은 비율만큼 (sliding window)
+    // day / week : 반감기 6시간 / 24시간의 지수 감쇠
+    static double[] weights(String window, long now) {
+        switch (window) {
+            case HOUR:
+                double elapsed = (double) (now % HOUR_MILLIS) / HOUR_MILLIS;
+                return new double[]{1.0, 1.0 - elapsed};
+            case DAY:
+                return decay(24, 6);
+            case WEEK:
+                return decay(24 * 7, 24);
+            default:
+                throw new GlobalException(GlobalErrorCode.INVALID_RANK_WINDOW);
+        }
+    }
+
+    private static double[] decay(int buckets, int halfLifeHours) {
+        double[] weights = new double[buckets];
+        for (int age = 0; age < buckets; age++) {
+            weights[age] = Math.pow(0.5, (double) age / halfLifeHours);
+        }
+        return weights;
+    }
+
+    // ZUNIONSTORE -> 상위 TREND_SIZE 개만 남기고 -> TTL 을 한 트랜잭션으로 (TTL 없는 결과가 남지 않도록)
+    private void merge(String trendKey, long now, double[] weights) {
+        long currentBucket = now / HOUR_MILLIS;
+        List<String> bucketKeys = new ArrayList<>(weights.length);
+        for (int age = 0; age < weights.length; age++) {
+            bucketKeys.add(BUCKET_PREFIX + (currentBucket - age));
+        }
+        redisTemplate.execute(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                redisOperations.multi();
+                redisOperations.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), trendKey,
+                        RedisZSetCommands.Aggregate.SUM, RedisZSetCommands.Weights.of(weights));
+                redisOperations.opsForZSet().removeRange(trendKey, 0, -(TREND_SIZE + 1));
+                redisOperations.expire(trendKey, TREND_TTL);
+                return redisOperations.exec();
+            }
+        });
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.lablink.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+// L1 : 서버 메모리(Caffeine), L2 : Redis
+// 조회는 L1 -> L2 순서로 하고, L2 에서 찾은 값은 L1 에 채워 넣는다
+// 삭제는 다른 서버의 L1 에도 반영되도록 TwoLevelCacheManager 를 통해 Redis 채널로 전파
+// 키는 Redis 캐시와 같게 문자열로 통일 (전파 메시지로 받은 키와 비교하기 위해)
+public class TwoLevelCache implements Cache {
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache redisCache;
+    private final TwoLevelCacheManager cacheManager;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache redisCache, TwoLevelCacheManager cacheManager) {
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    public com.github.benmanes.caffeine.cache.Cache<String, Object> getLocalCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = localCache.getIfPresent(String.valueOf(key));
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+        ValueWrapper wrapper = redisCache.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            localCache.put(String.valueOf(key), wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = localCache.getIfPresent(String.valueOf(key));
+        if (value != null) {
+            return (T) value;
+        }
+        T loaded = redisCache.get(key, valueLoader);
+        if (loaded != null) {
+            localCache.put(String.valueOf(key), loaded);
+        }
+        return loaded;
+    }
+
+    // @Cacheable 의 put 은 캐시 미스일 때만 일어나므로 다른 서버로 전파하지 않는다
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        if (value != null) {
+            localCache.put(String.valueOf(key), value);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        localCache.invalidate(String.valueOf(key));
+        cacheManager.publishEviction(name, List.of(String.valueOf(key)));
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        cacheManager.publishEviction(name, List.of());
+    }
+
+    // 다른 서버(또는 Redis 를 직접 지운 쪽)에서 전파된 삭제 반영
+    void evictLocal(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            localCache.invalidateAll();
+            return;
+        }
+        localCache.invalidateAll(keys);
+    }
+}
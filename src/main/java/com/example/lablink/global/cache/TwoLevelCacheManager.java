@@ -0,0 +1,156 @@
+package com.example.lablink.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// localCacheNames 에 있는 캐시만 L1(Caffeine) + L2(Redis) 2단 캐시로, 나머지는 Redis 캐시 그대로 사용
+// 캐시 키에 붙이는 버전(StudyListCacheInvalidator)도 여기서 관리
+//  - Redis 가 원본이고 서버마다 메모리에 복사본을 들고 있어서 조회마다 Redis 를 읽지 않는다
+//  - 버전을 올리면 INVALIDATION_CHANNEL 로 새 값을 알리고, 처음 읽을 때와 Redis 재연결 후에만 Redis 에서 다시 읽는다
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private final CacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, TwoLevelCache> caches = new HashMap<>();
+    // 버전 키 -> 값 (Redis 값의 복사본)
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                Set<String> localCacheNames, long maximumSize, Duration expireAfterWrite) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        for (String name : localCacheNames) {
+            com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(expireAfterWrite)
+                    .recordStats()
+                    .build();
+            caches.put(name, new TwoLevelCache(name, localCache, redisCacheManager.getCache(name), this));
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        return cache != null ? cache : redisCacheManager.getCache(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new HashSet<>(redisCacheManager.getCacheNames());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    // 메트릭 등록용
+    public Collection<TwoLevelCache> getTwoLevelCaches() {
+        return caches.values();
+    }
+
+    // Redis 에서 직접 지운 키의 L1 삭제 + 다른 서버로 전파 (keys 가 비어 있으면 전체 삭제)
+    public void evict(String cacheName, Collection<String> keys) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        cache.evictLocal(keys);
+        publishEviction(cacheName, keys);
+    }
+
+    // 버전 키들의 현재 값 (메모리에 없는 키만 Redis 에서 읽는다, 없으면 0)
+    public List<Long> getVersions(List<String> versionKeys) {
+        List<Long> result = new ArrayList<>(versionKeys.size());
+        List<String> missing = new ArrayList<>();
+        for (String versionKey : versionKeys) {
+            Long version = versions.get(versionKey);
+            result.add(version);
+            if (version == null) {
+                missing.add(versionKey);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(missing);
+        Map<String, Long> loaded = new HashMap<>();
+        for (int i = 0; i < missing.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            // 읽는 사이에 전파받은 더 큰 값이 있으면 그 값을 쓴다
+            loaded.put(missing.get(i), versions.merge(missing.get(i), value == null ? 0L : Long.parseLong(value), Math::max));
+        }
+        for (int i = 0; i < versionKeys.size(); i++) {
+            if (result.get(i) == null) {
+                result.set(i, loaded.get(versionKeys.get(i)));
+            }
+        }
+        return result;
+    }
+
+    // Redis 의 버전을 올리고 다른 서버에 새 값을 알린다
+    public long incrementVersion(String versionKey) {
+        Long version = stringRedisTemplate.opsForValue().increment(versionKey);
+        if (version == null) {
+            throw new IllegalStateException("버전 증가 실패 : " + versionKey);
+        }
+        versions.merge(versionKey, version, Math::max);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, objectMapper.writeValueAsString(Map.of("versionKey", versionKey, "version", version)));
+        } catch (Exception e) {
+            // INCR 은 성공했는데 전파만 실패하는 경우는 대부분 Redis 연결이 끊긴 경우라 다른 서버도 재연결 시 버전을 다시 읽는다
+            log.warn("캐시 버전 전파 실패 : {}, {}", versionKey, e.getMessage());
+        }
+        return version;
+    }
+
+    // Redis 연결이 끊겼다 다시 연결되면 그 사이의 전파를 놓쳤을 수 있으므로 메모리의 버전을 버린다 (다음 조회 때 Redis 에서 읽음)
+    public void resetVersions() {
+        versions.clear();
+    }
+
+    void publishEviction(String cacheName, Collection<String> keys) {
+        try {
+            String message = objectMapper.writeValueAsString(Map.of("cacheName", cacheName, "keys", keys));
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 서버의 L1 은 expireAfterWrite 후 만료된다
+            log.warn("L1 캐시 삭제 전파 실패 : {}", e.getMessage());
+        }
+    }
+
+    // INVALIDATION_CHANNEL 구독 (자신이 보낸 메시지도 받지만 이미 지운 키를 한 번 더 지우거나 같은 버전을 한 번 더 반영할 뿐이다)
+    @SuppressWarnings("unchecked")
+    public void handleInvalidation(String message) {
+        try {
+            Map<String, Object> body = objectMapper.readValue(message, Map.class);
+            if (body.containsKey("versionKey")) {
+                versions.merge((String) body.get("versionKey"), ((Number) body.get("version")).longValue(), Math::max);
+                return;
+            }
+            TwoLevelCache cache = caches.get((String) body.get("cacheName"));
+            if (cache != null) {
+                cache.evictLocal((List<String>) body.get("keys"));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 L1 캐시 삭제 메시지 : {}", message);
+        }
+    }
+}
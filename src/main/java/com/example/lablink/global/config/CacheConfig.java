@@ -0,0 +1,78 @@
+package com.example.lablink.global.config;
+
+import com.example.lablink.domain.study.service.StudyDetailService;
+import com.example.lablink.domain.study.service.StudyListService;
+import com.example.lablink.domain.study.service.TrendingKeywordService;
+import com.example.lablink.global.cache.TwoLevelCache;
+import com.example.lablink.global.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.event.connection.ConnectionActivatedEvent;
+import io.lettuce.core.event.connection.ConnectionDeactivatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+// 2단 캐시 : 자주 조회되는 캐시만 서버 메모리(L1)에 두고, 나머지는 Redis(L2) 캐시(RedisConfig.redisCacheManager) 그대로 사용
+// 메트릭 : cache.gets{result=hit|miss}
+//  - L2 : Spring Boot 가 CacheManager 빈 이름(redisCacheManager)으로 cacheManager 태그를 붙인다 (여기서 정하지 않음)
+//  - L1 : 여기서 cacheManager="l1" 태그로 등록
+@Configuration
+public class CacheConfig {
+    // L1 을 사용할 캐시
+    private static final Set<String> LOCAL_CACHE_NAMES = Set.of(StudyListService.CACHE_NAME, StudyDetailService.CACHE_NAME,
+            TrendingKeywordService.CACHE_NAME);
+    private static final long LOCAL_CACHE_MAXIMUM_SIZE = 1_000;
+    // 버전 키/삭제 전파가 누락되더라도 오래된 값이 남아있지 않도록 짧게 유지
+    private static final Duration LOCAL_CACHE_TTL = Duration.ofSeconds(30);
+
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate,
+                                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, objectMapper,
+                LOCAL_CACHE_NAMES, LOCAL_CACHE_MAXIMUM_SIZE, LOCAL_CACHE_TTL);
+        for (TwoLevelCache cache : cacheManager.getTwoLevelCaches()) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache.getLocalCache(), cache.getName(), Tags.of("cacheManager", "l1"));
+        }
+        return cacheManager;
+    }
+
+    // 다른 서버에서 삭제한 캐시 키를 받아 L1 에서도 삭제, 다른 서버에서 올린 캐시 버전 반영
+    // 메시지는 한 스레드에서 받은 순서대로 처리 (공고 색인 변경(StudyIndexSynchronizer)을 캐시 버전보다 먼저 반영하기 위해)
+    // Redis 연결이 끊기거나 다시 연결되면 그 사이에 놓친 버전 전파가 있을 수 있으므로 메모리의 버전을 버린다
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.handleInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        if (redisConnectionFactory instanceof LettuceConnectionFactory) {
+            ((LettuceConnectionFactory) redisConnectionFactory).getRequiredNativeClient().getResources().eventBus().get()
+                    .filter(event -> event instanceof ConnectionActivatedEvent || event instanceof ConnectionDeactivatedEvent)
+                    .subscribe(event -> cacheManager.resetVersions());
+        }
+        return container;
+    }
+}
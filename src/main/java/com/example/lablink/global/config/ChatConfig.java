@@ -1,12 +1,17 @@
 package com.example.lablink.global.config;
 
+import com.example.lablink.domain.chat.security.StompAuthInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
-        import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-        import org.springframework.web.socket.config.annotation.*;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.*;
 
 @Configuration
+@RequiredArgsConstructor
 @EnableWebSocketMessageBroker
 public class ChatConfig implements WebSocketMessageBrokerConfigurer {
+    private final StompAuthInterceptor stompAuthInterceptor;
 
     // 웹 소켓 연결을 위한 엔드포인트 설정 및 stomp sub/pub 엔드포인트 설정
     @Override
@@ -25,4 +30,10 @@ public class ChatConfig implements WebSocketMessageBrokerConfigurer {
         // 메시지를 발행하는 요청 url => 즉 메시지 보낼 때
         registry.setApplicationDestinationPrefixes("/pub");
     }
-}
\ No newline at end of file
+
+    // CONNECT 때 토큰 확인 후 사용자를 세션에 고정 (이후 메시지는 세션 사용자로 처리)
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthInterceptor);
+    }
+}
@@ -1,23 +1,32 @@
 package com.example.lablink.global.config;
 
+import com.example.lablink.domain.study.service.StudyListService;
+import com.example.lablink.domain.study.service.StudyDetailService;
+import com.example.lablink.domain.study.service.StudyFacetService;
+import com.example.lablink.domain.study.service.TrendingKeywordService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CachingConfigurerSupport;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 @EnableRedisRepositories
@@ -60,34 +69,13 @@ public class RedisConfig extends CachingConfigurerSupport {
         return redisTemplate;
     }
 
-//    @Bean
-//    public RedisTemplate<String, Object> chatRedisTemplate(RedisConnectionFactory connectionFactory) {
-//        RedisTemplate<String, Object> chatRedisTemplate = new RedisTemplate<>();
-//        chatRedisTemplate.setConnectionFactory(connectionFactory);
-//        chatRedisTemplate.setKeySerializer(new StringRedisSerializer());
-//        chatRedisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(String.class));
-//        return chatRedisTemplate;
-//    }
-//
-//    // ChannelTopic 등록
-//    @Bean
-//    public ChannelTopic channelTopic() {
-//        return new ChannelTopic("chatroom");
-//    }
-//
-//    // MessageListenerAdapter 등록
-//    @Bean
-//    public MessageListenerAdapter listenerAdapter(RedisSubscriber redisSubscriber) {
-//        return new MessageListenerAdapter(redisSubscriber, "sendMessage");
-//    }
-//    // 등록한 ChannelTopic, MessageListenerAdapter로 RedisMessageListenerContainer 등록
-//    @Bean
-//    public RedisMessageListenerContainer redisMessageListener(RedisConnectionFactory connectionFactory, MessageListenerAdapter listenerAdapter, ChannelTopic channelTopic) {
-//        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-//        container.setConnectionFactory(connectionFactory);
-//        container.addMessageListener(listenerAdapter, channelTopic);
-//        return container;
-//    }
+    // 채팅 메시지 relay 구독 (ChatMessageRelay 가 이 서버의 채팅방 구독 현황에 따라 shard 채널을 구독 / 해제)
+    @Bean
+    public RedisMessageListenerContainer chatMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
 
     // 레디스 캐시
     @Bean
@@ -104,10 +92,20 @@ public class RedisConfig extends CachingConfigurerSupport {
 //        redisCacheConfigurationMap
 //                .put(CacheNames.STUDY, redisCacheConfiguration.entryTtl(Duration.ofMinutes(5)));
 
+        // enableStatistics : 캐시별 hit/miss 를 actuator 메트릭(cache.gets)으로 노출
+        // 메트릭은 서버 시작 시점에 존재하는 캐시에만 등록되므로 공고 목록 캐시는 미리 생성
+        // 공고 목록 캐시는 버전 키로 무효화하므로 이전 버전 키가 남지 않도록 TTL 설정
+        // clear 시 KEYS 대신 SCAN 으로 키를 찾아 Redis 가 멈추지 않도록 한다
         return RedisCacheManager.RedisCacheManagerBuilder
-                .fromConnectionFactory(redisConnectionFactory())
+                .fromCacheWriter(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory(), BatchStrategies.scan(1000)))
 //                .withInitialCacheConfigurations(redisCacheConfigurationMap)
                 .cacheDefaults(redisCacheConfiguration)
+                .withInitialCacheConfigurations(Map.of(
+                        StudyListService.CACHE_NAME, redisCacheConfiguration.entryTtl(StudyListService.CACHE_TTL),
+                        StudyFacetService.CACHE_NAME, redisCacheConfiguration.entryTtl(StudyFacetService.CACHE_TTL),
+                        StudyDetailService.CACHE_NAME, redisCacheConfiguration.entryTtl(StudyDetailService.CACHE_TTL),
+                        TrendingKeywordService.CACHE_NAME, redisCacheConfiguration.entryTtl(TrendingKeywordService.CACHE_TTL)))
+                .enableStatistics()
                 .build();
     }
 }
\ No newline at end of file
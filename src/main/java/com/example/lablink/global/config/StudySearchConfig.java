@@ -0,0 +1,52 @@
+package com.example.lablink.global.config;
+
+import com.example.lablink.domain.study.repository.FullTextStudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.LikeStudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.StudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// 공고 키워드 검색 엔진 선택 (study.search.engine)
+// memory(기본값)는 StudyKeywordIndex 가 직접 빈으로 등록된다
+@Slf4j
+@Configuration
+public class StudySearchConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "study.search.engine", havingValue = "like")
+    public StudyKeywordSearchEngine likeStudyKeywordSearchEngine(StudySearchQueryRepository studySearchQueryRepository) {
+        return new LikeStudyKeywordSearchEngine(studySearchQueryRepository);
+    }
+
+    // FULLTEXT ngram parser 는 MySQL 전용이므로 H2 등에서는 LIKE 검색으로 대체
+    @Bean
+    @ConditionalOnProperty(name = "study.search.engine", havingValue = "fulltext")
+    public StudyKeywordSearchEngine fullTextStudyKeywordSearchEngine(DataSource dataSource,
+                                                                     NamedParameterJdbcTemplate jdbcTemplate,
+                                                                     StudySearchQueryRepository studySearchQueryRepository) {
+        StudyKeywordSearchEngine likeEngine = new LikeStudyKeywordSearchEngine(studySearchQueryRepository);
+        String database = databaseProductName(dataSource);
+        if (!"MySQL".equalsIgnoreCase(database)) {
+            log.warn("{} 에서는 FULLTEXT 검색을 사용할 수 없어 LIKE 검색으로 대체합니다.", database);
+            return likeEngine;
+        }
+        return new FullTextStudyKeywordSearchEngine(jdbcTemplate, likeEngine);
+    }
+
+    private String databaseProductName(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName();
+        } catch (SQLException e) {
+            log.warn("DB 종류 확인 실패 : {}", e.getMessage());
+            return "unknown";
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.example.lablink.global.jwt.JwtAuthFilter;
 import com.example.lablink.global.jwt.JwtAuthenticationEntryPoint;
 import com.example.lablink.global.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,6 +34,9 @@ public class WebSecurityConfig {
     private final JwtUtil jwtUtil;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    // Actuator 는 내부망에서만 접근 가능한 별도 포트로 노출 (지정하지 않으면 Actuator 는 막는다)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -67,11 +71,13 @@ public class WebSecurityConfig {
                 .antMatchers(HttpMethod.POST, "/users/signup", "/users/signup/**", "/users/login").permitAll()
                 .antMatchers(HttpMethod.POST, "/companies/signup", "/companies/signup/**", "/companies/login").permitAll()
                 .antMatchers(HttpMethod.GET, "/users/kakao/login", "/users/google/login").permitAll()
-                .antMatchers(HttpMethod.GET, "/studies", "/studies/search/rank", "/studies/search/latest").permitAll()
+                .antMatchers(HttpMethod.GET, "/studies", "/studies/search/rank", "/studies/search/latest", "/studies/search/suggest").permitAll()
                 .antMatchers(HttpMethod.GET, "/studies/{studyId}").permitAll()
-                .antMatchers(HttpMethod.POST, "/chat/room/**").permitAll()
                 .antMatchers("/ws/**").permitAll()
                 .antMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**").permitAll()
+                // 관리 포트로 들어온 요청만 Actuator 허용, 서비스 포트의 /actuator 는 로그인한 사용자도 접근할 수 없다
+                .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort).permitAll()
+                .antMatchers("/actuator/**").denyAll()
                 .anyRequest().authenticated()
                 .and()
                 .cors()
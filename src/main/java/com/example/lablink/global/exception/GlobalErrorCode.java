@@ -34,6 +34,9 @@ public enum GlobalErrorCode {
     INVALID_OAUTH_STATE(BAD_REQUEST, "잘못된 인증 요청입니다"),
 
 //  Study
+    // 400 BAD_REQUEST - 잘못된 요청
+    INVALID_CURSOR(BAD_REQUEST, "잘못된 커서 값입니다."),
+    INVALID_RANK_WINDOW(BAD_REQUEST, "지원하지 않는 인기 검색어 기간입니다."),
     // 401 Unauthorized - 권한 없음
     LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "로그인이 필요한 서비스입니다."),
     // 404 Not Found - 찾을 수 없음
@@ -58,12 +61,16 @@ public enum GlobalErrorCode {
 //  Chat
     // 404 NOT_FOUND : Resource 를 찾을 수 없음
     CHATROOM_NOT_FOUND(NOT_FOUND, "선택한 채팅방을 찾을 수 없습니다."),
+    // 503 SERVICE_UNAVAILABLE : 메시지 저장 지연 (chat.message.await-flush)
+    CHAT_MESSAGE_NOT_SAVED(SERVICE_UNAVAILABLE, "메시지 저장이 지연되고 있습니다. 잠시 후 다시 시도해 주세요."),
 
 // Application
     // 400 BAD_REQUEST - 잘못된 요청
     NOT_MY_APPLICATION(BAD_REQUEST, "내가 작성한 신청서가 아닙니다."),
     // 404 Not Found - 찾을 수 없음
     APPLICATION_NOT_FOUND(NOT_FOUND, "등록된 신청서가 없습니다"),
+    // 409 CONFLICT
+    STUDY_FULL(CONFLICT, "모집 인원이 마감된 공고입니다."),
 
 //  Global
     // 400 BAD_REQUEST - 입력값 오류
@@ -0,0 +1,11 @@
+package com.example.lablink.global.geo;
+
+import org.springframework.data.geo.Point;
+
+import java.util.Optional;
+
+// 주소 -> 좌표 변환 (x = 경도, y = 위도)
+// geocoder.provider 로 구현체 선택 (기본 : stub)
+public interface Geocoder {
+    Optional<Point> geocode(String address);
+}
@@ -0,0 +1,56 @@
+package com.example.lablink.global.geo;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.geo.Point;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// 외부 API 없이 쓰는 로컬 geocoder
+// 주소 앞의 시/도 이름으로 시/도청 좌표를 돌려준다 (시/도 단위 정확도, 개발/테스트용)
+@Component
+@ConditionalOnProperty(name = "geocoder.provider", havingValue = "stub", matchIfMissing = true)
+public class RegionStubGeocoder implements Geocoder {
+    // 시/도 이름(주소 앞부분) -> 시/도청 좌표
+    private static final Map<String, Point> REGIONS = new LinkedHashMap<>();
+
+    static {
+        REGIONS.put("서울", new Point(126.9780, 37.5665));
+        REGIONS.put("부산", new Point(129.0756, 35.1796));
+        REGIONS.put("대구", new Point(128.6014, 35.8714));
+        REGIONS.put("인천", new Point(126.7052, 37.4563));
+        REGIONS.put("광주", new Point(126.8526, 35.1595));
+        REGIONS.put("대전", new Point(127.3845, 36.3504));
+        REGIONS.put("울산", new Point(129.3114, 35.5384));
+        REGIONS.put("세종", new Point(127.2890, 36.4800));
+        REGIONS.put("경기", new Point(127.0090, 37.2750));
+        REGIONS.put("강원", new Point(127.7298, 37.8853));
+        REGIONS.put("충북", new Point(127.4917, 36.6357));
+        REGIONS.put("충청북도", new Point(127.4917, 36.6357));
+        REGIONS.put("충남", new Point(126.6728, 36.6588));
+        REGIONS.put("충청남도", new Point(126.6728, 36.6588));
+        REGIONS.put("전북", new Point(127.1088, 35.8203));
+        REGIONS.put("전라북도", new Point(127.1088, 35.8203));
+        REGIONS.put("전남", new Point(126.4629, 34.8161));
+        REGIONS.put("전라남도", new Point(126.4629, 34.8161));
+        REGIONS.put("경북", new Point(128.5056, 36.5760));
+        REGIONS.put("경상북도", new Point(128.5056, 36.5760));
+        REGIONS.put("경남", new Point(128.6925, 35.2383));
+        REGIONS.put("경상남도", new Point(128.6925, 35.2383));
+        REGIONS.put("제주", new Point(126.4983, 33.4890));
+    }
+
+    @Override
+    public Optional<Point> geocode(String address) {
+        if (address == null) {
+            return Optional.empty();
+        }
+        String trimmed = address.trim();
+        return REGIONS.entrySet().stream()
+                .filter(region -> trimmed.startsWith(region.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst();
+    }
+}
@@ -2,18 +2,23 @@ package com.example.lablink.global.scheduler;
 
 import com.example.lablink.domain.study.dto.responseDto.SearchRankResponseDto;
 import com.example.lablink.domain.study.entity.SearchRankKeyword;
-import com.example.lablink.domain.study.entity.Study;
-import com.example.lablink.domain.study.entity.StudyStatusEnum;
 import com.example.lablink.domain.study.repository.SearchRankKeywordRepository;
-import com.example.lablink.domain.study.repository.StudyRepository;
 
+import com.example.lablink.domain.study.service.StudyCloseQueue;
+import com.example.lablink.domain.study.service.StudyGeoIndex;
+import com.example.lablink.domain.study.service.StudyIndexSynchronizer;
 import com.example.lablink.domain.study.service.StudySearchService;
+import com.example.lablink.domain.study.service.StudySortIndex;
+import com.example.lablink.domain.study.service.StudySuggestIndex;
+import com.example.lablink.domain.study.service.TrendingKeywordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,34 +26,35 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 public class Scheduler {
-    private final StudyRepository studyRepository;
+    private static final String SORT_INDEX_REBUILD_KEY = "scheduler:rebuild-sort-index:";
+
     private final StudySearchService studySearchService;
     private final SearchRankKeywordRepository searchRankKeywordRepository;
+    private final StudyIndexSynchronizer studyIndexSynchronizer;
+    private final StudySortIndex studySortIndex;
+    private final StudySuggestIndex studySuggestIndex;
+    private final TrendingKeywordService trendingKeywordService;
+    private final StudyGeoIndex studyGeoIndex;
+    private final StudyCloseQueue studyCloseQueue;
+    private final StringRedisTemplate stringRedisTemplate;
 //    private final StudyMapper studyMapper;
     /*private final JavaMailSender emailSender;
         private final FeedBackService feedBackService;*/
     // 초, 분, 시, 일, 월, 주 순서
+    // done : 마감 시각에 바로 닫는 건 StudyCloseQueue, 여기서는 큐에서 빠진 공고만 정리
+    //  모집 중이고 마감일이 지난 공고만 1000건씩 UPDATE (전체 조회 후 트랜잭션 밖에서 변경하던 방식 제거)
     @Scheduled(cron = "0 0 0 * * *")
-    // todo : exception ?
-    public void updateStatus() throws InterruptedException {
+    public void updateStatus() {
         log.info("studystatus 업데이트 실행");
-        // findAll이 아니라 enddate가 LocalDateTime보다 이후면 들고오기 (쿼리짜서)
-        List<Study> studies = studyRepository.getAllByEndDate();
-        for (Study study : studies) {
-            // endDate와 localDate 비교 및 studystatus 변경
-            LocalDateTime currentDateTime = LocalDateTime.now();
-            // endDate가 localDate보다 이전인 경우
-            if (study.getEndDate().isBefore(currentDateTime)) {
-                study.updateStatus(StudyStatusEnum.CLOSED);
-            }
-        }
+        int closed = studyCloseQueue.closeOverdue();
+        log.info("마감 처리된 공고 : {}건", closed);
     }
 
-    // 매일 자정 인기 검색어 rds로 저장
+    // 매일 자정 최근 24시간 인기 검색어 rds로 저장
     @Scheduled(cron = "0 0 0 * * *")
     public void saveKeyword() {
         log.info("매일 자정 인기 검색어 rds로 저장");
-        List<SearchRankResponseDto> searchRanks = studySearchService.searchRankList();
+        List<SearchRankResponseDto> searchRanks = studySearchService.searchRankList(TrendingKeywordService.DAY);
         // searchrank entity 만들어서 저장
         List<SearchRankKeyword> searchs = new ArrayList<>();
         for (SearchRankResponseDto searchRank : searchRanks) {
@@ -58,5 +64,42 @@ public class Scheduler {
             searchs.add(search);
         }
         searchRankKeywordRepository.saveAll(searchs);
+        trendingKeywordService.trimAllTime();
+    }
+
+    // 매 정시 서버 메모리 색인(공고 검색, 상세 검색 필터, 검색어 자동완성) 재생성
+    // 변경은 StudyIndexSynchronizer 가 모든 서버에 알리지만, 알림을 놓친 경우(Redis 장애 등)를 주기적으로 맞춰준다
+    @Scheduled(cron = "0 0 * * * *")
+    public void rebuildKeywordIndex() {
+        log.info("공고 검색 / 필터 색인, 검색어 자동완성 재생성");
+        studyIndexSynchronizer.rebuild();
+    }
+
+    // 매 정시 공고 인기(hot) 점수 감쇠
+    @Scheduled(cron = "0 0 * * * *")
+    public void decayHotScores() {
+        studySortIndex.decayHotScores();
+    }
+
+    // 10분마다 자동완성 인기 검색어 점수 갱신
+    @Scheduled(cron = "0 */10 * * * *")
+    public void reloadSuggestKeywords() {
+        studySuggestIndex.reloadKeywords();
+    }
+
+    // 매일 새벽 4시 30분 공고 정렬 색인(Redis sorted set), 위치 색인(Redis GEO)을 MySQL 기준으로 재생성
+    // 쓰기 경로에서 누락된 변경(트랜잭션 롤백, Redis 장애 등)과 마감일이 지난 공고를 정리한다
+    // Redis 에 있는 공용 색인이므로 날짜별 키로 막아서 한 서버에서만 실행
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rebuildSortIndex() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(SORT_INDEX_REBUILD_KEY + LocalDate.now(), "1", Duration.ofHours(23)))) {
+            return;
+        }
+        log.info("공고 정렬 색인 재생성");
+        studySortIndex.rebuild();
+        log.info("공고 위치 색인 재생성");
+        studyGeoIndex.rebuild();
+        log.info("공고 마감 큐 재생성");
+        studyCloseQueue.rebuild();
     }
 }
@@ -0,0 +1,38 @@
+package com.example.lablink.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 안이면 커밋된 뒤에, 트랜잭션 밖이면 바로 실행
+// 캐시 / 색인 갱신을 커밋 전에 하면 다른 요청이 커밋 전 데이터로 다시 채울 수 있으므로 커밋 후에 한다
+@Slf4j
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+            return;
+        }
+        runnable.run();
+    }
+
+    // 이미 커밋된 요청이 실패하지 않도록 예외는 로그만 남긴다 (task : 로그에 남길 작업 이름)
+    public static void run(String task, Runnable runnable) {
+        run(() -> {
+            try {
+                runnable.run();
+            } catch (Exception e) {
+                log.warn("{} 실패 : {}", task, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.lablink.domain.application.service;
+
+import com.example.lablink.domain.application.dto.Request.ApplicationRequestDto;
+import com.example.lablink.domain.application.entity.ApprovalStatusEnum;
+import com.example.lablink.domain.application.repository.ApplicationRepository;
+import com.example.lablink.domain.company.entity.Company;
+import com.example.lablink.domain.company.repository.CompanyRepository;
+import com.example.lablink.domain.study.dto.StudyCursor;
+import com.example.lablink.domain.study.entity.CategoryEnum;
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import com.example.lablink.domain.study.service.GetStudyService;
+import com.example.lablink.domain.study.service.StudyIndexSynchronizer;
+import com.example.lablink.domain.study.service.StudyListCacheInvalidator;
+import com.example.lablink.domain.study.service.StudySortIndex;
+import com.example.lablink.domain.user.entity.User;
+import com.example.lablink.domain.user.entity.UserInfo;
+import com.example.lablink.domain.user.entity.UserRoleEnum;
+import com.example.lablink.domain.user.repository.UserInfoRepository;
+import com.example.lablink.domain.user.repository.UserRepository;
+import com.example.lablink.domain.user.security.UserDetailsImpl;
+import com.example.lablink.domain.user.service.UserService;
+import com.example.lablink.global.cache.TwoLevelCacheManager;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import com.example.lablink.support.InProcessRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+// 한 공고에 동시에 지원할 때 지원자 수, 좌석 예약, 정렬 색인, 캐시 버전이 유실되지 않는지 확인
+// ApplicationService.addApplication 을 트랜잭션마다 호출하고 커밋한다 (좌석 예약 -> 신청서 INSERT -> 지원자 수 UPDATE -> 커밋 후 색인/캐시 갱신)
+//  - DB 는 H2, Redis 는 테스트용 Redis(InProcessRedis)
+//  - Lua 스크립트(좌석 예약, 인기순 증가)는 같은 동작을 Java 로 등록해서 데이터 락 안에서 한 번에 실행한다
+//  - 서버 메모리 색인(StudyIndexSynchronizer)은 mock (호출 횟수만 확인)
+// 스레드끼리 서로의 커밋을 봐야 하므로 테스트 메서드는 트랜잭션 없이 실행한다
+// 지원 수 / 최소 처리량(건/초)은 -Dbenchmark.applications, -Dbenchmark.minThroughput 로 바꿀 수 있다
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ApplicantCount Concurrency")
+class ApplicantCountConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int USERS = 50;
+    private static final int APPLICATIONS = Integer.getInteger("benchmark.applications", 3_000);
+    // 느린 CI 에서도 통과하도록 낮게 잡은 최소 처리량 (건/초)
+    private static final int MIN_THROUGHPUT = Integer.getInteger("benchmark.minThroughput", 100);
+    private static final String POPULARITY_KEY = "study:sort:" + StudyCursor.POPULARITY;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserInfoRepository userInfoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private InProcessRedis redis;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    // 좌석 예약 키 -> {max, taken} (스크립트 구현에서만 읽고 쓰므로 Redis 데이터 락 안에서만 바뀐다)
+    private final Map<String, long[]> seats = new HashMap<>();
+    private StudyIndexSynchronizer studyIndexSynchronizer;
+    private ApplicationService applicationService;
+    private TransactionTemplate transactionTemplate;
+    private Long studyId;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        registerScripts();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        UserService userService = mock(UserService.class);
+        given(userService.getUser(any())).willAnswer(invocation ->
+                userRepository.findById(invocation.<UserDetailsImpl>getArgument(0).getUser().getId()).orElseThrow());
+        studyIndexSynchronizer = mock(StudyIndexSynchronizer.class);
+        GetStudyService getStudyService = new GetStudyService(studyRepository);
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(mock(CacheManager.class), redisTemplate, new ObjectMapper(),
+                Set.of(), 100, Duration.ofSeconds(30));
+        applicationService = new ApplicationService(applicationRepository, userService, getStudyService,
+                new StudyListCacheInvalidator(redisTemplate, cacheManager), new StudySortIndex(redisTemplate, null), studyIndexSynchronizer,
+                new ApplicationSeatReservation(redisTemplate, getStudyService, applicationRepository));
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        studyId = transactionTemplate.execute(status -> {
+            Company company = companyRepository.save(new Company("test@test.com", "password", "Test Company", "John Doe",
+                    "IT", "123-456-7890", "123 Test Street", "1F", null, UserRoleEnum.BUSINESS));
+            return studyRepository.save(new Study("title", "studyInfo", "description", "benefit",
+                    LocalDateTime.now().plusDays(7), "서울시 강남구", 10000, "전체", 20, 40, LocalDateTime.now().plusDays(3),
+                    CategoryEnum.OFFLINE, StudyStatusEnum.ONGOING, company, null, null)).getId();
+        });
+        users = transactionTemplate.execute(status -> {
+            List<User> saved = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                UserInfo userInfo = userInfoRepository.save(new UserInfo("0101234" + String.format("%04d", i)));
+                saved.add(userRepository.save(new User("user" + i + "@test.com", "user" + i, "password", userInfo, UserRoleEnum.USER)));
+            }
+            return saved;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        applicationRepository.deleteAllInBatch();
+        studyRepository.deleteAllInBatch();
+        companyRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        userInfoRepository.deleteAllInBatch();
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    // ApplicationSeatReservation.RESERVE / LOAD / RELEASE, StudySortIndex.INCREMENT 와 같은 동작
+    private void registerScripts() {
+        redis.script("'taken', 1)", (keys, args) -> {
+            long[] seat = seats.get(keys.get(0));
+            if (seat == null) return -1L;
+            if (seat[0] != -1 && seat[1] >= seat[0]) return 0L;
+            seat[1]++;
+            return 1L;
+        });
+        redis.script("'taken', ARGV[2]", (keys, args) -> {
+            if (seats.containsKey(keys.get(0))) return 0L;
+            seats.put(keys.get(0), new long[]{Long.parseLong(args.get(0)), Long.parseLong(args.get(1))});
+            return 1L;
+        });
+        redis.script("'taken', -1)", (keys, args) -> {
+            long[] seat = seats.get(keys.get(0));
+            if (seat == null || seat[1] <= 0) return 0L;
+            return --seat[1];
+        });
+        redis.script("ZINCRBY', KEYS[3]", (keys, args) -> {
+            if (redis.exists(keys.get(0))) redis.sadd(keys.get(1), args.get(0));
+            redis.zincrby(keys.get(2), 1, args.get(0));
+            return 0L;
+        });
+    }
+
+    private ApplicationRequestDto request() {
+        ApplicationRequestDto request = new ApplicationRequestDto();
+        request.setMessage("지원합니다");
+        request.setUserName("홍길동");
+        request.setUserPhone("01012345678");
+        request.setUserAddress("서울");
+        request.setUserDetailAddress("강남구");
+        request.setUserGender("남성");
+        request.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        return request;
+    }
+
+    // THREADS 개의 스레드가 attempts 건을 나눠서 지원, 마감(STUDY_FULL)으로 거절된 수를 반환
+    private int apply(int attempts) throws Exception {
+        ApplicationRequestDto request = request();
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                int index;
+                while ((index = sequence.getAndIncrement()) < attempts) {
+                    UserDetailsImpl userDetails = new UserDetailsImpl(users.get(index % USERS), String.valueOf(index % USERS));
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> applicationService.addApplication(userDetails, studyId, request));
+                    } catch (GlobalException e) {
+                        assertEquals(GlobalErrorCode.STUDY_FULL, e.getErrorCode());
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        return rejected.get();
+    }
+
+    private long applicationCount() {
+        return applicationRepository.countByStudyIdAndApprovalStatusEnumNot(studyId, ApprovalStatusEnum.REJECTED.toString());
+    }
+
+    private long seatsTaken() {
+        return seats.get("study:seat:" + studyId)[1];
+    }
+
+    @Test
+    @DisplayName("동시에 지원해도 지원자 수, 좌석, 인기순 점수, 캐시 버전이 지원 횟수와 정확히 같다")
+    void addApplication() throws Exception {
+        long startNanos = System.nanoTime();
+        int rejected = apply(APPLICATIONS);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        double throughput = APPLICATIONS / (elapsedNanos / 1_000_000_000.0);
+        System.out.printf("[benchmark] addApplication %d건 / %d threads : %.0fms, %.0f건/s%n", APPLICATIONS, THREADS, elapsedNanos / 1_000_000.0, throughput);
+        assertEquals(0, rejected);
+        assertEquals(APPLICATIONS, studyRepository.findById(studyId).orElseThrow().getCurrentApplicantCount());
+        assertEquals(APPLICATIONS, applicationCount());
+        assertEquals(APPLICATIONS, seatsTaken());
+        Set<ZSetOperations.TypedTuple<String>> popularity = redisTemplate.opsForZSet().rangeWithScores(POPULARITY_KEY, 0, -1);
+        assertEquals(1, popularity.size());
+        assertEquals((double) APPLICATIONS, popularity.iterator().next().getScore());
+        assertEquals(String.valueOf(APPLICATIONS), redisTemplate.opsForValue().get("StudyListPages:version:" + StudyCursor.POPULARITY));
+        assertEquals(String.valueOf(APPLICATIONS), redisTemplate.opsForValue().get("StudyDetail:version:" + studyId));
+        then(studyIndexSynchronizer).should(times(APPLICATIONS)).applicantAdded(studyId);
+        assertTrue(throughput >= MIN_THROUGHPUT, "throughput " + throughput + " < " + MIN_THROUGHPUT);
+    }
+
+    @Test
+    @DisplayName("모집 인원이 있으면 동시에 지원해도 모집 인원까지만 받고 나머지는 마감으로 거절한다")
+    void addApplication_maxApplicants() throws Exception {
+        int maxApplicants = 100;
+        transactionTemplate.executeWithoutResult(status -> studyRepository.findById(studyId).orElseThrow().setMaxApplicants(maxApplicants));
+
+        int rejected = apply(maxApplicants * 5);
+
+        assertEquals(maxApplicants * 4, rejected);
+        assertEquals(maxApplicants, studyRepository.findById(studyId).orElseThrow().getCurrentApplicantCount());
+        assertEquals(maxApplicants, applicationCount());
+        assertEquals(maxApplicants, seatsTaken());
+        then(studyIndexSynchronizer).should(times(maxApplicants)).applicantAdded(studyId);
+    }
+}
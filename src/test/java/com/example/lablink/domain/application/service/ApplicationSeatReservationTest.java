@@ -0,0 +1,146 @@
+package com.example.lablink.domain.application.service;
+
+import com.example.lablink.domain.application.repository.ApplicationRepository;
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.service.GetStudyService;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 모집 인원 좌석 예약 동시성 확인 (실제 Redis 필요, 기본 빌드에서는 실행되지 않는다)
+// ./gradlew test --tests '*ApplicationSeatReservationTest' -Dbenchmark.redis.host=localhost [-Dbenchmark.redis.port=6379]
+@EnabledIfSystemProperty(named = "benchmark.redis.host", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("ApplicationSeatReservation Concurrency")
+class ApplicationSeatReservationTest {
+    // 다른 데이터와 겹치지 않는 공고 id
+    private static final long STUDY_ID = 9_000_000_001L;
+    private static final int MAX_APPLICANTS = 100;
+    private static final int REQUESTS = 5_000;
+    private static final int THREADS = 64;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private ApplicationSeatReservation applicationSeatReservation;
+
+    @BeforeAll
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(System.getProperty("benchmark.redis.host"), Integer.getInteger("benchmark.redis.port", 6379));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        Study study = new Study();
+        study.updateMaxApplicants(MAX_APPLICANTS);
+        GetStudyService getStudyService = mock(GetStudyService.class);
+        ApplicationRepository applicationRepository = mock(ApplicationRepository.class);
+        given(getStudyService.getStudy(anyLong())).willReturn(study);
+        given(applicationRepository.countByStudyIdAndApprovalStatusEnumNot(anyLong(), anyString())).willReturn(0L);
+        applicationSeatReservation = new ApplicationSeatReservation(stringRedisTemplate, getStudyService, applicationRepository);
+    }
+
+    @BeforeEach
+    void clear() {
+        stringRedisTemplate.delete("study:seat:" + STUDY_ID);
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (connectionFactory == null) {
+            return;
+        }
+        stringRedisTemplate.delete("study:seat:" + STUDY_ID);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("동시에 지원해도 모집 인원만큼만 예약되고 나머지는 바로 마감 처리된다")
+    void reserve() throws InterruptedException {
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        long elapsedNanos = burst(REQUESTS, reserved, full);
+
+        System.out.printf("[benchmark] %d건 / %d threads : %.0fms, %.0f건/s%n",
+                REQUESTS, THREADS, elapsedNanos / 1_000_000.0, REQUESTS / (elapsedNanos / 1_000_000_000.0));
+        assertEquals(MAX_APPLICANTS, reserved.get());
+        assertEquals(REQUESTS - MAX_APPLICANTS, full.get());
+    }
+
+    @Test
+    @DisplayName("반환한 좌석 수만큼 다시 예약할 수 있다")
+    void release() throws InterruptedException {
+        burst(MAX_APPLICANTS, new AtomicInteger(), new AtomicInteger());
+        for (int i = 0; i < 10; i++) {
+            applicationSeatReservation.release(STUDY_ID);
+        }
+
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger full = new AtomicInteger();
+        burst(100, reserved, full);
+
+        assertEquals(10, reserved.get());
+        assertEquals(90, full.get());
+    }
+
+    @Test
+    @DisplayName("모집 인원을 바꿔도 이미 예약한 좌석은 유지하고, 제한을 없애면 모두 예약된다")
+    void changeMax() throws InterruptedException {
+        // 커밋 전 예약 (DB 신청서 수는 0)
+        burst(MAX_APPLICANTS, new AtomicInteger(), new AtomicInteger());
+
+        applicationSeatReservation.changeMax(STUDY_ID, MAX_APPLICANTS + 20);
+        AtomicInteger reserved = new AtomicInteger();
+        burst(100, reserved, new AtomicInteger());
+        assertEquals(20, reserved.get());
+
+        applicationSeatReservation.changeMax(STUDY_ID, null);
+        AtomicInteger unlimited = new AtomicInteger();
+        burst(100, unlimited, new AtomicInteger());
+        assertEquals(100, unlimited.get());
+    }
+
+    private long burst(int requests, AtomicInteger reserved, AtomicInteger full) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    applicationSeatReservation.reserve(STUDY_ID);
+                    reserved.incrementAndGet();
+                } catch (GlobalException e) {
+                    if (e.getErrorCode() == GlobalErrorCode.STUDY_FULL) {
+                        full.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        return System.nanoTime() - begin;
+    }
+}
@@ -35,6 +35,8 @@ class ApplicationServiceTest {
     private UserService userService;
     @Mock
     private ApplicationRequestDto applicationRequestDto;
+    @Mock
+    private ApplicationSeatReservation applicationSeatReservation;
 
     @Nested
     @DisplayName("성공 케이스")
@@ -82,6 +84,7 @@ class ApplicationServiceTest {
             applicationService.deleteApplication(userDetails, studyId, applicationId);
             // Then
             verify(applicationRepository).delete(application);
+            verify(applicationSeatReservation).release(studyId);
         }
         @Test
         @DisplayName("성공 - 신청서 확인")
@@ -0,0 +1,112 @@
+package com.example.lablink.domain.chat.security;
+
+import com.example.lablink.domain.chat.entity.ChatRoom;
+import com.example.lablink.domain.chat.repository.ChatRoomRepository;
+import com.example.lablink.domain.company.entity.Company;
+import com.example.lablink.domain.user.entity.User;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomMembership Tests")
+class ChatRoomMembershipTest {
+    private static final String ROOM_ID = "room1234";
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer chatMessageListenerContainer;
+
+    private ChatRoomMembership chatRoomMembership;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        chatRoomMembership = new ChatRoomMembership(chatRoomRepository, stringRedisTemplate, chatMessageListenerContainer);
+        User user = new User();
+        user.setId(1L);
+        Company owner = new Company();
+        owner.setId(2L);
+        room = new ChatRoom(10L, ROOM_ID, null, user, owner, null, null, null, 0, 0);
+    }
+
+    private ChatPrincipal principal(Long id, String role) {
+        return new ChatPrincipal(id, "nickname", role, System.currentTimeMillis() + 60_000);
+    }
+
+    @Test
+    @DisplayName("채팅방의 유저와 기업은 참여할 수 있고, 세션에서 처음 한 번만 DB 로 확인한다")
+    void join() {
+        given(chatRoomRepository.findByRoomId(ROOM_ID)).willReturn(Optional.of(room));
+        ChatPrincipal user = principal(1L, "USER");
+
+        assertEquals(10L, chatRoomMembership.join(ROOM_ID, user));
+        assertEquals(10L, chatRoomMembership.join(ROOM_ID, user));
+        assertEquals(10L, chatRoomMembership.join(ROOM_ID, principal(2L, "BUSINESS")));
+        then(chatRoomRepository).should(times(2)).findByRoomId(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("채팅방 참여자가 아니면 권한 없음")
+    void join_notParticipant() {
+        given(chatRoomRepository.findByRoomId(ROOM_ID)).willReturn(Optional.of(room));
+
+        GlobalException user = assertThrows(GlobalException.class, () -> chatRoomMembership.join(ROOM_ID, principal(3L, "USER")));
+        // 기업 id 가 같아도 유저로는 참여할 수 없다
+        GlobalException userWithOwnerId = assertThrows(GlobalException.class, () -> chatRoomMembership.join(ROOM_ID, principal(2L, "USER")));
+
+        assertEquals(GlobalErrorCode.NOT_HAVE_PERMISSION, user.getErrorCode());
+        assertEquals(GlobalErrorCode.NOT_HAVE_PERMISSION, userWithOwnerId.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("채팅방이 삭제되면 연결된 세션의 기록을 지워서 다음에 다시 확인한다")
+    void leave() {
+        given(chatRoomRepository.findByRoomId(ROOM_ID)).willReturn(Optional.of(room));
+        ChatPrincipal user = principal(1L, "USER");
+        chatRoomMembership.register("session", user);
+        chatRoomMembership.join(ROOM_ID, user);
+
+        chatRoomMembership.leave(ROOM_ID);
+
+        assertNull(user.findRoom(ROOM_ID));
+        given(chatRoomRepository.findByRoomId(ROOM_ID)).willReturn(Optional.empty());
+        GlobalException exception = assertThrows(GlobalException.class, () -> chatRoomMembership.join(ROOM_ID, user));
+        assertEquals(GlobalErrorCode.CHATROOM_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("삭제를 Redis 로 알리지 못하면 이 서버의 세션에서라도 지운다")
+    void evict_redisFailure() {
+        given(chatRoomRepository.findByRoomId(ROOM_ID)).willReturn(Optional.of(room));
+        ChatPrincipal user = principal(1L, "USER");
+        chatRoomMembership.register("session", user);
+        chatRoomMembership.join(ROOM_ID, user);
+        willThrow(new RedisConnectionFailureException("down")).given(stringRedisTemplate).convertAndSend(ChatRoomMembership.DELETED_CHANNEL, ROOM_ID);
+
+        chatRoomMembership.evict(ROOM_ID);
+
+        assertNull(user.findRoom(ROOM_ID));
+    }
+}
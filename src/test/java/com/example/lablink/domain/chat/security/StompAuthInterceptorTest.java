@@ -0,0 +1,104 @@
+package com.example.lablink.domain.chat.security;
+
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import com.example.lablink.global.jwt.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompAuthInterceptor Tests")
+class StompAuthInterceptorTest {
+    @InjectMocks
+    private StompAuthInterceptor stompAuthInterceptor;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private ChatRoomMembership chatRoomMembership;
+
+    @Test
+    @DisplayName("CONNECT 때 고정한 사용자가 있으면 SEND 는 토큰 확인 없이 통과한다")
+    void sendWithPinnedPrincipal() {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        ChatPrincipal principal = new ChatPrincipal(1L, "nickname", "USER", System.currentTimeMillis() + 60_000);
+        sessionAttributes.put(ChatPrincipal.SESSION_ATTRIBUTE, principal);
+
+        Message<?> message = stompMessage(StompCommand.SEND, sessionAttributes);
+
+        assertSame(message, stompAuthInterceptor.preSend(message, null));
+        assertSame(principal, ChatPrincipal.of(sessionAttributes));
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    @DisplayName("CONNECT 하지 않은 세션의 SEND / SUBSCRIBE 는 거절한다")
+    void rejectWithoutPrincipal() {
+        GlobalException send = assertThrows(GlobalException.class,
+                () -> stompAuthInterceptor.preSend(stompMessage(StompCommand.SEND, new HashMap<>()), null));
+        GlobalException subscribe = assertThrows(GlobalException.class,
+                () -> stompAuthInterceptor.preSend(stompMessage(StompCommand.SUBSCRIBE, new HashMap<>()), null));
+
+        assertEquals(GlobalErrorCode.LOGIN_REQUIRED, send.getErrorCode());
+        assertEquals(GlobalErrorCode.LOGIN_REQUIRED, subscribe.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("토큰이 만료된 세션의 SEND 는 거절한다")
+    void rejectExpiredPrincipal() {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put(ChatPrincipal.SESSION_ATTRIBUTE, new ChatPrincipal(1L, "nickname", "USER", System.currentTimeMillis() - 1));
+
+        GlobalException exception = assertThrows(GlobalException.class,
+                () -> stompAuthInterceptor.preSend(stompMessage(StompCommand.SEND, sessionAttributes), null));
+
+        assertEquals(GlobalErrorCode.INVALID_TOKEN, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("채팅방 구독은 참여자 확인을 통과해야 한다")
+    void subscribeRoomChecksMembership() {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        ChatPrincipal principal = new ChatPrincipal(1L, "nickname", "USER", System.currentTimeMillis() + 60_000);
+        sessionAttributes.put(ChatPrincipal.SESSION_ATTRIBUTE, principal);
+        given(chatRoomMembership.join("other", principal)).willThrow(new GlobalException(GlobalErrorCode.NOT_HAVE_PERMISSION));
+
+        Message<?> subscribe = stompMessage(StompCommand.SUBSCRIBE, sessionAttributes, "/sub/chat/room/room1");
+        GlobalException exception = assertThrows(GlobalException.class,
+                () -> stompAuthInterceptor.preSend(stompMessage(StompCommand.SUBSCRIBE, sessionAttributes, "/sub/chat/room/other"), null));
+
+        assertSame(subscribe, stompAuthInterceptor.preSend(subscribe, null));
+        then(chatRoomMembership).should().join("room1", principal);
+        assertEquals(GlobalErrorCode.NOT_HAVE_PERMISSION, exception.getErrorCode());
+    }
+
+    private Message<byte[]> stompMessage(StompCommand command, Map<String, Object> sessionAttributes) {
+        return stompMessage(command, sessionAttributes, "/pub/chat/message");
+    }
+
+    private Message<byte[]> stompMessage(StompCommand command, Map<String, Object> sessionAttributes, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setDestination(destination);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
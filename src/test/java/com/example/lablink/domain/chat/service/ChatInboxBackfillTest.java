@@ -0,0 +1,82 @@
+package com.example.lablink.domain.chat.service;
+
+import com.example.lablink.domain.chat.repository.ChatRoomRepository;
+import com.example.lablink.support.InProcessRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("ChatInboxBackfill Tests")
+class ChatInboxBackfillTest {
+
+    private InProcessRedis redis;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private ChatRoomRepository chatRoomRepository;
+    private ChatInboxBackfill chatInboxBackfill;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        chatRoomRepository = mock(ChatRoomRepository.class);
+        chatInboxBackfill = new ChatInboxBackfill(chatRoomRepository, redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    @DisplayName("한 번 채우면 완료 표시를 남기고, 다음 서버 시작 때는 다시 실행하지 않는다")
+    void runOnce() {
+        given(chatRoomRepository.backfillLastMessage()).willReturn(3);
+
+        chatInboxBackfill.backfill();
+        chatInboxBackfill.backfill();
+
+        then(chatRoomRepository).should(times(1)).backfillLastMessage();
+        assertTrue(redisTemplate.hasKey("chat:inbox-backfill:done"));
+        assertFalse(redisTemplate.hasKey("chat:inbox-backfill:lock"));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 실행 중이면 실행하지 않는다")
+    void skipWhenLocked() {
+        redisTemplate.opsForValue().setIfAbsent("chat:inbox-backfill:lock", "1", Duration.ofMinutes(1));
+
+        chatInboxBackfill.backfill();
+
+        then(chatRoomRepository).should(never()).backfillLastMessage();
+        assertTrue(redisTemplate.hasKey("chat:inbox-backfill:lock"));
+    }
+
+    @Test
+    @DisplayName("실패하면 완료 표시를 남기지 않고 락을 풀어서 다음에 다시 시도한다")
+    void retryAfterFailure() {
+        given(chatRoomRepository.backfillLastMessage()).willThrow(new QueryTimeoutException("timeout"));
+
+        chatInboxBackfill.backfill();
+
+        assertFalse(redisTemplate.hasKey("chat:inbox-backfill:done"));
+        assertFalse(redisTemplate.hasKey("chat:inbox-backfill:lock"));
+    }
+}
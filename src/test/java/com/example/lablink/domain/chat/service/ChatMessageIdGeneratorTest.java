@@ -0,0 +1,80 @@
+package com.example.lablink.domain.chat.service;
+
+import com.example.lablink.support.InProcessRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 노드 번호 임대를 테스트용 Redis(InProcessRedis)로 확인
+@DisplayName("ChatMessageIdGenerator Tests")
+class ChatMessageIdGeneratorTest {
+
+    private InProcessRedis redis;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    @DisplayName("node-id 를 지정하지 않은 서버들은 서로 다른 번호를 임대받는다")
+    void lease() {
+        Set<Long> nodeIds = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            nodeIds.add(new ChatMessageIdGenerator(-1, redisTemplate).getNodeId());
+        }
+
+        assertEquals(5, nodeIds.size());
+        for (Long nodeId : nodeIds) {
+            Long ttl = redisTemplate.getExpire("chat:message:node:" + nodeId, TimeUnit.SECONDS);
+            assertNotNull(ttl);
+            assertTrue(ttl > 0 && ttl <= 30);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 임대된 번호는 건너뛴다")
+    void skipLeased() {
+        redisTemplate.opsForValue().set("chat:message:node-seq", "0");
+        redisTemplate.opsForValue().set("chat:message:node:1", "other");
+
+        assertEquals(2, new ChatMessageIdGenerator(-1, redisTemplate).getNodeId());
+    }
+
+    @Test
+    @DisplayName("지정한 node-id 가 범위를 벗어나면 서버를 띄우지 않는다")
+    void invalidNodeId() {
+        assertThrows(IllegalStateException.class, () -> new ChatMessageIdGenerator(1024));
+    }
+
+    @Test
+    @DisplayName("지정한 node-id 는 임대하지 않고 그대로 쓴다")
+    void fixedNodeId() {
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(5, redisTemplate);
+
+        assertEquals(5, generator.getNodeId());
+        assertEquals(5, (generator.nextId() >> 12) & 1023);
+        assertFalse(redisTemplate.hasKey("chat:message:node:5"));
+    }
+}
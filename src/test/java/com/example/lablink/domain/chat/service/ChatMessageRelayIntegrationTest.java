@@ -0,0 +1,254 @@
+package com.example.lablink.domain.chat.service;
+
+import com.example.lablink.domain.chat.dto.ChatMessageResponseDto;
+import com.example.lablink.support.InProcessRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 서버 두 대(애플리케이션 컨텍스트 2개)가 테스트용 Redis(InProcessRedis)를 통해 채팅 메시지를 주고받는지 확인
+// 각 컨텍스트는 실제 서버와 같은 SimpleBroker + ChatMessageRelay 구성이고, 웹소켓 연결 대신 STOMP 메시지를 broker 에 직접 넣는다
+@DisplayName("ChatMessageRelay Multi-node Integration")
+class ChatMessageRelayIntegrationTest {
+    private static final int SHARDS = 4;
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private InProcessRedis redis;
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        nodeA.close();
+        nodeB.close();
+        redis.close();
+    }
+
+    @Test
+    @DisplayName("A 서버에서 보낸 메시지를 B 서버에 연결된 구독자가 받는다")
+    void relayToOtherNode() throws InterruptedException {
+        connectAndSubscribe(nodeB, "session-b", "room1");
+        awaitSubscribers("room1", 1);
+
+        nodeA.getBean(ChatMessageRelay.class).publish(new ChatMessageResponseDto("room1", "sender", "안녕하세요", "10:00", 1L));
+
+        Message<?> message = delivered(nodeB).poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(message);
+        assertEquals("/sub/chat/room/room1", SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        assertEquals("session-b", SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        assertTrue(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8).contains("안녕하세요"));
+        // 구독자가 없는 A 서버는 shard 채널을 구독하지 않는다
+        assertEquals(1, redis.subscribers(channel("room1")));
+        assertTrue(delivered(nodeA).isEmpty());
+    }
+
+    @Test
+    @DisplayName("두 서버 모두 구독자가 있으면 각 서버의 구독자가 한 번씩 받는다")
+    void relayToEveryNode() throws InterruptedException {
+        connectAndSubscribe(nodeA, "session-a", "room1");
+        connectAndSubscribe(nodeB, "session-b", "room1");
+        awaitSubscribers("room1", 2);
+
+        nodeB.getBean(ChatMessageRelay.class).publish(new ChatMessageResponseDto("room1", "sender", "안녕하세요", "10:00", 1L));
+
+        assertNotNull(delivered(nodeA).poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertNotNull(delivered(nodeB).poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        Thread.sleep(200);
+        assertTrue(delivered(nodeA).isEmpty());
+        assertTrue(delivered(nodeB).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Redis 구독이 반영되기 전에 같은 서버에서 보낸 메시지도 구독자가 한 번만 받는다")
+    void deliverLocallyUntilSubscribed() throws InterruptedException {
+        connectAndSubscribe(nodeA, "session-a", "room1");
+        ChatMessageRelay relay = nodeA.getBean(ChatMessageRelay.class);
+
+        relay.publish(new ChatMessageResponseDto("room1", "sender", "구독 직후", "10:00", 1L));
+
+        assertNotNull(delivered(nodeA).poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        await(() -> !relay.isPending("room1"));
+        assertFalse(relay.isPending("room1"));
+        relay.publish(new ChatMessageResponseDto("room1", "sender", "구독 확인 후", "10:01", 2L));
+
+        Message<?> message = delivered(nodeA).poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertNotNull(message);
+        assertTrue(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8).contains("구독 확인 후"));
+        Thread.sleep(200);
+        assertTrue(delivered(nodeA).isEmpty());
+    }
+
+    @Test
+    @DisplayName("마지막 구독자의 연결이 끊기면 shard 채널 구독을 해제한다")
+    void unsubscribeOnDisconnect() throws InterruptedException {
+        connectAndSubscribe(nodeB, "session-b", "room1");
+        awaitSubscribers("room1", 1);
+
+        Message<byte[]> disconnect = stompMessage(SimpMessageType.DISCONNECT, "session-b", null, null);
+        nodeB.publishEvent(new SessionDisconnectEvent(this, disconnect, "session-b", CloseStatus.NORMAL));
+
+        awaitSubscribers("room1", 0);
+    }
+
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("redis",
+                Map.of("redis.host", redis.getHost(), "redis.port", redis.getPort())));
+        context.register(ChatNodeConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    // 웹소켓으로 CONNECT / SUBSCRIBE 했을 때와 같이 broker 에 메시지를 넣고 SessionSubscribeEvent 를 발행
+    private void connectAndSubscribe(AnnotationConfigApplicationContext node, String sessionId, String roomId) {
+        ExecutorSubscribableChannel clientInboundChannel = node.getBean("clientInboundChannel", ExecutorSubscribableChannel.class);
+        clientInboundChannel.send(stompMessage(SimpMessageType.CONNECT, sessionId, null, null));
+        Message<byte[]> subscribe = stompMessage(SimpMessageType.SUBSCRIBE, sessionId, "sub-0", ChatMessageRelay.DESTINATION_PREFIX + roomId);
+        clientInboundChannel.send(subscribe);
+        node.publishEvent(new SessionSubscribeEvent(this, subscribe));
+    }
+
+    private Message<byte[]> stompMessage(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        accessor.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[]{0, 0});
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    // Redis 구독은 비동기로 처리되므로 반영될 때까지 기다린다
+    private void awaitSubscribers(String roomId, int expected) throws InterruptedException {
+        await(() -> redis.subscribers(channel(roomId)) == expected);
+        assertEquals(expected, redis.subscribers(channel(roomId)));
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private String channel(String roomId) {
+        return ChatMessageRelay.CHANNEL_PREFIX + Math.floorMod(roomId.hashCode(), SHARDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private BlockingQueue<Message<?>> delivered(AnnotationConfigApplicationContext node) {
+        return node.getBean("delivered", BlockingQueue.class);
+    }
+
+    // 서버 한 대 (RedisConfig.chatMessageListenerContainer + ChatConfig 의 SimpleBroker 와 같은 구성)
+    // 구독 확인 probe 는 @Scheduled 로 보낸다
+    @Configuration
+    @EnableScheduling
+    static class ChatNodeConfig {
+        @Bean
+        public LettuceConnectionFactory redisConnectionFactory(Environment environment) {
+            return new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                    environment.getRequiredProperty("redis.host"), environment.getRequiredProperty("redis.port", Integer.class)));
+        }
+
+        @Bean
+        public StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory redisConnectionFactory) {
+            return new StringRedisTemplate(redisConnectionFactory);
+        }
+
+        @Bean
+        public RedisMessageListenerContainer chatMessageListenerContainer(LettuceConnectionFactory redisConnectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(redisConnectionFactory);
+            return container;
+        }
+
+        @Bean
+        public ExecutorSubscribableChannel clientInboundChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        // 구독자에게 나간 메시지 (웹소켓으로 보내는 대신 delivered 에 쌓는다)
+        @Bean
+        public ExecutorSubscribableChannel clientOutboundChannel(BlockingQueue<Message<?>> delivered) {
+            ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+            channel.subscribe(message -> {
+                if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                    delivered.add(message);
+                }
+            });
+            return channel;
+        }
+
+        @Bean
+        public BlockingQueue<Message<?>> delivered() {
+            return new LinkedBlockingQueue<>();
+        }
+
+        @Bean
+        public ExecutorSubscribableChannel brokerChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        public SimpleBrokerMessageHandler simpleBrokerMessageHandler(ExecutorSubscribableChannel clientInboundChannel,
+                                                                     ExecutorSubscribableChannel clientOutboundChannel,
+                                                                     ExecutorSubscribableChannel brokerChannel) {
+            return new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel, List.of("/sub"));
+        }
+
+        @Bean
+        public SimpMessagingTemplate brokerMessagingTemplate(ExecutorSubscribableChannel brokerChannel) {
+            // 실제 서버처럼 객체를 JSON 으로 변환해서 보낸다
+            SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+            return template;
+        }
+
+        @Bean
+        public ChatMessageRelay chatMessageRelay(StringRedisTemplate stringRedisTemplate,
+                                                 RedisMessageListenerContainer chatMessageListenerContainer,
+                                                 SimpMessagingTemplate brokerMessagingTemplate) {
+            return new ChatMessageRelay(stringRedisTemplate, chatMessageListenerContainer, brokerMessagingTemplate, new ObjectMapper(), SHARDS);
+        }
+    }
+}
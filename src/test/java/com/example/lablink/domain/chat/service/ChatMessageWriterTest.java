@@ -0,0 +1,117 @@
+package com.example.lablink.domain.chat.service;
+
+import com.example.lablink.domain.chat.dto.PendingChatMessage;
+import com.example.lablink.domain.chat.repository.ChatMessageBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ChatMessageWriter Tests")
+class ChatMessageWriterTest {
+    private final ChatMessageBatchRepository chatMessageBatchRepository = mock(ChatMessageBatchRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatMessageWriter chatMessageWriter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (chatMessageWriter != null) {
+            chatMessageWriter.stop();
+        }
+    }
+
+    private ChatMessageWriter writer(boolean writeBehind, boolean awaitFlush) {
+        chatMessageWriter = new ChatMessageWriter(chatMessageBatchRepository, new ChatMessageIdGenerator(1),
+                TransactionOperations.withoutTransaction(), meterRegistry, writeBehind, awaitFlush);
+        chatMessageWriter.start();
+        return chatMessageWriter;
+    }
+
+    @Test
+    @DisplayName("write-behind 가 아니면 호출한 스레드에서 바로 저장한다")
+    void writeImmediately() {
+        PendingChatMessage message = writer(false, false).write(1L, 2L, "안녕하세요", true);
+
+        verify(chatMessageBatchRepository, times(1)).saveAll(List.of(message));
+        assertEquals(1.0, meterRegistry.counter("chat.message.written").count());
+    }
+
+    @Test
+    @DisplayName("await-flush 면 동시에 보낸 메시지를 모아서 저장하고, 커밋된 뒤에 반환한다")
+    void groupCommit() throws InterruptedException {
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        Set<Long> savedIds = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            List<PendingChatMessage> messages = invocation.getArgument(0);
+            batchSizes.add(messages.size());
+            messages.forEach(message -> savedIds.add(message.getId()));
+            return null;
+        }).when(chatMessageBatchRepository).saveAll(anyList());
+        ChatMessageWriter writer = writer(true, true);
+
+        int threads = 16;
+        int messagesPerThread = 200;
+        Set<Long> returnedIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger notSavedOnReturn = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < messagesPerThread; i++) {
+                    PendingChatMessage message = writer.write(1L, 2L, "메시지", true);
+                    returnedIds.add(message.getId());
+                    if (!savedIds.contains(message.getId())) {
+                        notSavedOnReturn.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(threads * messagesPerThread, returnedIds.size());
+        assertEquals(returnedIds, savedIds);
+        assertEquals(0, notSavedOnReturn.get());
+        // 16개 스레드가 한 번에 하나씩 보내므로 커밋 한 번에 여러 메시지가 묶인다
+        assertTrue(batchSizes.size() < threads * messagesPerThread);
+    }
+
+    @Test
+    @DisplayName("일시적인 DB 오류는 다시 큐에 넣어 저장한다")
+    void retryOnTransientFailure() {
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(chatMessageBatchRepository).saveAll(anyList());
+
+        PendingChatMessage message = writer(true, true).write(1L, 2L, "안녕하세요", false);
+
+        verify(chatMessageBatchRepository, times(2)).saveAll(List.of(message));
+        assertEquals(1.0, meterRegistry.counter("chat.message.retried").count());
+        assertEquals(0.0, meterRegistry.counter("chat.message.failed").count());
+    }
+
+    @Test
+    @DisplayName("메시지 id 는 발급 순서대로 증가한다")
+    void idsIncrease() {
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(3);
+        long previous = 0;
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.lablink.domain.chat.service;
+
+import com.example.lablink.domain.chat.dto.ChatHistoryResponseDto;
+import com.example.lablink.domain.chat.dto.MessageListDto;
+import com.example.lablink.domain.chat.entity.ChatMessage;
+import com.example.lablink.domain.chat.entity.ChatRoom;
+import com.example.lablink.domain.chat.repository.ChatMessageRepository;
+import com.example.lablink.domain.chat.repository.ChatRoomRepository;
+import com.example.lablink.domain.chat.security.ChatRoomMembership;
+import com.example.lablink.domain.company.entity.Company;
+import com.example.lablink.domain.study.service.GetStudyService;
+import com.example.lablink.domain.user.entity.User;
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+// 채팅 기록 조회 (/chat/room/{roomId}/messages?before&size), 채팅방 삭제
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatService Tests")
+class ChatServiceTest {
+    private static final String ROOM_ID = "room1234";
+
+    @Mock
+    private GetStudyService getStudyService;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    @Mock
+    private ChatMessageRelay chatMessageRelay;
+
+    @Mock
+    private ChatRoomMembership chatRoomMembership;
+
+    private ChatService chatService;
+    private User user;
+    private Company owner;
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        chatService = new ChatService(getStudyService, chatRoomRepository, chatMessageRepository, chatMessageWriter, chatMessageRelay, chatRoomMembership);
+        user = new User();
+        user.setId(1L);
+        user.setNickName("참여자");
+        owner = new Company();
+        owner.setId(2L);
+        room = new ChatRoom(10L, ROOM_ID, null, user, owner, null, null, null, 0, 0);
+    }
+
+    // id 가 from 부터 1씩 줄어드는 메시지 count 개 (최신순)
+    private List<ChatMessage> messages(long from, int count) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> new ChatMessage(from - i, user, "메시지" + (from - i), room, "2023-01-01 10:00"))
+                .collect(Collectors.toList());
+    }
+
+    private List<Long> ids(ChatHistoryResponseDto history) {
+        return history.getMessages().stream().map(MessageListDto::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("최신 size 개를 오래된 순으로 내려주고, 더 있으면 가장 오래된 메시지 id 를 before 로 준다")
+    void findMessages_latestPage() {
+        given(chatRoomRepository.findByRoomId(ROOM_ID)).willReturn(Optional.of(room));
+        given(chatMessageRepository.findRecentMessages(eq(room), argThat(pageable -> pageable.getPageSize() == 4)))
+                .willReturn(messages(100L, 4));
+
+        ChatHistoryResponseDto history = chatService.findMessages(ROOM_ID, null, 3, user, null);
+
+        assertEquals(List.of(98L, 99L, 100L), ids(history));
+        assertTrue(history.isHasNext());
+        assertEquals(98L, history.getBefore());
+        then(chatRoomRepository).should().markReadByUser(10L);
+    }
+
+    @Test
+    @DisplayName("before 를 넘기면 그 이전 메시지를 내려주고, 마지막 페이지면 hasNext 가 false 다")
+    void findMessages_before() {
+        given(chatRoomRepository.findByRoomId(ROOM_ID)).willReturn(Optional.of(room));
+        given(chatMessageRepository.findMessagesBefore(eq(room), eq(98L), any(Pageable.class))).willReturn(messages(97L, 2));
+
+        ChatHistoryResponseDto history = chatService.findMessages(ROOM_ID, 98L, 3, null, owner);
+
+        assertEquals(List.of(96L, 97L), ids(history));
+        assertFalse(history.isHasNext());
+        assertNull(history.getBefore());
+        // 이전 메시지를 불러올 때는 읽음 처리하지 않는다
+        then(chatRoomRepository).should(never()).markReadByOwner(anyLong());
+    }
+
+    @Test
+    @DisplayName("size 가 1 보다 작거나 최대값보다 크면 조회하지 않는다")
+    void findMessages_sizeBounds() {
+        GlobalException tooSmall = assertThrows(GlobalException.class, () -> chatService.findMessages(ROOM_ID, null, 0, user, null));
+        GlobalException tooLarge = assertThrows(GlobalException.class, () -> chatService.findMessages(ROOM_ID, null, 101, user, null));
+
+        assertEquals(GlobalErrorCode.INVALID_INPUT_VALUE, tooSmall.getErrorCode());
+        assertEquals(GlobalErrorCode.INVALID_INPUT_VALUE, tooLarge.getErrorCode());
+        then(chatRoomRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("채팅방 참여자가 아니면 권한 없음")
+    void findMessages_notParticipant() {
+        User other = new User();
+        other.setId(3L);
+        given(chatRoomRepository.findByRoomId(ROOM_ID)).willReturn(Optional.of(room));
+
+        GlobalException exception = assertThrows(GlobalException.class, () -> chatService.findMessages(ROOM_ID, null, 30, other, null));
+
+        assertEquals(GlobalErrorCode.NOT_HAVE_PERMISSION, exception.getErrorCode());
+        then(chatMessageRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("채팅방을 삭제하면 세션에 남은 참여자 확인 기록을 지운다")
+    void deleteRoom_evictsMembership() {
+        given(chatRoomRepository.findByRoomId(ROOM_ID)).willReturn(Optional.of(room));
+
+        chatService.deleteRoom(ROOM_ID);
+
+        then(chatRoomRepository).should().deleteById(10L);
+        then(chatRoomMembership).should().evict(ROOM_ID);
+    }
+}
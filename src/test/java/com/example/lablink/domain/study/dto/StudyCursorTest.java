@@ -0,0 +1,63 @@
+package com.example.lablink.domain.study.dto;
+
+import com.example.lablink.global.exception.GlobalErrorCode;
+import com.example.lablink.global.exception.GlobalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StudyCursor Tests")
+class StudyCursorTest {
+
+    @Test
+    @DisplayName("encode한 커서를 decode하면 정렬 기준 값과 id가 그대로 복원된다")
+    void encodeAndDecode() {
+        LocalDateTime createdAt = LocalDateTime.of(2023, 5, 15, 18, 48, 9, 123456000);
+        StudyCursor cursor = new StudyCursor(StudyCursor.LATEST, createdAt.toString(), 42L);
+
+        StudyCursor decoded = StudyCursor.decode(cursor.encode(), StudyCursor.LATEST);
+
+        assertEquals(42L, decoded.getId());
+        assertEquals(createdAt, decoded.getSortKeyAsDateTime());
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지로 간주하여 null을 반환한다")
+    void decode_emptyCursor() {
+        assertNull(StudyCursor.decode("", StudyCursor.PAY));
+        assertNull(StudyCursor.decode(null, StudyCursor.PAY));
+    }
+
+    @Test
+    @DisplayName("다른 정렬에서 발급된 커서는 INVALID_CURSOR 예외가 발생한다")
+    void decode_modeMismatch() {
+        String cursor = new StudyCursor(StudyCursor.PAY, "50000", 1L).encode();
+
+        GlobalException e = assertThrows(GlobalException.class, () -> StudyCursor.decode(cursor, StudyCursor.POPULARITY));
+        assertEquals(GlobalErrorCode.INVALID_CURSOR, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("변조된 커서는 INVALID_CURSOR 예외가 발생한다")
+    void decode_malformedCursor() {
+        GlobalException e = assertThrows(GlobalException.class, () -> StudyCursor.decode("not-a-cursor!!", StudyCursor.LATEST));
+        assertEquals(GlobalErrorCode.INVALID_CURSOR, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("검색 조건 우선순위는 키워드 > 상세 검색 > 정렬 순이다")
+    void modeOf() {
+        StudySearchOption searchOption = new StudySearchOption();
+        assertEquals(StudyCursor.LATEST, StudyCursor.modeOf(searchOption, null));
+        assertEquals(StudyCursor.PAY, StudyCursor.modeOf(searchOption, "pay"));
+
+        searchOption.setCategory("ONLINE");
+        assertEquals(StudyCursor.SEARCH, StudyCursor.modeOf(searchOption, "pay"));
+
+        searchOption.setKeyword("실험");
+        assertEquals(StudyCursor.KEYWORD, StudyCursor.modeOf(searchOption, "pay"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.lablink.domain.study.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// LIKE 검색 vs FULLTEXT(ngram) 검색 성능 비교
+// 실제 MySQL 이 필요하므로 기본 빌드에서는 실행되지 않는다
+// ./gradlew test --tests '*StudyKeywordSearchBenchmarkTest' \
+//     -Dbenchmark.mysql.url='jdbc:mysql://localhost:3306/lablink_bench?rewriteBatchedStatements=true' \
+//     -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=... [-Dbenchmark.rows=1000000]
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("StudyKeywordSearch Benchmark")
+class StudyKeywordSearchBenchmarkTest {
+    private static final String TABLE = "study_search_benchmark";
+    private static final int BATCH_SIZE = 5_000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+    private static final int PAGE_COUNT = 12;
+    private static final List<String> KEYWORDS = List.of("심리학", "뇌파 측정", "온라인 설문", "수면");
+
+    private static final String[] TITLE_WORDS = {"심리학", "뇌파", "측정", "시선", "추적", "수면", "연구", "설문", "참가자", "모집", "인지", "실험", "온라인", "오프라인", "fMRI", "행동"};
+    private static final String[] DESCRIPTION_WORDS = {"본", "연구는", "대학교", "연구실에서", "진행되며", "약", "한", "시간", "소요됩니다", "사례비가", "지급됩니다", "건강한", "성인", "남녀를", "대상으로", "합니다"};
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.mysql.url"),
+                System.getProperty("benchmark.mysql.username", "root"),
+                System.getProperty("benchmark.mysql.password", ""));
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (" +
+                    "id BIGINT PRIMARY KEY AUTO_INCREMENT, " +
+                    "title VARCHAR(255), study_info VARCHAR(255), description LONGTEXT, deleted_at DATETIME(6))");
+        }
+        generate(rows);
+        long start = System.currentTimeMillis();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + TABLE + " ADD FULLTEXT INDEX ft_benchmark (title, study_info, description) WITH PARSER ngram");
+        }
+        System.out.printf("[benchmark] %d rows, FULLTEXT 인덱스 생성 %dms%n", rows, System.currentTimeMillis() - start);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("키워드별 LIKE / FULLTEXT 첫 페이지 조회 시간 비교")
+    void compare() throws SQLException {
+        // 엔진이 실제로 보내는 쿼리와 같은 형태
+        String like = "SELECT id FROM " + TABLE + " WHERE deleted_at IS NULL AND " +
+                "(title LIKE ? OR study_info LIKE ? OR description LIKE ?) ORDER BY id DESC LIMIT " + PAGE_COUNT;
+        String match = "MATCH(title, study_info, description) AGAINST (? IN BOOLEAN MODE)";
+        String fullText = "SELECT id FROM " + TABLE + " WHERE deleted_at IS NULL AND " + match +
+                " ORDER BY " + match + " DESC, id DESC LIMIT " + PAGE_COUNT;
+
+        for (String keyword : KEYWORDS) {
+            String pattern = "%" + keyword + "%";
+            String phrase = FullTextStudyKeywordSearchEngine.toPhrase(keyword);
+            double likeMs = measure(like, pattern, pattern, pattern);
+            double fullTextMs = measure(fullText, phrase, phrase);
+            System.out.printf("[benchmark] %-8s LIKE %8.2fms | FULLTEXT %8.2fms%n", keyword, likeMs, fullTextMs);
+            assertTrue(likeMs >= 0 && fullTextMs >= 0);
+        }
+    }
+
+    private double measure(String sql, String... params) throws SQLException {
+        for (int i = 0; i < WARMUP; i++) {
+            execute(sql, params);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            execute(sql, params);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private void execute(String sql, String... params) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setString(i + 1, params[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getLong(1);
+                }
+            }
+        }
+    }
+
+    private void generate(int rows) throws SQLException {
+        Random random = new Random(42);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (title, study_info, description) VALUES (?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                statement.setString(1, sentence(random, TITLE_WORDS, 4));
+                statement.setString(2, random.nextBoolean() ? "온라인" : "오프라인");
+                statement.setString(3, sentence(random, DESCRIPTION_WORDS, 30));
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private String sentence(Random random, String[] words, int length) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(words[random.nextInt(words.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.company.entity.Company;
+import com.example.lablink.domain.company.repository.CompanyRepository;
+import com.example.lablink.domain.user.entity.User;
+import com.example.lablink.domain.user.repository.UserRepository;
+import com.example.lablink.support.InProcessRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+// 기존 최근 검색어 키({userId}, {companyName})를 테스트용 Redis(InProcessRedis)에 넣고 이전 결과 확인
+@DisplayName("RecentSearchMigration Tests")
+class RecentSearchMigrationTest {
+
+    private InProcessRedis redis;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private UserRepository userRepository;
+    private CompanyRepository companyRepository;
+    private RecentSearchMigration recentSearchMigration;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        userRepository = mock(UserRepository.class);
+        companyRepository = mock(CompanyRepository.class);
+        recentSearchMigration = new RecentSearchMigration(userRepository, companyRepository, redisTemplate, redisTemplate);
+
+        User user = new User();
+        user.setId(1L);
+        Company company = new Company();
+        company.setId(7L);
+        company.setCompanyName("랩링크");
+        // 탈퇴한 유저(id 42)는 @Where 때문에 조회되지 않는다
+        given(userRepository.findAll(any(Pageable.class))).willReturn(new PageImpl<>(List.of(user)));
+        given(companyRepository.findAll(any(Pageable.class))).willReturn(new PageImpl<>(List.of(company)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    private void legacy(String key, int size) {
+        for (int i = 1; i <= size; i++) {
+            redisTemplate.opsForZSet().add(key, key + "-keyword" + i, i);
+        }
+    }
+
+    @Test
+    @DisplayName("최근 MAX_SIZE 개를 새 키로 옮기고 TTL 을 붙인 뒤 기존 키를 삭제한다")
+    void migrate() {
+        legacy("1", 12);
+        legacy("랩링크", 3);
+
+        recentSearchMigration.migrate();
+
+        Set<String> userKeywords = redisTemplate.opsForZSet().range("recent-search:user:1", 0, -1);
+        assertEquals(RecentSearchStore.MAX_SIZE, userKeywords.size());
+        assertTrue(userKeywords.contains("1-keyword12"));
+        assertFalse(userKeywords.contains("1-keyword2"));
+        assertEquals(3, redisTemplate.opsForZSet().zCard("recent-search:company:7"));
+        assertTrue(redisTemplate.getExpire("recent-search:user:1") > 0);
+        assertFalse(redisTemplate.hasKey("1"));
+        assertFalse(redisTemplate.hasKey("랩링크"));
+        assertTrue(redisTemplate.hasKey("recent-search:migration:done"));
+        assertFalse(redisTemplate.hasKey("recent-search:migration:lock"));
+    }
+
+    @Test
+    @DisplayName("탈퇴한 유저의 기존 키도 삭제하고, 다른 기능의 키는 남긴다")
+    void deleteOrphanedLegacyKeys() {
+        legacy("42", 2);
+        legacy(SearchKeywordWriter.RANKING_KEY, 2);
+        legacy("ranking:bucket:1", 2);
+        redisTemplate.opsForValue().set("refresh@example.com", "token");
+
+        recentSearchMigration.migrate();
+
+        assertFalse(redisTemplate.hasKey("42"));
+        assertTrue(redisTemplate.hasKey(SearchKeywordWriter.RANKING_KEY));
+        assertTrue(redisTemplate.hasKey("ranking:bucket:1"));
+        assertTrue(redisTemplate.hasKey("refresh@example.com"));
+    }
+
+    @Test
+    @DisplayName("완료 표시가 있으면 다시 실행하지 않는다")
+    void runOnce() {
+        redisTemplate.opsForValue().set("recent-search:migration:done", "1");
+        legacy("1", 2);
+
+        recentSearchMigration.migrate();
+
+        assertTrue(redisTemplate.hasKey("1"));
+        then(userRepository).should(never()).findAll(any(Pageable.class));
+    }
+}
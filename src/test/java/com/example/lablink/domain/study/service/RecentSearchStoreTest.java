@@ -0,0 +1,97 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.responseDto.LatestSearchKeyword;
+import com.example.lablink.support.InProcessRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 검색어 저장(SearchKeywordWriter) -> 조회(RecentSearchStore) 를 테스트용 Redis(InProcessRedis)로 확인
+@DisplayName("RecentSearchStore Tests")
+class RecentSearchStoreTest {
+    private static final String KEY = "recent-search:user:1";
+
+    private InProcessRedis redis;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SearchKeywordWriter searchKeywordWriter;
+    private RecentSearchStore recentSearchStore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        searchKeywordWriter = new SearchKeywordWriter(redisTemplate, new SimpleMeterRegistry());
+        searchKeywordWriter.start();
+        recentSearchStore = new RecentSearchStore(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    // stop 은 큐에 남은 검색어를 모두 쓴 뒤 반환한다
+    private void write(String... keywords) throws InterruptedException {
+        for (String keyword : keywords) {
+            searchKeywordWriter.write(keyword, KEY);
+            Thread.sleep(2);
+        }
+        searchKeywordWriter.stop();
+    }
+
+    private List<String> find() {
+        return recentSearchStore.find(KEY).stream().map(LatestSearchKeyword::getLatestKeyword).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("최근 MAX_SIZE 개만 최신순으로 남긴다")
+    void cap() throws InterruptedException {
+        write("k1", "k2", "k3", "k4", "k5", "k6", "k7", "k8", "k9", "k10", "k11", "k12");
+
+        assertEquals(List.of("k12", "k11", "k10", "k9", "k8", "k7", "k6", "k5", "k4", "k3"), find());
+        assertEquals(RecentSearchStore.MAX_SIZE, redisTemplate.opsForZSet().zCard(KEY));
+    }
+
+    @Test
+    @DisplayName("같은 검색어는 한 번만 남기고 가장 최근 검색한 위치로 옮긴다")
+    void dedupe() throws InterruptedException {
+        write("뇌파", "수면", "뇌파");
+
+        assertEquals(List.of("뇌파", "수면"), find());
+    }
+
+    @Test
+    @DisplayName("쓸 때마다 TTL 을 붙인다")
+    void ttl() throws InterruptedException {
+        write("뇌파");
+
+        Long ttl = redisTemplate.getExpire(KEY, TimeUnit.SECONDS);
+        assertNotNull(ttl);
+        assertTrue(ttl > RecentSearchStore.TTL.getSeconds() - 60 && ttl <= RecentSearchStore.TTL.getSeconds());
+    }
+
+    @Test
+    @DisplayName("검색어를 하나씩 삭제할 수 있다")
+    void delete() throws InterruptedException {
+        write("뇌파", "수면");
+
+        recentSearchStore.delete(KEY, "뇌파");
+
+        assertEquals(List.of("수면"), find());
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.support.InProcessRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 검색어를 모아서 쓰는지(같은 검색어 합치기, 최근 검색어 시각), 큐가 가득 찼을 때 버리는지, 종료 시 남은 검색어를 쓰는지 테스트용 Redis(InProcessRedis)로 확인
+@DisplayName("SearchKeywordWriter Tests")
+class SearchKeywordWriterTest {
+    private static final String RECENT_KEY = "recent-search:user:1";
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private InProcessRedis redis;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private SearchKeywordWriter searchKeywordWriter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        meterRegistry = new SimpleMeterRegistry();
+        searchKeywordWriter = new SearchKeywordWriter(redisTemplate, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redis.resume();
+        searchKeywordWriter.stop();
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    // from ~ to 사이에 쓴 1시간 bucket 키 수
+    private long bucketCount(long from, long to) {
+        return Stream.of(TrendingKeywordService.bucketKey(from), TrendingKeywordService.bucketKey(to)).distinct()
+                .filter(key -> Boolean.TRUE.equals(redisTemplate.hasKey(key)))
+                .count();
+    }
+
+    @Test
+    @DisplayName("한 번에 쓰는 검색어 중 같은 검색어는 ranking / bucket 키마다 ZINCRBY 한 번으로 합친다")
+    void flush_coalesce() throws InterruptedException {
+        long from = System.currentTimeMillis();
+        // start 전에 넣어서 하나의 batch 로 쓴다
+        for (int i = 0; i < 5; i++) {
+            searchKeywordWriter.write("뇌파", null);
+        }
+        searchKeywordWriter.write("수면", null);
+        searchKeywordWriter.write("수면", null);
+
+        searchKeywordWriter.start();
+        searchKeywordWriter.stop();
+
+        assertEquals(5.0, redisTemplate.opsForZSet().score(SearchKeywordWriter.RANKING_KEY, "뇌파"));
+        assertEquals(2.0, redisTemplate.opsForZSet().score(SearchKeywordWriter.RANKING_KEY, "수면"));
+        // 검색어 2개 x (ranking + 1시간 bucket, 정각을 걸치면 bucket 이 2개)
+        assertEquals(2L * (1 + bucketCount(from, System.currentTimeMillis())), redis.commandCount("ZINCRBY"));
+        assertEquals(7.0, counter("search.keyword.written"));
+    }
+
+    @Test
+    @DisplayName("최근 검색어는 같은 검색어를 여러 번 검색해도 가장 늦은 시각으로 한 번만 쓴다")
+    void flush_latestTimestamp() throws InterruptedException {
+        searchKeywordWriter.write("뇌파", RECENT_KEY);
+        Thread.sleep(5);
+        searchKeywordWriter.write("수면", RECENT_KEY);
+        Thread.sleep(5);
+        long lastSearchedAt = System.currentTimeMillis();
+        searchKeywordWriter.write("뇌파", RECENT_KEY);
+
+        searchKeywordWriter.start();
+        searchKeywordWriter.stop();
+
+        Double brainwave = redisTemplate.opsForZSet().score(RECENT_KEY, "뇌파");
+        Double sleep = redisTemplate.opsForZSet().score(RECENT_KEY, "수면");
+        assertNotNull(brainwave);
+        assertTrue(brainwave >= lastSearchedAt);
+        assertTrue(brainwave > sleep);
+        assertEquals(2, redis.commandCount("ZADD"));
+    }
+
+    @Test
+    @DisplayName("Redis 가 느려서 큐가 가득 차면 넘친 검색어는 버리고 search.keyword.dropped 를 올린다")
+    void write_queueFull() throws InterruptedException {
+        // 연결을 먼저 맺어둔다
+        redisTemplate.hasKey("warm-up");
+        redis.pause();
+        searchKeywordWriter.start();
+        searchKeywordWriter.write("첫 검색어", null);
+        // 백그라운드 스레드가 첫 검색어를 꺼내서 Redis 응답을 기다릴 때까지
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("search.keyword.queue.size").gauge().value() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        for (int i = 0; i < QUEUE_CAPACITY + 5; i++) {
+            searchKeywordWriter.write("검색어", null);
+        }
+
+        assertEquals(5.0, counter("search.keyword.dropped"));
+        redis.resume();
+        searchKeywordWriter.stop();
+        assertEquals(QUEUE_CAPACITY + 1.0, counter("search.keyword.written"));
+        assertEquals((double) QUEUE_CAPACITY, redisTemplate.opsForZSet().score(SearchKeywordWriter.RANKING_KEY, "검색어"));
+    }
+
+    @Test
+    @DisplayName("stop 은 큐에 남은 검색어를 모두 쓴 뒤 반환한다")
+    void stop_drains() throws InterruptedException {
+        searchKeywordWriter.start();
+        for (int i = 0; i < 3_000; i++) {
+            searchKeywordWriter.write("검색어" + i % 3, null);
+        }
+
+        searchKeywordWriter.stop();
+
+        assertEquals(0.0, meterRegistry.get("search.keyword.queue.size").gauge().value());
+        assertEquals(3_000.0, counter("search.keyword.written"));
+        assertEquals(1_000.0, redisTemplate.opsForZSet().score(SearchKeywordWriter.RANKING_KEY, "검색어0"));
+    }
+}
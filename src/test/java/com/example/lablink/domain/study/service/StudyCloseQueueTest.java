@@ -0,0 +1,210 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import com.example.lablink.support.InProcessRedis;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+// 마감 큐(study:close)는 테스트용 Redis(InProcessRedis), DB 와 색인/캐시는 mock
+// POP_DUE 는 Lua 대신 같은 동작(ZRANGEBYSCORE + ZREM)을 Java 로 등록해서 데이터 락 안에서 한 번에 실행한다
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyCloseQueue Tests")
+class StudyCloseQueueTest {
+    private static final String KEY = "study:close";
+    private static final int CHUNK_SIZE = 1000;
+
+    @Mock
+    private StudyRepository studyRepository;
+
+    @Mock
+    private StudySearchQueryRepository studySearchQueryRepository;
+
+    @Mock
+    private StudyIndexSynchronizer studyIndexSynchronizer;
+
+    @Mock
+    private StudySortIndex studySortIndex;
+
+    @Mock
+    private StudyCardCache studyCardCache;
+
+    @Mock
+    private StudyListCacheInvalidator studyListCacheInvalidator;
+
+    private InProcessRedis redis;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        redis.script(StudyCloseQueue.POP_DUE.getScriptAsString(), (keys, args) -> {
+            List<String> members = redis.zrangeByScore(keys.get(0), Double.parseDouble(args.get(0)), Integer.parseInt(args.get(1)));
+            redis.zrem(keys.get(0), members);
+            return members;
+        });
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    // 서버 하나 (Redis 와 DB 는 같이 쓴다)
+    private StudyCloseQueue server() {
+        return new StudyCloseQueue(redisTemplate, studyRepository, studySearchQueryRepository, studyIndexSynchronizer,
+                studySortIndex, studyCardCache, studyListCacheInvalidator);
+    }
+
+    private Study study(Long id, StudyStatusEnum status, LocalDateTime endDate) {
+        Study study = new Study();
+        study.setId(id);
+        study.setStatus(status);
+        study.setEndDate(endDate);
+        return study;
+    }
+
+    private Double score(Long studyId) {
+        return redisTemplate.opsForZSet().score(KEY, String.valueOf(studyId));
+    }
+
+    @Test
+    @DisplayName("마감 시각이 지난 공고는 여러 서버가 같이 확인해도 한 번만 닫는다")
+    void poll_closesOnce() throws InterruptedException {
+        StudyCloseQueue first = server();
+        StudyCloseQueue second = server();
+        first.schedule(study(1L, StudyStatusEnum.ONGOING, LocalDateTime.now().minusSeconds(1)));
+        first.schedule(study(2L, StudyStatusEnum.ONGOING, LocalDateTime.now().plusDays(1)));
+        given(studyRepository.closeStudies(eq(List.of(1L)), eq(StudyStatusEnum.ONGOING), eq(StudyStatusEnum.CLOSED), any(LocalDateTime.class)))
+                .willReturn(1);
+        given(studyRepository.findAllById(List.of(1L))).willReturn(List.of(study(1L, StudyStatusEnum.CLOSED, null)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 8; i++) {
+            StudyCloseQueue server = i % 2 == 0 ? first : second;
+            executor.execute(server::poll);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        then(studyRepository).should(times(1)).closeStudies(anyList(), any(), any(), any());
+        then(studySortIndex).should(times(1)).add(any(Study.class));
+        then(studyCardCache).should(times(1)).evict(1L);
+        then(studyListCacheInvalidator).should(times(1)).evictPagesContaining(1L);
+        // 마감 시각이 남은 공고는 큐에 그대로 남는다
+        assertNull(score(1L));
+        assertNotNull(score(2L));
+    }
+
+    @Test
+    @DisplayName("마감 시각을 늘린 공고는 새 마감 시각 전에는 닫지 않는다")
+    void poll_extendedEndDate() {
+        StudyCloseQueue queue = server();
+        LocalDateTime extended = LocalDateTime.now().plusDays(3);
+        queue.schedule(study(1L, StudyStatusEnum.ONGOING, LocalDateTime.now().minusSeconds(1)));
+        // 공고 수정 (StudyService.updateStudy) : 같은 멤버를 새 마감 시각으로 덮어쓴다
+        queue.schedule(study(1L, StudyStatusEnum.ONGOING, extended));
+
+        queue.poll();
+
+        then(studyRepository).shouldHaveNoInteractions();
+        assertNotNull(score(1L));
+        assertTrue(score(1L) > System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("큐에서 꺼낸 뒤 DB 에서 마감 시각이 늘어났으면 UPDATE 조건으로 걸러지고 색인/캐시는 건드리지 않는다")
+    void poll_extendedInDb() {
+        StudyCloseQueue queue = server();
+        queue.schedule(study(1L, StudyStatusEnum.ONGOING, LocalDateTime.now().minusSeconds(1)));
+        given(studyRepository.closeStudies(eq(List.of(1L)), eq(StudyStatusEnum.ONGOING), eq(StudyStatusEnum.CLOSED), any(LocalDateTime.class)))
+                .willReturn(0);
+
+        queue.poll();
+
+        then(studyRepository).should(never()).findAllById(anyList());
+        then(studySortIndex).shouldHaveNoInteractions();
+        then(studyListCacheInvalidator).shouldHaveNoInteractions();
+        assertNull(score(1L));
+    }
+
+    @Test
+    @DisplayName("닫다가 실패하면 꺼낸 공고를 다시 넣어서 다음 확인 때 닫는다")
+    void poll_requeueOnFailure() {
+        StudyCloseQueue queue = server();
+        queue.schedule(study(1L, StudyStatusEnum.ONGOING, LocalDateTime.now().minusSeconds(1)));
+        queue.schedule(study(2L, StudyStatusEnum.ONGOING, LocalDateTime.now().minusSeconds(1)));
+        given(studyRepository.closeStudies(anyList(), eq(StudyStatusEnum.ONGOING), eq(StudyStatusEnum.CLOSED), any(LocalDateTime.class)))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(2);
+        given(studyRepository.findAllById(anyList()))
+                .willReturn(List.of(study(1L, StudyStatusEnum.CLOSED, null), study(2L, StudyStatusEnum.CLOSED, null)));
+
+        queue.poll();
+
+        assertNotNull(score(1L));
+        assertNotNull(score(2L));
+        then(studySortIndex).shouldHaveNoInteractions();
+
+        queue.poll();
+
+        assertNull(score(1L));
+        assertNull(score(2L));
+        then(studyRepository).should(times(2)).closeStudies(anyList(), any(), any(), any());
+        then(studyListCacheInvalidator).should().evictPagesContaining(1L);
+        then(studyListCacheInvalidator).should().evictPagesContaining(2L);
+    }
+
+    @Test
+    @DisplayName("자정 일괄 마감은 CHUNK_SIZE 씩 나눠서 남은 공고가 없을 때까지 닫는다")
+    void closeOverdue_pages() {
+        List<Long> firstChunk = LongStream.rangeClosed(1, CHUNK_SIZE).boxed().collect(Collectors.toList());
+        List<Long> lastChunk = LongStream.rangeClosed(CHUNK_SIZE + 1, CHUNK_SIZE + 5).boxed().collect(Collectors.toList());
+        given(studyRepository.findIdsByStatusAndEndDateBefore(eq(StudyStatusEnum.ONGOING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(firstChunk, lastChunk);
+        given(studyRepository.closeStudies(anyList(), eq(StudyStatusEnum.ONGOING), eq(StudyStatusEnum.CLOSED), any(LocalDateTime.class)))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        given(studyRepository.findAllById(anyList())).willReturn(List.of());
+
+        int closed = server().closeOverdue();
+
+        assertEquals(CHUNK_SIZE + 5, closed);
+        then(studyRepository).should(times(2)).findIdsByStatusAndEndDateBefore(any(), any(), any());
+        then(studyRepository).should().closeStudies(eq(firstChunk), any(), any(), any());
+        then(studyRepository).should().closeStudies(eq(lastChunk), any(), any(), any());
+    }
+}
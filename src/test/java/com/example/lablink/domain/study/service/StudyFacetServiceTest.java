@@ -0,0 +1,86 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudySearchOption;
+import com.example.lablink.domain.study.dto.responseDto.StudyFacetsDto;
+import com.example.lablink.domain.study.repository.StudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyFacetService Tests")
+class StudyFacetServiceTest {
+
+    @Mock
+    private StudySearchQueryRepository studySearchQueryRepository;
+
+    @Mock
+    private StudyKeywordSearchEngine studyKeywordSearchEngine;
+
+    @Mock
+    private StudyListCacheInvalidator studyListCacheInvalidator;
+
+    private StudyFacetService studyFacetService;
+
+    @BeforeEach
+    void setUp() {
+        studyFacetService = new StudyFacetService(studySearchQueryRepository, studyKeywordSearchEngine, studyListCacheInvalidator);
+    }
+
+    @Test
+    @DisplayName("키워드 검색이면 키워드 검색 결과 공고 안에서 센다")
+    void getFacets_keyword() {
+        StudySearchOption searchOption = new StudySearchOption();
+        searchOption.setKeyword("뇌파");
+        searchOption.setAddress("서울");
+        given(studyKeywordSearchEngine.search(eq("뇌파"), isNull(Long.class), anyInt())).willReturn(List.of(3L, 2L));
+
+        studyFacetService.getFacets(searchOption);
+
+        then(studySearchQueryRepository).should().countByCategory(argThat(option -> "서울".equals(option.getAddress())), eq(List.of(3L, 2L)));
+        then(studySearchQueryRepository).should().countByRegion(argThat(option -> option.getAddress() == null), eq(List.of(3L, 2L)), anyList());
+    }
+
+    @Test
+    @DisplayName("키워드 검색 결과가 없으면 집계하지 않는다")
+    void getFacets_noKeywordMatch() {
+        StudySearchOption searchOption = new StudySearchOption();
+        searchOption.setKeyword("없는 검색어");
+        given(studyKeywordSearchEngine.search(eq("없는 검색어"), isNull(Long.class), anyInt())).willReturn(List.of());
+
+        StudyFacetsDto facets = studyFacetService.getFacets(searchOption);
+
+        assertTrue(facets.getCategory().isEmpty());
+        assertTrue(facets.getRegion().isEmpty());
+        then(studySearchQueryRepository).should(never()).countByCategory(any(), any());
+    }
+
+    @Test
+    @DisplayName("상세 검색이면 전체 공고를 대상으로 센다")
+    void getFacets_filterOnly() {
+        StudySearchOption searchOption = new StudySearchOption();
+        searchOption.setCategory("ONLINE");
+
+        studyFacetService.getFacets(searchOption);
+
+        then(studyKeywordSearchEngine).shouldHaveNoInteractions();
+        then(studySearchQueryRepository).should().countByGender(argThat(option -> "ONLINE".equals(option.getCategory())), isNull());
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudySearchOption;
+import com.example.lablink.domain.study.entity.CategoryEnum;
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 상세 검색 : QueryDSL(searchOptionCondition) 과 같은 SQL vs 인메모리 필터 색인 성능 비교
+// 실제 MySQL 이 필요하므로 기본 빌드에서는 실행되지 않는다
+// ./gradlew test --tests '*StudyFilterIndexBenchmarkTest' \
+//     -Dbenchmark.mysql.url='jdbc:mysql://localhost:3306/lablink_bench?rewriteBatchedStatements=true' \
+//     -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=... [-Dbenchmark.rows=1000000]
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("StudyFilterIndex Benchmark")
+class StudyFilterIndexBenchmarkTest {
+    private static final String TABLE = "study_filter_benchmark";
+    private static final int BATCH_SIZE = 5_000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+    private static final int PAGE_COUNT = 12;
+
+    private static final String[] GENDERS = {"남성", "여성", "남성 여성", "무관"};
+    private static final String[] ADDRESSES = {"서울 강남구 역삼동", "서울 마포구 서교동", "부산 해운대구 우동", "대구 수성구 범어동",
+            "경기 성남시 분당구", "인천 연수구 송도동", "대전 유성구 궁동", "광주 북구 용봉동"};
+
+    private Connection connection;
+    private final StudyFilterIndex studyFilterIndex = new StudyFilterIndex(null);
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.mysql.url"),
+                System.getProperty("benchmark.mysql.username", "root"),
+                System.getProperty("benchmark.mysql.password", ""));
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (" +
+                    "id BIGINT PRIMARY KEY, category VARCHAR(255), subject_gender VARCHAR(255), " +
+                    "subject_min_age INT, subject_max_age INT, address VARCHAR(255), status VARCHAR(255), " +
+                    "created_at DATETIME(6), deleted_at DATETIME(6), INDEX index_created_at_id (created_at, id))");
+        }
+        long start = System.currentTimeMillis();
+        generate(rows);
+        System.out.printf("[benchmark] %d rows, 데이터 생성 + 필터 색인 %dms%n", rows, System.currentTimeMillis() - start);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("검색 조건별 QueryDSL SQL / 필터 색인 첫 페이지 조회 시간 비교")
+    void compare() throws SQLException {
+        // searchOptionCondition 이 만드는 조건과 같은 형태
+        String sql = "SELECT id FROM " + TABLE + " WHERE deleted_at IS NULL" +
+                " AND (? IS NULL OR lower(category) = ?)" +
+                " AND (? IS NULL OR lower(address) LIKE ?)" +
+                " AND (? IS NULL OR lower(subject_gender) LIKE ?)" +
+                " AND (? IS NULL OR (subject_min_age <= ? AND subject_max_age >= ?))" +
+                " ORDER BY created_at DESC LIMIT " + PAGE_COUNT;
+
+        List<StudySearchOption> options = List.of(
+                option("ONLINE", null, null, null),
+                option(null, "여성", "25", null),
+                option("OFFLINE", "남성", "33", "서울"),
+                option(null, null, "70", "유성구"));
+        for (StudySearchOption searchOption : options) {
+            List<Long> expected = new ArrayList<>();
+            double sqlMs = measure(() -> {
+                expected.clear();
+                expected.addAll(query(sql, searchOption));
+            });
+            List<Long> actual = new ArrayList<>();
+            double indexMs = measure(() -> {
+                actual.clear();
+                actual.addAll(studyFilterIndex.search(searchOption, null, 0, PAGE_COUNT));
+            });
+            System.out.printf("[benchmark] %-6s %-4s %-3s %-6s SQL %8.2fms | 필터 색인 %8.3fms%n", searchOption.getCategory(),
+                    searchOption.getGender(), searchOption.getAge(), searchOption.getAddress(), sqlMs, indexMs);
+            assertEquals(expected, actual);
+        }
+    }
+
+    private interface Run {
+        void run() throws SQLException;
+    }
+
+    private double measure(Run run) throws SQLException {
+        for (int i = 0; i < WARMUP; i++) {
+            run.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            run.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private List<Long> query(String sql, StudySearchOption searchOption) throws SQLException {
+        String category = lower(searchOption.getCategory());
+        String address = searchOption.getAddress() == null ? null : "%" + lower(searchOption.getAddress()) + "%";
+        String gender = searchOption.getGender() == null ? null : "%" + lower(searchOption.getGender()) + "%";
+        String age = searchOption.getAge();
+        List<Long> studyIds = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            String[] params = {category, category, address, address, gender, gender, age, age, age};
+            for (int i = 0; i < params.length; i++) {
+                statement.setString(i + 1, params[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    studyIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return studyIds;
+    }
+
+    private static String lower(String value) {
+        return value == null ? null : value.toLowerCase();
+    }
+
+    private StudySearchOption option(String category, String gender, String age, String address) {
+        StudySearchOption searchOption = new StudySearchOption();
+        searchOption.setCategory(category);
+        searchOption.setGender(gender);
+        searchOption.setAge(age);
+        searchOption.setAddress(address);
+        return searchOption;
+    }
+
+    // id 순서와 created_at 순서가 같도록 생성 (운영과 동일하게 IDENTITY + 등록 시각)
+    private void generate(int rows) throws SQLException {
+        Random random = new Random(42);
+        LocalDateTime createdAt = LocalDateTime.of(2023, 1, 1, 0, 0);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (id, category, subject_gender, subject_min_age, subject_max_age, address, status, created_at)" +
+                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                Study study = new Study();
+                study.setId((long) i);
+                study.setCategory(random.nextBoolean() ? CategoryEnum.ONLINE : CategoryEnum.OFFLINE);
+                study.setSubjectGender(GENDERS[random.nextInt(GENDERS.length)]);
+                study.setSubjectMinAge(18 + random.nextInt(30));
+                study.setSubjectMaxAge(study.getSubjectMinAge() + random.nextInt(40));
+                study.setAddress(ADDRESSES[random.nextInt(ADDRESSES.length)]);
+                study.setStatus(random.nextInt(4) == 0 ? StudyStatusEnum.CLOSED : StudyStatusEnum.ONGOING);
+                studyFilterIndex.index(study);
+
+                statement.setLong(1, study.getId());
+                statement.setString(2, study.getCategory().name());
+                statement.setString(3, study.getSubjectGender());
+                statement.setInt(4, study.getSubjectMinAge());
+                statement.setInt(5, study.getSubjectMaxAge());
+                statement.setString(6, study.getAddress());
+                statement.setString(7, study.getStatus().name());
+                statement.setTimestamp(8, Timestamp.valueOf(createdAt.plusSeconds(i)));
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudySearchOption;
+import com.example.lablink.domain.study.entity.CategoryEnum;
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.entity.StudyStatusEnum;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyFilterIndex Tests")
+class StudyFilterIndexTest {
+
+    @Mock
+    private StudyRepository studyRepository;
+
+    private StudyFilterIndex studyFilterIndex;
+
+    @BeforeEach
+    void setUp() {
+        studyFilterIndex = new StudyFilterIndex(studyRepository);
+        studyFilterIndex.index(study(1L, CategoryEnum.ONLINE, "남성", 20, 29, "서울 강남구 역삼동", StudyStatusEnum.ONGOING));
+        studyFilterIndex.index(study(2L, CategoryEnum.OFFLINE, "여성", 20, 35, "서울 마포구 서교동", StudyStatusEnum.ONGOING));
+        studyFilterIndex.index(study(3L, CategoryEnum.OFFLINE, "남성 여성", 40, 60, "부산 해운대구", StudyStatusEnum.CLOSED));
+        studyFilterIndex.index(study(4L, CategoryEnum.ONLINE, "무관", 18, 99, "경기 성남시 분당구", StudyStatusEnum.ONGOING));
+    }
+
+    private Study study(Long id, CategoryEnum category, String gender, int minAge, int maxAge, String address, StudyStatusEnum status) {
+        Study study = new Study();
+        study.setId(id);
+        study.setCategory(category);
+        study.setSubjectGender(gender);
+        study.setSubjectMinAge(minAge);
+        study.setSubjectMaxAge(maxAge);
+        study.setAddress(address);
+        study.setStatus(status);
+        return study;
+    }
+
+    private StudySearchOption option(String category, String gender, String age, String address) {
+        StudySearchOption searchOption = new StudySearchOption();
+        searchOption.setCategory(category);
+        searchOption.setGender(gender);
+        searchOption.setAge(age);
+        searchOption.setAddress(address);
+        return searchOption;
+    }
+
+    @Test
+    @DisplayName("조건은 QueryDSL 검색과 같게 적용된다 (category 대소문자 무시, 성별/주소 부분 일치, 나이 범위)")
+    void search_sameAsQuery() {
+        assertEquals(List.of(4L, 1L), studyFilterIndex.search(option("online", null, null, null), null, 0, 10));
+        assertEquals(List.of(3L, 2L), studyFilterIndex.search(option(null, "여성", null, null), null, 0, 10));
+        assertEquals(List.of(4L, 2L, 1L), studyFilterIndex.search(option(null, null, "25", null), null, 0, 10));
+        // 38살 : 2번(20~35)은 같은 연령대(30대) 비트맵에 있지만 범위 밖이라 제외
+        assertEquals(List.of(4L), studyFilterIndex.search(option(null, null, "38", null), null, 0, 10));
+        assertEquals(List.of(2L, 1L), studyFilterIndex.search(option(null, null, null, "서울"), null, 0, 10));
+        assertEquals(List.of(1L), studyFilterIndex.search(option(null, null, null, "강남구 역삼"), null, 0, 10));
+        assertEquals(List.of(2L), studyFilterIndex.search(option("OFFLINE", "여성", "25", "서울"), null, 0, 10));
+        assertEquals(List.of(3L), studyFilterIndex.search(option(null, null, null, null), StudyStatusEnum.CLOSED, 0, 10));
+    }
+
+    @Test
+    @DisplayName("페이지는 최신순(id 내림차순)으로 나뉜다")
+    void search_paging() {
+        assertEquals(List.of(4L, 3L), studyFilterIndex.search(option(null, null, null, null), null, 0, 2));
+        assertEquals(List.of(2L, 1L), studyFilterIndex.search(option(null, null, null, null), null, 1, 2));
+        assertTrue(studyFilterIndex.search(option(null, null, null, null), null, 2, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 기존 값이 비트맵에서 빠진다")
+    void index_updateAndRemove() {
+        studyFilterIndex.index(study(1L, CategoryEnum.OFFLINE, "남성", 20, 29, "대전 유성구", StudyStatusEnum.CLOSED));
+
+        assertEquals(List.of(4L), studyFilterIndex.search(option("ONLINE", null, null, null), null, 0, 10));
+        assertEquals(List.of(2L), studyFilterIndex.search(option(null, null, null, "서울"), null, 0, 10));
+        assertEquals(List.of(3L, 1L), studyFilterIndex.search(option(null, null, null, null), StudyStatusEnum.CLOSED, 0, 10));
+
+        studyFilterIndex.remove(1L);
+        assertTrue(studyFilterIndex.search(option(null, null, null, "대전"), null, 0, 10).isEmpty());
+        assertEquals(3, studyFilterIndex.size());
+    }
+}
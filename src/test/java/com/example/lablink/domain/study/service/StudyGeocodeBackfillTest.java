@@ -0,0 +1,113 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import com.example.lablink.global.geo.Geocoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyGeocodeBackfill Tests")
+class StudyGeocodeBackfillTest {
+
+    @Mock
+    private StudyRepository studyRepository;
+
+    @Mock
+    private Geocoder geocoder;
+
+    @Mock
+    private StudyGeoIndex studyGeoIndex;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private StudyGeocodeBackfill studyGeocodeBackfill;
+
+    @BeforeEach
+    void setUp() {
+        studyGeocodeBackfill = new StudyGeocodeBackfill(studyRepository, geocoder, studyGeoIndex,
+                stringRedisTemplate, TransactionOperations.withoutTransaction());
+    }
+
+    private Study study(Long id, String address) {
+        Study study = new Study();
+        study.setId(id);
+        study.setAddress(address);
+        return study;
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 공고를 지난번 마지막 id 다음부터 채우고 위치 색인에 추가한다")
+    void backfill_resumeFromProgress() {
+        Study located = study(11L, "서울시 강남구");
+        Study unknown = study(12L, "주소 없음");
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(valueOperations.get("study:geocode-backfill:last-id")).willReturn("10");
+        given(studyRepository.findByIdGreaterThanAndLatitudeIsNullOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .willReturn(List.of(located, unknown));
+        given(geocoder.geocode("서울시 강남구")).willReturn(Optional.of(new Point(127.0, 37.5)));
+        given(geocoder.geocode("주소 없음")).willReturn(Optional.empty());
+
+        studyGeocodeBackfill.backfill();
+
+        assertEquals(37.5, located.getLatitude());
+        assertEquals(127.0, located.getLongitude());
+        assertNull(unknown.getLatitude());
+        then(studyGeoIndex).should().add(located);
+        then(studyGeoIndex).should(never()).add(unknown);
+        then(valueOperations).should().set("study:geocode-backfill:last-id", "12");
+        then(valueOperations).should().set(eq("study:geocode-backfill:done"), anyString());
+        then(stringRedisTemplate).should().delete("study:geocode-backfill:lock");
+    }
+
+    @Test
+    @DisplayName("이미 완료했으면 실행하지 않는다")
+    void backfill_skipWhenDone() {
+        given(stringRedisTemplate.hasKey("study:geocode-backfill:done")).willReturn(true);
+
+        studyGeocodeBackfill.backfill();
+
+        then(studyRepository).should(never()).findByIdGreaterThanAndLatitudeIsNullOrderByIdAsc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("실패하면 완료 표시를 남기지 않고 락만 푼다 (다음 시작 때 이어서 진행)")
+    void backfill_failure() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(studyRepository.findByIdGreaterThanAndLatitudeIsNullOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .willThrow(new IllegalStateException("db down"));
+
+        studyGeocodeBackfill.backfill();
+
+        then(valueOperations).should(never()).set(eq("study:geocode-backfill:done"), anyString());
+        then(stringRedisTemplate).should().delete("study:geocode-backfill:lock");
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.repository.StudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import com.example.lablink.global.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyIndexSynchronizer Tests")
+class StudyIndexSynchronizerTest {
+
+    @Mock
+    private StudyRepository studyRepository;
+
+    @Mock
+    private StudyKeywordSearchEngine studyKeywordSearchEngine;
+
+    @Mock
+    private ObjectProvider<StudyKeywordIndex> studyKeywordIndex;
+
+    @Mock
+    private StudyFilterIndex studyFilterIndex;
+
+    @Mock
+    private StudySuggestIndex studySuggestIndex;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer cacheInvalidationListenerContainer;
+
+    private StudyIndexSynchronizer studyIndexSynchronizer;
+
+    @BeforeEach
+    void setUp() {
+        studyIndexSynchronizer = new StudyIndexSynchronizer(studyRepository, studyKeywordSearchEngine, studyKeywordIndex,
+                studyFilterIndex, studySuggestIndex, stringRedisTemplate, cacheInvalidationListenerContainer, new ObjectMapper());
+    }
+
+    private Study study(Long id) {
+        Study study = new Study();
+        study.setId(id);
+        study.setTitle("뇌파 측정");
+        return study;
+    }
+
+    @Test
+    @DisplayName("변경된 공고는 이 서버 색인에 반영하고 다른 서버에 알린다")
+    void changed_applyAndPublish() {
+        Study study = study(1L);
+        given(studyRepository.findById(1L)).willReturn(Optional.of(study));
+
+        studyIndexSynchronizer.changed(1L);
+
+        then(studyKeywordSearchEngine).should().index(study);
+        then(studyFilterIndex).should().index(study);
+        then(studySuggestIndex).should().add(study);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        then(stringRedisTemplate).should().convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), message.capture());
+        assertTrue(message.getValue().contains("\"studyIndex\":1"));
+    }
+
+    @Test
+    @DisplayName("다른 서버의 알림을 받으면 DB 에서 다시 읽고, 삭제된 공고는 색인에서 뺀다")
+    void handle_fromOtherNode() {
+        given(studyRepository.findById(2L)).willReturn(Optional.empty());
+
+        studyIndexSynchronizer.handle("{\"studyIndex\":2,\"origin\":\"other-node\"}");
+
+        then(studyKeywordSearchEngine).should().remove(2L);
+        then(studyFilterIndex).should().remove(2L);
+        then(studySuggestIndex).should().remove(2L);
+    }
+
+    @Test
+    @DisplayName("자기가 보낸 알림과 다른 캐시 무효화 메시지는 무시한다")
+    void handle_ignoreOwnAndOtherMessages() {
+        given(studyRepository.findById(1L)).willReturn(Optional.of(study(1L)));
+        studyIndexSynchronizer.changed(1L);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        then(stringRedisTemplate).should().convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), message.capture());
+
+        studyIndexSynchronizer.handle(message.getValue());
+        studyIndexSynchronizer.handle("{\"cacheName\":\"StudyListPages\",\"keys\":[]}");
+
+        then(studyRepository).should(times(1)).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("재생성 중에 반영한 공고는 새 색인으로 교체된 뒤 다시 반영한다")
+    void rebuild_replaysChanges() {
+        Study study = study(3L);
+        given(studyRepository.findById(3L)).willReturn(Optional.of(study));
+        willAnswer(invocation -> {
+            // 필터 색인이 DB 를 읽는 동안 다른 서버의 알림 도착
+            studyIndexSynchronizer.handle("{\"studyIndex\":3,\"origin\":\"other-node\"}");
+            return 0;
+        }).given(studyFilterIndex).rebuild();
+
+        studyIndexSynchronizer.rebuild();
+
+        then(studyRepository).should(times(2)).findById(3L);
+        then(studyFilterIndex).should(times(2)).index(study);
+        then(studySuggestIndex).should().rebuild();
+        then(studyFilterIndex).should(never()).remove(anyLong());
+    }
+
+    @Test
+    @DisplayName("지원은 공고를 다시 읽지 않고 자동완성 가중치만 올리고 다른 서버에 알린다")
+    void applicantAdded() {
+        studyIndexSynchronizer.applicantAdded(4L);
+        studyIndexSynchronizer.handle("{\"studyApplicant\":4,\"origin\":\"other-node\"}");
+
+        then(studySuggestIndex).should(times(2)).addApplicants(4L, 1);
+        then(stringRedisTemplate).should().convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), contains("\"studyApplicant\":4"));
+        then(studyRepository).should(never()).findById(anyLong());
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyKeywordIndex Tests")
+class StudyKeywordIndexTest {
+
+    @Mock
+    private StudyRepository studyRepository;
+
+    private StudyKeywordIndex studyKeywordIndex;
+
+    @BeforeEach
+    void setUp() {
+        studyKeywordIndex = new StudyKeywordIndex(studyRepository);
+    }
+
+    private Study study(Long id, String title, String studyInfo, String description) {
+        Study study = new Study();
+        study.setId(id);
+        study.setTitle(title);
+        study.setStudyInfo(studyInfo);
+        study.setDescription(description);
+        return study;
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열로 검색하면 제목 일치가 본문 일치보다 앞에 온다")
+    void search_rankedByField() {
+        studyKeywordIndex.index(study(1L, "뇌파 측정", "오프라인", "인지 심리학 실험입니다"));
+        studyKeywordIndex.index(study(2L, "심리학 실험 참가자 모집", "온라인", "설문"));
+        studyKeywordIndex.index(study(3L, "시선 추적", "오프라인", "안구 운동"));
+
+        assertEquals(List.of(2L, 1L), studyKeywordIndex.search("심리학"));
+        assertEquals(List.of(2L, 1L), studyKeywordIndex.search("리학"));
+        assertTrue(studyKeywordIndex.search("fMRI").isEmpty());
+    }
+
+    @Test
+    @DisplayName("수정/삭제 시 기존 색인이 교체/제거된다")
+    void index_updateAndRemove() {
+        studyKeywordIndex.index(study(1L, "뇌파 측정", "오프라인", "설명"));
+        studyKeywordIndex.index(study(1L, "시선 추적", "오프라인", "설명"));
+
+        assertTrue(studyKeywordIndex.search("뇌파").isEmpty());
+        assertEquals(List.of(1L), studyKeywordIndex.search("추적"));
+
+        studyKeywordIndex.remove(1L);
+        assertTrue(studyKeywordIndex.search("추적").isEmpty());
+        assertEquals(0, studyKeywordIndex.size());
+    }
+
+    @Test
+    @DisplayName("커서 검색은 beforeId 보다 작은 id 를 최신순으로 limit 개 반환한다")
+    void search_withCursor() {
+        for (long id = 1; id <= 5; id++) {
+            studyKeywordIndex.index(study(id, "온라인 설문 " + id, "온라인", "설명"));
+        }
+
+        assertEquals(List.of(5L, 4L), studyKeywordIndex.search("설문", null, 2));
+        assertEquals(List.of(3L, 2L), studyKeywordIndex.search("설문", 4L, 2));
+    }
+
+    @Test
+    @DisplayName("rebuild 는 저장소의 모든 공고로 색인을 새로 만든다")
+    void rebuild() {
+        given(studyRepository.findAll(any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(study(7L, "수면 연구", "오프라인", "설명"))));
+
+        assertEquals(1, studyKeywordIndex.rebuild());
+        assertEquals(List.of(7L), studyKeywordIndex.search("수면"));
+    }
+
+    @Test
+    @DisplayName("gram 이 모두 있어도 원문에 키워드가 이어져 있지 않으면 결과에서 제외한다")
+    void search_verifiedAgainstText() {
+        studyKeywordIndex.index(study(1L, "심리 실험", "오프라인", "화학 물리학"));
+        studyKeywordIndex.index(study(2L, "인지 심리학", "오프라인", "설명"));
+        studyKeywordIndex.index(study(3L, "실험 참가", "온라인 설문", "설명"));
+
+        assertEquals(List.of(2L), studyKeywordIndex.search("심리학"));
+        assertEquals(List.of(3L), studyKeywordIndex.search("온라인 설문"));
+        assertTrue(studyKeywordIndex.search("설문 온라인").isEmpty());
+    }
+
+    @Test
+    @DisplayName("재색인 중에 들어온 작성/수정/삭제는 새 색인에 다시 적용된다")
+    void rebuild_replaysConcurrentMutations() {
+        given(studyRepository.findAll(any(Pageable.class))).willAnswer(invocation -> {
+            // 재색인이 DB 를 읽는 동안 다른 요청이 공고를 작성/수정/삭제
+            studyKeywordIndex.index(study(8L, "뇌파 측정", "오프라인", "설명"));
+            studyKeywordIndex.index(study(7L, "시선 추적", "오프라인", "설명"));
+            studyKeywordIndex.remove(9L);
+            return new PageImpl<>(List.of(
+                    study(7L, "수면 연구", "오프라인", "설명"),
+                    study(9L, "수면 설문", "온라인", "설명")));
+        });
+
+        assertEquals(2, studyKeywordIndex.rebuild());
+        assertEquals(List.of(8L), studyKeywordIndex.search("뇌파"));
+        assertEquals(List.of(7L), studyKeywordIndex.search("추적"));
+        assertTrue(studyKeywordIndex.search("수면").isEmpty());
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.dto.StudyCursor;
+import com.example.lablink.global.cache.TwoLevelCacheManager;
+import com.example.lablink.support.InProcessRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+// 공고 하나가 바뀌었을 때 그 공고가 들어있는 페이지와 해당 정렬의 버전만 바뀌는지 테스트용 Redis(InProcessRedis)로 확인
+@DisplayName("StudyListCacheInvalidator Tests")
+class StudyListCacheInvalidatorTest {
+    private static final String PAGE_PREFIX = StudyListService.CACHE_NAME + "::";
+    private static final String DEPENDENCY_PREFIX = StudyListService.CACHE_NAME + ":dep:";
+
+    private InProcessRedis redis;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private StudyListCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = new InProcessRedis();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(mock(CacheManager.class), redisTemplate, new ObjectMapper(),
+                Set.of(), 100, Duration.ofSeconds(30));
+        invalidator = new StudyListCacheInvalidator(redisTemplate, cacheManager);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    // StudyListService.getStudyPage 처럼 페이지를 캐싱하고 포함된 공고 id 를 기록
+    private String cachePage(String mode, int pageIndex, List<Long> studyIds) {
+        String cacheKey = "v" + invalidator.currentVersion(mode) + ":StudyListKey [" + mode + "," + pageIndex + "]";
+        redisTemplate.opsForValue().set(PAGE_PREFIX + cacheKey, "page");
+        invalidator.track(cacheKey, studyIds);
+        return cacheKey;
+    }
+
+    private boolean cached(String cacheKey) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(PAGE_PREFIX + cacheKey));
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    @Test
+    @DisplayName("공고 X 가 바뀌면 X 를 기록한 페이지와 해당 정렬의 버전만 바뀌고, 나머지 페이지는 그대로 읽힌다")
+    void updateStudy_onlyAffectedPages() {
+        String latestFirst = cachePage(StudyCursor.LATEST, 0, List.of(1L, 2L));
+        String latestSecond = cachePage(StudyCursor.LATEST, 1, List.of(3L, 4L));
+        String endingFirst = cachePage(StudyCursor.ENDING_SOON, 0, List.of(2L, 5L));
+        String popularFirst = cachePage(StudyCursor.POPULARITY, 0, List.of(6L, 7L));
+        String latestVersion = invalidator.currentVersion(StudyCursor.LATEST);
+        String popularVersion = invalidator.currentVersion(StudyCursor.POPULARITY);
+
+        // 2 번 공고의 모집 상태 변경 (StudyService.updateStudy)
+        TransactionSynchronizationManager.initSynchronization();
+        invalidator.evictPagesContaining(2L);
+        invalidator.invalidateOrder(StudyCursor.ENDING_SOON);
+
+        // 커밋 전에는 지우지 않는다
+        assertTrue(cached(latestFirst));
+        assertEquals("0.0", invalidator.currentVersion(StudyCursor.ENDING_SOON));
+
+        commit();
+
+        assertFalse(cached(latestFirst));
+        assertFalse(cached(endingFirst));
+        assertFalse(redisTemplate.hasKey(DEPENDENCY_PREFIX + 2));
+        assertEquals("0.1", invalidator.currentVersion(StudyCursor.ENDING_SOON));
+        // 2 번 공고가 없는 페이지와 다른 정렬은 같은 키로 그대로 읽힌다
+        assertTrue(cached(latestSecond));
+        assertTrue(cached(popularFirst));
+        assertEquals(latestVersion, invalidator.currentVersion(StudyCursor.LATEST));
+        assertEquals(popularVersion, invalidator.currentVersion(StudyCursor.POPULARITY));
+        assertEquals(Set.of(latestSecond), redisTemplate.opsForSet().members(DEPENDENCY_PREFIX + 3));
+        assertEquals(Set.of(latestFirst), redisTemplate.opsForSet().members(DEPENDENCY_PREFIX + 1));
+    }
+
+    @Test
+    @DisplayName("공고 작성/삭제는 전체 버전을 올려서 모든 정렬의 캐시 키가 바뀐다")
+    void invalidateAll() {
+        invalidator.invalidateOrder(StudyCursor.POPULARITY);
+        invalidator.invalidateAll();
+
+        assertEquals("1.0", invalidator.currentVersion(StudyCursor.LATEST));
+        assertEquals("1.1", invalidator.currentVersion(StudyCursor.POPULARITY));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.bookmark.service.BookmarkService;
+import com.example.lablink.domain.study.dto.StudyCursor;
+import com.example.lablink.domain.study.dto.StudyListDto;
+import com.example.lablink.domain.study.dto.StudySearchOption;
+import com.example.lablink.domain.study.dto.responseDto.StudyCursorResponseDto;
+import com.example.lablink.domain.study.repository.StudyKeywordSearchEngine;
+import com.example.lablink.domain.study.repository.StudyRepository;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudySearchService Tests")
+class StudySearchServiceTest {
+
+    @Mock
+    private StudyRepository studyRepository;
+
+    @Mock
+    private StudySearchQueryRepository studySearchQueryRepository;
+
+    @Mock
+    private StudyKeywordSearchEngine studyKeywordSearchEngine;
+
+    @Mock
+    private StudyListService studyListService;
+
+    @Mock
+    private StudyFacetService studyFacetService;
+
+    @Mock
+    private StudySuggestIndex studySuggestIndex;
+
+    @Mock
+    private SearchKeywordWriter searchKeywordWriter;
+
+    @Mock
+    private TrendingKeywordService trendingKeywordService;
+
+    @Mock
+    private RecentSearchStore recentSearchStore;
+
+    @Mock
+    private StudyGeoIndex studyGeoIndex;
+
+    @Mock
+    private StudyCardCache studyCardCache;
+
+    @Mock
+    private BookmarkService bookmarkService;
+
+    private StudySearchService studySearchService;
+
+    @BeforeEach
+    void setUp() {
+        studySearchService = new StudySearchService(studyRepository, studySearchQueryRepository, studyKeywordSearchEngine, studyListService,
+                studyFacetService, studySuggestIndex, searchKeywordWriter, trendingKeywordService, recentSearchStore, studyGeoIndex,
+                studyCardCache, bookmarkService);
+    }
+
+    private StudyListDto study(Long id) {
+        return new StudyListDto(id, "title", null, null, "서울", 0, null, "company", 0, null, null);
+    }
+
+    @Test
+    @DisplayName("키워드 커서 조회에서 색인 이후 삭제된 공고가 빠져도 다음 페이지가 있으면 이어서 읽는다")
+    void getStudiesByCursor_keywordSkipsDeleted() {
+        StudySearchOption searchOption = new StudySearchOption();
+        searchOption.setKeyword("뇌파");
+        given(studyKeywordSearchEngine.search("뇌파", (Long) null, 3)).willReturn(List.of(9L, 7L, 4L));
+        // 7 번 공고는 삭제됨
+        given(studySearchQueryRepository.findStudyListByIds(List.of(9L, 7L))).willReturn(List.of(study(9L)));
+
+        StudyCursorResponseDto response = studySearchService.getStudiesByCursor(searchOption, "", 2, null, false, null, null);
+
+        assertEquals(1, response.getStudies().size());
+        assertTrue(response.isHasNext());
+        assertEquals(StudyCursor.ofKeyword(7L).encode(), response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("키워드 검색 결과가 페이지 크기 이하면 마지막 페이지")
+    void getStudiesByCursor_keywordLastPage() {
+        StudySearchOption searchOption = new StudySearchOption();
+        searchOption.setKeyword("뇌파");
+        given(studyKeywordSearchEngine.search("뇌파", 7L, 3)).willReturn(List.of(4L));
+        given(studySearchQueryRepository.findStudyListByIds(List.of(4L))).willReturn(List.of(study(4L)));
+
+        StudyCursorResponseDto response = studySearchService.getStudiesByCursor(searchOption, StudyCursor.ofKeyword(7L).encode(), 2, null, false, null, null);
+
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+}
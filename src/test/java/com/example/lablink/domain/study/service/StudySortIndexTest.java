@@ -0,0 +1,110 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudySortIndex Tests")
+class StudySortIndexTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StudySearchQueryRepository studySearchQueryRepository;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private StudySortIndex studySortIndex;
+
+    @BeforeEach
+    void setUp() {
+        studySortIndex = new StudySortIndex(stringRedisTemplate, studySearchQueryRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("지원자 수 증가는 커밋된 뒤 재생성 중 변경 기록과 함께 반영한다")
+    @SuppressWarnings("unchecked")
+    void incrementApplicantCount_afterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        studySortIndex.incrementApplicantCount(7L);
+
+        then(stringRedisTemplate).should(never()).execute(any(RedisScript.class), anyList(), any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        then(stringRedisTemplate).should().execute(any(RedisScript.class),
+                eq(List.of("study:sort:rebuild-lock", "study:sort:changed", "study:sort:popularity")),
+                eq(StudySortIndex.member(7L)));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 재생성 중이면 재생성하지 않는다")
+    void rebuild_skipWhenLocked() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("study:sort:rebuild-lock"), anyString(), any(Duration.class))).willReturn(false);
+
+        studySortIndex.rebuild();
+
+        then(studySearchQueryRepository).should(never()).findStudyListAfter(any(), anyInt());
+        then(stringRedisTemplate).should(never()).delete("study:sort:rebuild-lock");
+    }
+
+    @Test
+    @DisplayName("재생성 중에 바뀐 공고는 교체 후 DB 에서 다시 읽어 반영하고 락을 푼다")
+    void rebuild_replaysChanges() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("study:sort:rebuild-lock"), anyString(), any(Duration.class))).willReturn(true);
+        given(studySearchQueryRepository.findStudyListAfter(null, 1000)).willReturn(List.of());
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members("study:sort:changed")).willReturn(Set.of(StudySortIndex.member(5L)));
+        given(studySearchQueryRepository.findStudyListByIds(List.of(5L))).willReturn(List.of());
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        studySortIndex.rebuild();
+
+        then(studySearchQueryRepository).should().findStudyListByIds(List.of(5L));
+        then(stringRedisTemplate).should(times(2)).delete("study:sort:changed");
+        then(stringRedisTemplate).should().delete("study:sort:rebuild-lock");
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.entity.Study;
+import com.example.lablink.domain.study.repository.StudySearchQueryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudySuggestIndex Tests")
+class StudySuggestIndexTest {
+
+    @Mock
+    private StudySearchQueryRepository studySearchQueryRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private StudySuggestIndex studySuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        studySuggestIndex = new StudySuggestIndex(studySearchQueryRepository, redisTemplate);
+    }
+
+    private Study study(Long id, String title, int applicantCount) {
+        Study study = new Study();
+        study.setId(id);
+        study.setTitle(title);
+        study.setCurrentApplicantCount(applicantCount);
+        return study;
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 제목을 지원자 수가 많은 순으로 반환한다")
+    void suggest_byWeight() {
+        studySuggestIndex.add(study(1L, "뇌파 측정 실험", 0));
+        studySuggestIndex.add(study(2L, "뇌파 수면 연구", 5));
+        studySuggestIndex.add(study(3L, "뇌 영상 촬영", 2));
+        studySuggestIndex.add(study(4L, "시선 추적", 100));
+
+        assertEquals(List.of("뇌파 수면 연구", "뇌 영상 촬영", "뇌파 측정 실험"), studySuggestIndex.suggest("뇌", 10));
+        assertEquals(List.of("뇌파 수면 연구", "뇌파 측정 실험"), studySuggestIndex.suggest("뇌파", 10));
+        // 간선 중간에서 끝나는 접두어
+        assertEquals(List.of("뇌파 측정 실험"), studySuggestIndex.suggest("뇌파 측", 10));
+        assertEquals(List.of("뇌파 수면 연구"), studySuggestIndex.suggest("뇌", 1));
+        assertTrue(studySuggestIndex.suggest("뇌파 측량", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("공고를 삭제하면 후보에서 빠지고, 같은 제목이 남아 있으면 가중치만 줄어든다")
+    void remove() {
+        studySuggestIndex.add(study(1L, "온라인 설문", 0));
+        studySuggestIndex.add(study(2L, "온라인 설문", 0));
+        studySuggestIndex.add(study(3L, "온라인 게임 연구", 0));
+        assertEquals(List.of("온라인 설문", "온라인 게임 연구"), studySuggestIndex.suggest("온라인", 10));
+
+        studySuggestIndex.remove(1L);
+        studySuggestIndex.remove(3L);
+        assertEquals(List.of("온라인 설문"), studySuggestIndex.suggest("온라인", 10));
+
+        studySuggestIndex.remove(2L);
+        assertTrue(studySuggestIndex.suggest("온", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("인기 검색어 점수가 제목 가중치에 더해진다")
+    void reloadKeywords() {
+        studySuggestIndex.add(study(1L, "심리학 실험", 3));
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeWithScores(eq("ranking"), anyLong(), anyLong()))
+                .willReturn(Set.of(new DefaultTypedTuple<>("심리", 10.0), new DefaultTypedTuple<>("심리학 실험", 1.0)));
+
+        studySuggestIndex.reloadKeywords();
+        assertEquals(List.of("심리", "심리학 실험"), studySuggestIndex.suggest("심리", 10));
+
+        given(zSetOperations.reverseRangeWithScores(eq("ranking"), anyLong(), anyLong()))
+                .willReturn(Set.of(new DefaultTypedTuple<>("심리학 실험", 1.0)));
+        studySuggestIndex.reloadKeywords();
+        assertEquals(List.of("심리학 실험"), studySuggestIndex.suggest("심리", 10));
+    }
+
+    @Test
+    @DisplayName("지원이 들어오면 제목 가중치가 올라 순서가 바뀐다")
+    void addApplicants() {
+        studySuggestIndex.add(study(1L, "뇌파 측정 실험", 1));
+        studySuggestIndex.add(study(2L, "뇌파 수면 연구", 2));
+        assertEquals(List.of("뇌파 수면 연구", "뇌파 측정 실험"), studySuggestIndex.suggest("뇌파", 10));
+
+        studySuggestIndex.addApplicants(1L, 1);
+        studySuggestIndex.addApplicants(1L, 1);
+        assertEquals(List.of("뇌파 측정 실험", "뇌파 수면 연구"), studySuggestIndex.suggest("뇌파", 10));
+
+        // 삭제할 때도 늘어난 가중치만큼 빠진다
+        studySuggestIndex.remove(1L);
+        assertEquals(List.of("뇌파 수면 연구"), studySuggestIndex.suggest("뇌파", 10));
+    }
+
+    @Test
+    @DisplayName("size 가 0 이하면 1개, MAX_SIZE 를 넘으면 MAX_SIZE 개까지 반환한다")
+    void suggest_sizeBounds() {
+        for (long id = 1; id <= StudySuggestIndex.MAX_SIZE + 2; id++) {
+            studySuggestIndex.add(study(id, "설문 " + id, 0));
+        }
+
+        assertEquals(1, studySuggestIndex.suggest("설문", -1).size());
+        assertEquals(1, studySuggestIndex.suggest("설문", 0).size());
+        assertEquals(StudySuggestIndex.MAX_SIZE, studySuggestIndex.suggest("설문", 100).size());
+    }
+}
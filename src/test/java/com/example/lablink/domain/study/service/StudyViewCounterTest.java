@@ -0,0 +1,72 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.domain.study.repository.StudyViewCountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudyViewCounter Tests")
+class StudyViewCounterTest {
+    @InjectMocks
+    private StudyViewCounter studyViewCounter;
+
+    @Mock
+    private StudyViewCountRepository studyViewCountRepository;
+
+    @Mock
+    private StudySortIndex studySortIndex;
+
+    @Test
+    @DisplayName("동시에 들어온 조회수를 공고별로 모아서 한 번에 반영한다")
+    void flush() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            long studyId = i % 2 == 0 ? 1L : 2L;
+            executor.execute(() -> studyViewCounter.increment(studyId));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        studyViewCounter.flush();
+
+        Map<Long, Long> expected = Map.of(1L, 5_000L, 2L, 5_000L);
+        verify(studyViewCountRepository, times(1)).addViewCounts(expected);
+        verify(studySortIndex, times(1)).incrementHotScores(expected);
+        assertTrue(studyViewCounter.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("조회가 없으면 DB 에 쓰지 않는다")
+    void flush_empty() {
+        studyViewCounter.flush();
+
+        verifyNoInteractions(studyViewCountRepository, studySortIndex);
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 다음 flush 에 다시 반영한다")
+    void flush_retry() {
+        studyViewCounter.increment(1L);
+        willThrow(new QueryTimeoutException("timeout")).given(studyViewCountRepository).addViewCounts(anyMap());
+
+        studyViewCounter.flush();
+
+        verify(studySortIndex, never()).incrementHotScores(anyMap());
+        assertEquals(Map.of(1L, 1L), studyViewCounter.drain());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.lablink.domain.study.service;
+
+import com.example.lablink.global.exception.GlobalException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TrendingKeywordService Tests")
+class TrendingKeywordServiceTest {
+
+    @Test
+    @DisplayName("최근 1시간은 이전 bucket 을 지나간 비율만큼 덜 반영한다")
+    void weights_hour() {
+        long now = Duration.ofHours(100).plusMinutes(15).toMillis();
+        double[] weights = TrendingKeywordService.weights(TrendingKeywordService.HOUR, now);
+
+        assertEquals(2, weights.length);
+        assertEquals(1.0, weights[0]);
+        assertEquals(0.75, weights[1], 1e-9);
+    }
+
+    @Test
+    @DisplayName("24시간 / 7일은 반감기마다 가중치가 절반이 된다")
+    void weights_decay() {
+        double[] day = TrendingKeywordService.weights(TrendingKeywordService.DAY, 0);
+        double[] week = TrendingKeywordService.weights(TrendingKeywordService.WEEK, 0);
+
+        assertEquals(24, day.length);
+        assertEquals(0.5, day[6], 1e-9);
+        assertEquals(168, week.length);
+        assertEquals(0.25, week[48], 1e-9);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 기간이면 예외")
+    void weights_invalidWindow() {
+        assertThrows(GlobalException.class, () -> TrendingKeywordService.weights("month", 0));
+    }
+
+    @Test
+    @DisplayName("같은 1시간 안의 검색은 같은 bucket 에 쌓인다")
+    void bucketKey() {
+        long hour = Duration.ofHours(100).toMillis();
+        assertEquals(TrendingKeywordService.bucketKey(hour), TrendingKeywordService.bucketKey(hour + Duration.ofMinutes(59).toMillis()));
+        assertNotEquals(TrendingKeywordService.bucketKey(hour), TrendingKeywordService.bucketKey(hour + Duration.ofHours(1).toMillis()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.lablink.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCacheManager Version Tests")
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private CacheManager redisCacheManager;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new TwoLevelCacheManager(redisCacheManager, stringRedisTemplate, new ObjectMapper(),
+                Set.of(), 100, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("버전은 처음 한 번만 Redis 에서 읽고 이후에는 메모리에서 읽는다")
+    void getVersions_readOnce() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("v", "v:latest"))).willReturn(Arrays.asList("3", null));
+
+        assertEquals(List.of(3L, 0L), cacheManager.getVersions(List.of("v", "v:latest")));
+        assertEquals(List.of(3L, 0L), cacheManager.getVersions(List.of("v", "v:latest")));
+
+        then(valueOperations).should(times(1)).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 올린 버전은 전파 메시지로 반영하고 Redis 를 읽지 않는다")
+    void handleInvalidation_version() {
+        cacheManager.handleInvalidation("{\"versionKey\":\"v\",\"version\":5}");
+        cacheManager.handleInvalidation("{\"versionKey\":\"v:latest\",\"version\":2}");
+        // 늦게 도착한 이전 버전은 무시
+        cacheManager.handleInvalidation("{\"versionKey\":\"v\",\"version\":4}");
+
+        assertEquals(List.of(5L, 2L), cacheManager.getVersions(List.of("v", "v:latest")));
+        then(stringRedisTemplate).should(never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("버전을 올리면 메모리에 반영하고 다른 서버에 알린다")
+    void incrementVersion() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.increment("v")).willReturn(7L);
+
+        assertEquals(7L, cacheManager.incrementVersion("v"));
+        assertEquals(List.of(7L), cacheManager.getVersions(List.of("v")));
+
+        then(stringRedisTemplate).should().convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), contains("\"version\":7"));
+        then(valueOperations).should(never()).multiGet(anyList());
+    }
+
+    @Test
+    @DisplayName("재연결 후에는 버전을 Redis 에서 다시 읽는다")
+    void resetVersions() {
+        cacheManager.handleInvalidation("{\"versionKey\":\"v\",\"version\":5}");
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("v"))).willReturn(List.of("6"));
+
+        cacheManager.resetVersions();
+
+        assertEquals(List.of(6L), cacheManager.getVersions(List.of("v")));
+        then(stringRedisTemplate).should(never()).convertAndSend(anyString(), anyString());
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.lablink.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest {
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private ConcurrentMapCache redisCache;
+    private TwoLevelCache twoLevelCache;
+
+    @BeforeEach
+    void setUp() {
+        localCache = Caffeine.newBuilder().build();
+        redisCache = new ConcurrentMapCache("StudyListPages");
+        twoLevelCache = new TwoLevelCache("StudyListPages", localCache, redisCache, cacheManager);
+    }
+
+    @Test
+    @DisplayName("L1 에 없으면 L2 에서 읽고 L1 에 채워 넣는다")
+    void get_readThrough() {
+        redisCache.put("page-0", "value");
+
+        assertEquals("value", twoLevelCache.get("page-0").get());
+        assertEquals("value", localCache.getIfPresent("page-0"));
+    }
+
+    @Test
+    @DisplayName("L1 에 있으면 L2 를 조회하지 않는다")
+    void get_localHit() {
+        localCache.put("page-0", "local");
+        redisCache.put("page-0", "redis");
+
+        assertEquals("local", twoLevelCache.get("page-0", String.class));
+    }
+
+    @Test
+    @DisplayName("evict 는 L1, L2 에서 모두 지우고 다른 서버로 전파한다")
+    void evict() {
+        twoLevelCache.put("page-0", "value");
+
+        twoLevelCache.evict("page-0");
+
+        assertNull(localCache.getIfPresent("page-0"));
+        assertNull(redisCache.get("page-0"));
+        then(cacheManager).should().publishEviction("StudyListPages", List.of("page-0"));
+    }
+
+    @Test
+    @DisplayName("전파받은 삭제는 L1 에서만 지운다")
+    void evictLocal() {
+        twoLevelCache.put("page-0", "value");
+        twoLevelCache.put("page-1", "value");
+
+        twoLevelCache.evictLocal(List.of("page-0"));
+        assertNull(localCache.getIfPresent("page-0"));
+        assertNotNull(localCache.getIfPresent("page-1"));
+        assertNotNull(redisCache.get("page-0"));
+
+        twoLevelCache.evictLocal(List.of());
+        assertNull(localCache.getIfPresent("page-1"));
+    }
+}
@@ -6,10 +6,18 @@ import com.example.lablink.domain.application.service.ApplicationCompanyService;
 import com.example.lablink.domain.bookmark.entity.Bookmark;
 import com.example.lablink.domain.bookmark.repository.BookmarkRepository;
 import com.example.lablink.domain.bookmark.service.BookmarkService;
+import com.example.lablink.domain.chat.dto.ChatInboxDto;
+import com.example.lablink.domain.chat.dto.ChatMessageDto;
+import com.example.lablink.domain.chat.dto.ChatMessageResponseDto;
+import com.example.lablink.domain.chat.dto.MyChatRoomResponseDto;
+import com.example.lablink.domain.chat.dto.PendingChatMessage;
 import com.example.lablink.domain.chat.entity.ChatMessage;
 import com.example.lablink.domain.chat.entity.ChatRoom;
 import com.example.lablink.domain.chat.repository.ChatMessageRepository;
 import com.example.lablink.domain.chat.repository.ChatRoomRepository;
+import com.example.lablink.domain.chat.security.ChatPrincipal;
+import com.example.lablink.domain.chat.service.ChatMessageRelay;
+import com.example.lablink.domain.chat.service.ChatMessageWriter;
 import com.example.lablink.domain.chat.service.ChatService;
 import com.example.lablink.domain.company.entity.Company;
 import com.example.lablink.domain.company.security.CompanyDetailsImpl;
@@ -26,9 +34,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -94,7 +105,7 @@ class N1QueryFixTest {
     }
 
     @Nested
-    @DisplayName("ChatService — 일괄 마지막 메시지 조회")
+    @DisplayName("ChatService — 채팅방 목록 / 메시지 전송 조회 횟수")
     class ChatServiceTest {
         @InjectMocks
         private ChatService chatService;
@@ -105,25 +116,65 @@ class N1QueryFixTest {
         @Mock
         private GetStudyService getStudyService;
         @Mock
-        private org.springframework.messaging.simp.SimpMessageSendingOperations template;
+        private ChatMessageWriter chatMessageWriter;
         @Mock
-        private com.example.lablink.domain.user.service.UserService userService;
+        private ChatMessageRelay chatMessageRelay;
 
         @Test
-        @DisplayName("findCompanyMessageHistory: findLastMessageByRooms 1회 호출, findLastMessageByRoom 0회")
-        void findCompanyMessageHistory_batchQuery() {
+        @DisplayName("saveMessage: 사용자 조회 없이 세션 사용자로 저장, 채팅방 조회는 세션에서 처음 한 번만")
+        void saveMessage_noUserLookup() {
+            User user = new User();
+            user.setId(1L);
+            ChatRoom room = mock(ChatRoom.class);
+            given(room.getId()).willReturn(10L);
+            given(room.getUser()).willReturn(user);
+            given(chatRoomRepository.findByRoomId("room1")).willReturn(Optional.of(room));
+            given(chatMessageWriter.write(eq(10L), eq(1L), anyString(), eq(true)))
+                    .willAnswer(invocation -> new PendingChatMessage(100L, 10L, 1L, invocation.getArgument(2), java.time.LocalDateTime.now(), true));
+            ChatPrincipal sender = new ChatPrincipal(1L, "nickname", "USER", System.currentTimeMillis() + 60_000);
+
+            chatService.saveMessage(new ChatMessageDto("room1", null, "안녕하세요"), sender);
+            chatService.saveMessage(new ChatMessageDto("room1", null, "반갑습니다"), sender);
+
+            verify(chatRoomRepository, times(1)).findByRoomId("room1");
+            verify(chatMessageWriter, times(2)).write(eq(10L), eq(1L), anyString(), eq(true));
+            verify(chatMessageRelay, times(2)).publish(any(ChatMessageResponseDto.class));
+        }
+
+        @Test
+        @DisplayName("findCompanyMessageHistory: 채팅방 목록은 findCompanyInbox 1회, 메시지는 최신 페이지만")
+        void findCompanyMessageHistory_inboxQuery() {
             Company company = new Company();
             ChatRoom room = mock(ChatRoom.class);
 
+            given(chatRoomRepository.findCompanyInbox(company.getId())).willReturn(Collections.emptyList());
             given(chatRoomRepository.findByRoomId("room1")).willReturn(Optional.of(room));
-            given(chatMessageRepository.findAllByRoom(room)).willReturn(Collections.emptyList());
-            given(chatRoomRepository.findAllChatRoomByCompany(company)).willReturn(Collections.emptyList());
-            given(chatMessageRepository.findLastMessageByRooms(anyList())).willReturn(Collections.emptyList());
+            given(chatMessageRepository.findRecentMessages(eq(room), any(Pageable.class))).willReturn(Collections.emptyList());
 
             chatService.findCompanyMessageHistory("room1", company);
 
-            verify(chatMessageRepository, times(1)).findLastMessageByRooms(anyList());
-            verify(chatMessageRepository, never()).findLastMessageByRoom(any(ChatRoom.class));
+            verify(chatRoomRepository, times(1)).findCompanyInbox(company.getId());
+            verify(chatMessageRepository, times(1)).findRecentMessages(eq(room), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("findUserMessageHistory: roomId 가 없으면 가장 최근에 대화한 방을 연다")
+        void findUserMessageHistory_latestRoom() {
+            User user = new User();
+            ChatRoom room = mock(ChatRoom.class);
+            List<ChatInboxDto> inbox = List.of(
+                    new ChatInboxDto("recent", "company1", "logo", "hi", java.time.LocalDateTime.now(), 2),
+                    new ChatInboxDto("old", "company2", "logo", "bye", java.time.LocalDateTime.now().minusDays(1), 0));
+
+            given(chatRoomRepository.findUserInbox(user.getId())).willReturn(inbox);
+            given(chatRoomRepository.findByRoomId("recent")).willReturn(Optional.of(room));
+            given(chatMessageRepository.findRecentMessages(eq(room), any(Pageable.class))).willReturn(Collections.emptyList());
+
+            MyChatRoomResponseDto response = chatService.findUserMessageHistory(null, user);
+
+            assertEquals(2, response.getRooms().size());
+            assertTrue(response.getRooms().get(0).isTarget());
+            assertEquals(0, response.getRooms().get(0).getUnreadCount());
         }
     }
 }
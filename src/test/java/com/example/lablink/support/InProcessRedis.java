@@ -0,0 +1,668 @@
+package com.example.lablink.support;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+// 테스트용 Redis (pub/sub + 문자열 / SET / ZSET / 만료 명령 일부 + Java 로 등록한 스크립트, RESP2)
+// 외부 Redis 없이 여러 서버(애플리케이션 컨텍스트)가 pub/sub 으로 주고받는 흐름이나 키 구조를 확인할 때 사용
+// 데이터 명령은 연결과 관계없이 하나의 락으로 순서대로 처리한다
+// HELLO 는 지원하지 않으므로 Lettuce 는 RESP2 로 연결한다
+public class InProcessRedis implements AutoCloseable {
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "in-process-redis");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+    // key -> String, Set<String>(SET) 또는 Map<String, Double>(ZSET)
+    private final Map<String, Object> data = new HashMap<>();
+    // key -> 만료 시각 (epoch millis)
+    private final Map<String, Long> expireAt = new HashMap<>();
+    // 명령 이름 -> 받은 횟수
+    private final Map<String, AtomicLong> commandCounts = new ConcurrentHashMap<>();
+    // Lua 스크립트 원문의 일부 -> 같은 동작의 Java 구현 (keys, args) -> 결과 (List<String> 또는 Long)
+    private final Map<String, BiFunction<List<String>, List<String>, Object>> scripts = new ConcurrentHashMap<>();
+    // pause 중에는 데이터 명령을 resume 까지 붙잡아 둔다 (Redis 가 느릴 때)
+    private volatile CountDownLatch resumed = new CountDownLatch(0);
+
+    public InProcessRedis() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::accept);
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    // channel 을 구독 중인 연결 수 (패턴 구독 제외)
+    public int subscribers(String channel) {
+        return (int) clients.stream().filter(client -> client.channels.contains(channel)).count();
+    }
+
+    // 지금까지 받은 name 명령 수 (ex. "ZINCRBY")
+    public long commandCount(String name) {
+        AtomicLong count = commandCounts.get(name);
+        return count == null ? 0 : count.get();
+    }
+
+    // Lua 는 실행하지 않으므로 EVAL 로 보낼 스크립트의 동작을 Java 로 등록한다 (데이터 락 안에서 실행되므로 스크립트처럼 한 번에 처리됨)
+    // 원문에 fragment 가 들어있는 스크립트에 적용되고, EVALSHA 는 NOSCRIPT 로 응답해서 클라이언트가 원문으로 EVAL 을 다시 보내게 한다
+    public void script(String fragment, BiFunction<List<String>, List<String>, Object> function) {
+        scripts.put(fragment, function);
+    }
+
+    // 스크립트 구현용 : EXISTS
+    public boolean exists(String key) {
+        synchronized (data) {
+            return get(key) != null;
+        }
+    }
+
+    // 스크립트 구현용 : SADD
+    public void sadd(String key, String member) {
+        synchronized (data) {
+            set(key, true).add(member);
+        }
+    }
+
+    // 스크립트 구현용 : ZINCRBY
+    public double zincrby(String key, double increment, String member) {
+        synchronized (data) {
+            return zset(key, true).merge(member, increment, Double::sum);
+        }
+    }
+
+    // 스크립트 구현용 : 점수가 max 이하인 멤버를 점수 순으로 최대 limit 개
+    public List<String> zrangeByScore(String key, double max, int limit) {
+        synchronized (data) {
+            Map<String, Double> zset = zset(key, false);
+            List<String> members = new ArrayList<>();
+            if (zset == null) {
+                return members;
+            }
+            for (Map.Entry<String, Double> entry : sorted(zset)) {
+                if (entry.getValue() > max || members.size() == limit) break;
+                members.add(entry.getKey());
+            }
+            return members;
+        }
+    }
+
+    // 스크립트 구현용 : ZREM
+    public void zrem(String key, List<String> members) {
+        synchronized (data) {
+            Map<String, Double> zset = zset(key, false);
+            if (zset == null) {
+                return;
+            }
+            members.forEach(zset::remove);
+            if (zset.isEmpty()) remove(key);
+        }
+    }
+
+    public void pause() {
+        resumed = new CountDownLatch(1);
+    }
+
+    public void resume() {
+        resumed.countDown();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Client client : clients) {
+            client.socket.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Client client = new Client(serverSocket.accept());
+                clients.add(client);
+                executor.execute(client::run);
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private int publish(String channel, String message) {
+        int receivers = 0;
+        for (Client client : clients) {
+            if (client.channels.contains(channel)) {
+                client.write(List.of("message", channel, message));
+                receivers++;
+            }
+            for (String pattern : client.patterns) {
+                if (glob(pattern).matcher(channel).matches()) {
+                    client.write(List.of("pmessage", pattern, channel, message));
+                    receivers++;
+                }
+            }
+        }
+        return receivers;
+    }
+
+    // 만료된 키는 읽을 때 지운다
+    private Object get(String key) {
+        Long expire = expireAt.get(key);
+        if (expire != null && expire <= System.currentTimeMillis()) {
+            data.remove(key);
+            expireAt.remove(key);
+        }
+        return data.get(key);
+    }
+
+    private boolean remove(String key) {
+        boolean existed = get(key) != null;
+        data.remove(key);
+        expireAt.remove(key);
+        return existed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> set(String key, boolean create) {
+        Object value = get(key);
+        if (value == null && create) {
+            value = new HashSet<String>();
+            data.put(key, value);
+        }
+        return (Set<String>) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Double> zset(String key, boolean create) {
+        Object value = get(key);
+        if (value == null && create) {
+            value = new HashMap<String, Double>();
+            data.put(key, value);
+        }
+        return (Map<String, Double>) value;
+    }
+
+    // 점수 오름차순, 같으면 member 사전순
+    private static List<Map.Entry<String, Double>> sorted(Map<String, Double> zset) {
+        List<Map.Entry<String, Double>> entries = new ArrayList<>(zset.entrySet());
+        entries.sort(Map.Entry.<String, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+        return entries;
+    }
+
+    // 음수 인덱스는 뒤에서부터, 결과는 [from, to) (범위가 없으면 from >= to)
+    private static int[] range(int size, long start, long stop) {
+        long from = start < 0 ? Math.max(size + start, 0) : start;
+        long to = (stop < 0 ? size + stop : Math.min(stop, size - 1)) + 1;
+        return new int[]{(int) Math.min(from, size), (int) Math.max(to, 0)};
+    }
+
+    private static String score(double score) {
+        return score == Math.rint(score) && !Double.isInfinite(score) ? String.valueOf((long) score) : String.valueOf(score);
+    }
+
+    private static Pattern glob(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            if (c == '*') regex.append(".*");
+            else if (c == '?') regex.append('.');
+            else regex.append(Pattern.quote(String.valueOf(c)));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private class Client {
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+        private final Set<String> patterns = ConcurrentHashMap.newKeySet();
+
+        private Client(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        private void run() {
+            try {
+                List<String> command;
+                while ((command = readCommand()) != null) {
+                    if (!handle(command)) {
+                        break;
+                    }
+                }
+            } catch (IOException ignored) {
+                // 연결 종료
+            } finally {
+                clients.remove(this);
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                    // 이미 닫힘
+                }
+            }
+        }
+
+        private boolean handle(List<String> command) {
+            String name = command.get(0).toUpperCase(Locale.ROOT);
+            List<String> args = command.subList(1, command.size());
+            commandCounts.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+            switch (name) {
+                case "PING":
+                    if (channels.isEmpty() && patterns.isEmpty()) {
+                        writeRaw("+PONG\r\n");
+                    } else {
+                        write(List.of("pong", args.isEmpty() ? "" : args.get(0)));
+                    }
+                    return true;
+                case "PUBLISH":
+                    writeRaw(":" + publish(args.get(0), args.get(1)) + "\r\n");
+                    return true;
+                case "SUBSCRIBE":
+                    for (String channel : args) {
+                        channels.add(channel);
+                        writeSubscription("subscribe", channel);
+                    }
+                    return true;
+                case "PSUBSCRIBE":
+                    for (String pattern : args) {
+                        patterns.add(pattern);
+                        writeSubscription("psubscribe", pattern);
+                    }
+                    return true;
+                case "UNSUBSCRIBE":
+                    for (String channel : args.isEmpty() ? new ArrayList<>(channels) : args) {
+                        channels.remove(channel);
+                        writeSubscription("unsubscribe", channel);
+                    }
+                    return true;
+                case "PUNSUBSCRIBE":
+                    for (String pattern : args.isEmpty() ? new ArrayList<>(patterns) : args) {
+                        patterns.remove(pattern);
+                        writeSubscription("punsubscribe", pattern);
+                    }
+                    return true;
+                case "CLIENT":
+                case "SELECT":
+                    writeRaw("+OK\r\n");
+                    return true;
+                case "QUIT":
+                    writeRaw("+OK\r\n");
+                    return false;
+                default:
+                    // 연결 시 보내는 HELLO 는 붙잡지 않는다
+                    if (!name.equals("HELLO")) {
+                        awaitResume();
+                    }
+                    synchronized (data) {
+                        handleData(name, args);
+                    }
+                    return true;
+            }
+        }
+
+        private void handleData(String name, List<String> args) {
+            switch (name) {
+                case "GET": {
+                    Object value = get(args.get(0));
+                    writeBulkOrNull(value instanceof String ? (String) value : null);
+                    return;
+                }
+                case "SET": {
+                    String key = args.get(0);
+                    boolean nx = false;
+                    long ttlMillis = -1;
+                    for (int i = 2; i < args.size(); i++) {
+                        String option = args.get(i).toUpperCase(Locale.ROOT);
+                        if (option.equals("NX")) nx = true;
+                        else if (option.equals("EX")) ttlMillis = Long.parseLong(args.get(++i)) * 1000;
+                        else if (option.equals("PX")) ttlMillis = Long.parseLong(args.get(++i));
+                    }
+                    if (nx && get(key) != null) {
+                        writeRaw("$-1\r\n");
+                        return;
+                    }
+                    remove(key);
+                    data.put(key, args.get(1));
+                    if (ttlMillis >= 0) expireAt.put(key, System.currentTimeMillis() + ttlMillis);
+                    writeRaw("+OK\r\n");
+                    return;
+                }
+                case "INCR": {
+                    Object value = get(args.get(0));
+                    long next = (value instanceof String ? Long.parseLong((String) value) : 0) + 1;
+                    data.put(args.get(0), String.valueOf(next));
+                    writeInteger(next);
+                    return;
+                }
+                case "DEL":
+                case "UNLINK":
+                    writeInteger(args.stream().filter(InProcessRedis.this::remove).count());
+                    return;
+                case "EXISTS":
+                    writeInteger(args.stream().filter(key -> get(key) != null).count());
+                    return;
+                case "TYPE": {
+                    Object value = get(args.get(0));
+                    writeRaw("+" + (value == null ? "none" : value instanceof String ? "string" : value instanceof Set ? "set" : "zset") + "\r\n");
+                    return;
+                }
+                case "EXPIRE":
+                case "PEXPIRE": {
+                    if (get(args.get(0)) == null) {
+                        writeInteger(0);
+                        return;
+                    }
+                    long amount = Long.parseLong(args.get(1));
+                    expireAt.put(args.get(0), System.currentTimeMillis() + (name.equals("EXPIRE") ? amount * 1000 : amount));
+                    writeInteger(1);
+                    return;
+                }
+                case "TTL":
+                case "PTTL": {
+                    if (get(args.get(0)) == null) {
+                        writeInteger(-2);
+                        return;
+                    }
+                    Long expire = expireAt.get(args.get(0));
+                    long millis = expire == null ? -1 : expire - System.currentTimeMillis();
+                    writeInteger(expire == null || name.equals("PTTL") ? millis : millis / 1000);
+                    return;
+                }
+                case "SCAN": {
+                    // 한 번에 전체 키를 돌려준다 (cursor 0)
+                    Pattern match = null;
+                    for (int i = 1; i < args.size(); i++) {
+                        if (args.get(i).equalsIgnoreCase("MATCH")) match = glob(args.get(++i));
+                    }
+                    List<String> keys = new ArrayList<>();
+                    for (String key : new ArrayList<>(data.keySet())) {
+                        if (get(key) != null && (match == null || match.matcher(key).matches())) keys.add(key);
+                    }
+                    synchronized (out) {
+                        try {
+                            writeBulkArrayHeader(2);
+                            writeBulk("0");
+                            writeBulkArrayHeader(keys.size());
+                            for (String key : keys) {
+                                writeBulk(key);
+                            }
+                            out.flush();
+                        } catch (IOException ignored) {
+                            // 연결 종료
+                        }
+                    }
+                    return;
+                }
+                case "EVALSHA":
+                    writeRaw("-NOSCRIPT No matching script. Please use EVAL.\r\n");
+                    return;
+                case "EVAL": {
+                    BiFunction<List<String>, List<String>, Object> script = scripts.entrySet().stream()
+                            .filter(entry -> args.get(0).contains(entry.getKey()))
+                            .map(Map.Entry::getValue)
+                            .findFirst().orElse(null);
+                    if (script == null) {
+                        writeRaw("-ERR unknown script\r\n");
+                        return;
+                    }
+                    int numKeys = Integer.parseInt(args.get(1));
+                    Object result = script.apply(args.subList(2, 2 + numKeys), args.subList(2 + numKeys, args.size()));
+                    if (result instanceof Number) {
+                        writeInteger(((Number) result).longValue());
+                    } else {
+                        @SuppressWarnings("unchecked")
+                        List<String> values = (List<String>) result;
+                        write(values);
+                    }
+                    return;
+                }
+                case "SADD": {
+                    Set<String> set = set(args.get(0), true);
+                    writeInteger(args.subList(1, args.size()).stream().filter(set::add).count());
+                    return;
+                }
+                case "SREM": {
+                    Set<String> set = set(args.get(0), false);
+                    long removed = set == null ? 0 : args.subList(1, args.size()).stream().filter(set::remove).count();
+                    if (set != null && set.isEmpty()) remove(args.get(0));
+                    writeInteger(removed);
+                    return;
+                }
+                case "SMEMBERS": {
+                    Set<String> set = set(args.get(0), false);
+                    write(set == null ? new ArrayList<>() : new ArrayList<>(set));
+                    return;
+                }
+                case "SCARD": {
+                    Set<String> set = set(args.get(0), false);
+                    writeInteger(set == null ? 0 : set.size());
+                    return;
+                }
+                case "ZADD": {
+                    int i = 1;
+                    boolean nx = false;
+                    while (i < args.size() && args.get(i).equalsIgnoreCase("NX")) {
+                        nx = true;
+                        i++;
+                    }
+                    Map<String, Double> zset = zset(args.get(0), true);
+                    int added = 0;
+                    for (; i + 1 < args.size(); i += 2) {
+                        String member = args.get(i + 1);
+                        if (!zset.containsKey(member)) added++;
+                        else if (nx) continue;
+                        zset.put(member, Double.parseDouble(args.get(i)));
+                    }
+                    writeInteger(added);
+                    return;
+                }
+                case "ZINCRBY": {
+                    double value = zset(args.get(0), true).merge(args.get(2), Double.parseDouble(args.get(1)), Double::sum);
+                    writeBulkOrNull(score(value));
+                    return;
+                }
+                case "ZSCORE": {
+                    Map<String, Double> zset = zset(args.get(0), false);
+                    Double value = zset == null ? null : zset.get(args.get(1));
+                    writeBulkOrNull(value == null ? null : score(value));
+                    return;
+                }
+                case "ZCARD": {
+                    Map<String, Double> zset = zset(args.get(0), false);
+                    writeInteger(zset == null ? 0 : zset.size());
+                    return;
+                }
+                case "ZREM": {
+                    Map<String, Double> zset = zset(args.get(0), false);
+                    long removed = zset == null ? 0 : args.subList(1, args.size()).stream().filter(member -> zset.remove(member) != null).count();
+                    if (zset != null && zset.isEmpty()) remove(args.get(0));
+                    writeInteger(removed);
+                    return;
+                }
+                case "ZREMRANGEBYRANK": {
+                    Map<String, Double> zset = zset(args.get(0), false);
+                    if (zset == null) {
+                        writeInteger(0);
+                        return;
+                    }
+                    List<Map.Entry<String, Double>> entries = sorted(zset);
+                    int[] range = range(entries.size(), Long.parseLong(args.get(1)), Long.parseLong(args.get(2)));
+                    int removed = 0;
+                    for (int index = range[0]; index < range[1]; index++) {
+                        zset.remove(entries.get(index).getKey());
+                        removed++;
+                    }
+                    if (zset.isEmpty()) remove(args.get(0));
+                    writeInteger(removed);
+                    return;
+                }
+                case "ZRANGE":
+                case "ZREVRANGE": {
+                    Map<String, Double> zset = zset(args.get(0), false);
+                    List<Map.Entry<String, Double>> entries = zset == null ? new ArrayList<>() : sorted(zset);
+                    if (name.equals("ZREVRANGE")) {
+                        entries.sort(Map.Entry.<String, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey()).reversed());
+                    }
+                    int[] range = range(entries.size(), Long.parseLong(args.get(1)), Long.parseLong(args.get(2)));
+                    boolean withScores = args.size() > 3 && args.get(3).equalsIgnoreCase("WITHSCORES");
+                    List<String> reply = new ArrayList<>();
+                    for (int index = range[0]; index < range[1]; index++) {
+                        reply.add(entries.get(index).getKey());
+                        if (withScores) reply.add(score(entries.get(index).getValue()));
+                    }
+                    write(reply);
+                    return;
+                }
+                default:
+                    writeRaw("-ERR unknown command '" + name + "'\r\n");
+            }
+        }
+
+        private void awaitResume() {
+            try {
+                resumed.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void writeInteger(long value) {
+            writeRaw(":" + value + "\r\n");
+        }
+
+        private void writeBulkOrNull(String value) {
+            if (value == null) {
+                writeRaw("$-1\r\n");
+                return;
+            }
+            write(value);
+        }
+
+        private void write(String value) {
+            synchronized (out) {
+                try {
+                    writeBulk(value);
+                    out.flush();
+                } catch (IOException ignored) {
+                    // 연결 종료
+                }
+            }
+        }
+
+        private void writeSubscription(String kind, String channel) {
+            synchronized (out) {
+                try {
+                    writeBulkArrayHeader(3);
+                    writeBulk(kind);
+                    writeBulk(channel);
+                    out.write((":" + (channels.size() + patterns.size()) + "\r\n").getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                } catch (IOException ignored) {
+                    // 연결 종료
+                }
+            }
+        }
+
+        private void write(List<String> values) {
+            synchronized (out) {
+                try {
+                    writeBulkArrayHeader(values.size());
+                    for (String value : values) {
+                        writeBulk(value);
+                    }
+                    out.flush();
+                } catch (IOException ignored) {
+                    // 연결 종료
+                }
+            }
+        }
+
+        private void writeRaw(String reply) {
+            synchronized (out) {
+                try {
+                    out.write(reply.getBytes(StandardCharsets.UTF_8));
+                    out.flush();
+                } catch (IOException ignored) {
+                    // 연결 종료
+                }
+            }
+        }
+
+        private void writeBulkArrayHeader(int size) throws IOException {
+            out.write(("*" + size + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void writeBulk(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.write(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.write(bytes);
+            out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        // *<n>\r\n ($<len>\r\n<bytes>\r\n) * n
+        private List<String> readCommand() throws IOException {
+            String header = readLine();
+            if (header == null) {
+                return null;
+            }
+            if (header.charAt(0) != '*') {
+                // inline command
+                return List.of(header.trim().split("\\s+"));
+            }
+            int size = Integer.parseInt(header.substring(1));
+            List<String> command = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String bulkHeader = readLine();
+                if (bulkHeader == null) {
+                    return null;
+                }
+                byte[] bytes = in.readNBytes(Integer.parseInt(bulkHeader.substring(1)));
+                in.readNBytes(2);
+                command.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+            return command;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = in.read()) != -1) {
+                if (c == '\r') {
+                    in.read();
+                    return line.toString();
+                }
+                line.append((char) c);
+            }
+            return line.length() == 0 ? null : line.toString();
+        }
+    }
+}